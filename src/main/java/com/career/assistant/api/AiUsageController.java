@@ -0,0 +1,42 @@
+package com.career.assistant.api;
+
+import com.career.assistant.infrastructure.ai.AiModelStats;
+import com.career.assistant.infrastructure.ai.AiUsageRecorder;
+import com.career.assistant.infrastructure.ai.AiUsageSummary;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "AI Usage", description = "Claude 토큰 사용량/프롬프트 캐시 적중률 조회 API")
+@RestController
+@RequestMapping("/api/ai/usage")
+@RequiredArgsConstructor
+public class AiUsageController {
+
+    private final AiUsageRecorder usageRecorder;
+    private final AiModelStats modelStats;
+
+    @Operation(summary = "최근 실행별 토큰 사용량", description = "자소서 생성/개선/검토 실행 단위로 누적된 토큰과 캐시 적중률을 최신순으로 조회합니다")
+    @GetMapping("/runs")
+    public ResponseEntity<List<AiUsageSummary>> getRecentRuns() {
+        return ResponseEntity.ok(usageRecorder.recentRuns());
+    }
+
+    @Operation(summary = "누적 토큰 사용량", description = "기동 이후 모든 Claude 호출의 토큰과 캐시 적중률 합계를 조회합니다")
+    @GetMapping("/totals")
+    public ResponseEntity<AiUsageSummary> getTotals() {
+        return ResponseEntity.ok(usageRecorder.totals());
+    }
+
+    @Operation(summary = "모델별 지연/오류율", description = "라우팅 판단에 쓰이는 모델별 최근 p95 지연시간, 오류율, 저하 여부를 조회합니다")
+    @GetMapping("/models")
+    public ResponseEntity<List<AiModelStats.Snapshot>> getModelStats() {
+        return ResponseEntity.ok(modelStats.snapshots());
+    }
+}
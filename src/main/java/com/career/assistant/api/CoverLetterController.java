@@ -3,6 +3,7 @@ package com.career.assistant.api;
 import com.career.assistant.api.dto.CompanyCoverLetterSummary;
 import com.career.assistant.api.dto.CoverLetterAgentResponse;
 import com.career.assistant.api.dto.CoverLetterHistoryResponse;
+import com.career.assistant.api.dto.CoverLetterJobResponse;
 import com.career.assistant.api.dto.CoverLetterResponse;
 import com.career.assistant.api.dto.CrawlPreviewResponse;
 import com.career.assistant.api.dto.GenerateCoverLetterRequest;
@@ -12,6 +13,9 @@ import com.career.assistant.api.dto.ReviewResponse;
 import com.career.assistant.api.dto.ReviewTrendResponse;
 import com.career.assistant.application.CompanyAnalyzer;
 import com.career.assistant.application.CoverLetterFacade;
+import com.career.assistant.application.job.CoverLetterJob;
+import com.career.assistant.application.job.CoverLetterJobService;
+import com.career.assistant.application.job.CoverLetterProgressEvent;
 import com.career.assistant.application.review.ReviewGenerationException;
 import com.career.assistant.domain.coverletter.CoverLetter;
 import com.career.assistant.domain.coverletter.CoverLetterRepository;
@@ -22,7 +26,6 @@ import com.career.assistant.infrastructure.crawling.CrawlingException;
 import com.career.assistant.infrastructure.crawling.EssayQuestion;
 import com.career.assistant.infrastructure.crawling.JsoupCrawler;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,11 +33,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -45,6 +52,7 @@ import java.util.stream.Collectors;
 public class CoverLetterController {
 
     private final CoverLetterFacade coverLetterFacade;
+    private final CoverLetterJobService coverLetterJobService;
     private final CoverLetterRepository coverLetterRepository;
     private final JobPostingRepository jobPostingRepository;
     private final CompanyAnalyzer companyAnalyzer;
@@ -88,6 +96,55 @@ public class CoverLetterController {
         }
     }
 
+    @Operation(summary = "자소서 생성 작업 접수", description = "생성을 작업으로 접수하고 작업 ID를 즉시 반환합니다. 진행 상황은 /jobs/{jobId}/events(SSE), 결과는 /jobs/{jobId}로 조회합니다")
+    @PostMapping("/jobs")
+    public ResponseEntity<CoverLetterJobResponse> submitJob(@Valid @RequestBody GenerateCoverLetterRequest request) {
+        CoverLetterJob job = coverLetterJobService.submit(request.url(), request.employmentId());
+        return ResponseEntity.accepted().body(CoverLetterJobResponse.from(job, List.of()));
+    }
+
+    @Operation(summary = "자소서 생성 작업 조회", description = "작업 상태와 진행 이력, 완료 시 문항별 최종 자소서를 반환합니다")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<CoverLetterJobResponse> getJob(@PathVariable String jobId) {
+        Optional<CoverLetterJob> job = coverLetterJobService.find(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        List<CoverLetterResponse> coverLetters = coverLetterRepository.findAllById(job.get().getCoverLetterIds())
+            .stream()
+            .sorted(Comparator.comparing(CoverLetter::getQuestionIndex,
+                Comparator.nullsFirst(Comparator.naturalOrder())))
+            .map(CoverLetterResponse::from)
+            .toList();
+        return ResponseEntity.ok(CoverLetterJobResponse.from(job.get(), coverLetters));
+    }
+
+    @Operation(summary = "자소서 생성 진행 스트림", description = "크롤링, 분석, 문항별 검토 점수 등 진행 이벤트를 SSE로 전달합니다. 지난 이벤트부터 재생합니다")
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJob(@PathVariable String jobId) {
+        Optional<CoverLetterJob> found = coverLetterJobService.find(jobId);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        CoverLetterJob job = found.get();
+        SseEmitter emitter = new SseEmitter(coverLetterJobService.getSseTimeoutMillis());
+        Consumer<CoverLetterProgressEvent> listener = event -> {
+            try {
+                emitter.send(SseEmitter.event().name(event.stage().name()).data(event));
+                if (event.isTerminal()) {
+                    emitter.complete();
+                }
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+        };
+        emitter.onCompletion(() -> job.unsubscribe(listener));
+        emitter.onTimeout(() -> job.unsubscribe(listener));
+        emitter.onError(e -> job.unsubscribe(listener));
+        job.subscribe(listener);
+        return ResponseEntity.ok(emitter);
+    }
+
     @Operation(summary = "자소서 추가 개선", description = "기존 자소서의 최신 버전을 기반으로 리뷰+개선 루프를 다시 실행합니다")
     @PostMapping("/{jobPostingId}/improve")
     public ResponseEntity<?> improve(@PathVariable Long jobPostingId,
@@ -307,7 +364,7 @@ public class CoverLetterController {
                         v.getContent(),
                         v.getReviewScore(),
                         resolveGrade(v.getReviewScore()),
-                        extractOverallComment(v.getFeedback()),
+                        v.getReviewScores() != null ? v.getReviewScores().getOverallComment() : null,
                         v.getCreatedAt()
                     ))
                     .toList();
@@ -328,45 +385,14 @@ public class CoverLetterController {
             .map(cl -> {
                 Long jpId = cl.getJobPosting().getId();
 
-                List<CoverLetter> allVersions = coverLetterRepository
-                    .findByJobPostingIdAndQuestionIndexOrderByVersionAsc(jpId, cl.getQuestionIndex());
-
-                List<ReviewTrendResponse.ScoreChange> trend = allVersions.stream()
-                    .filter(v -> v.getFeedback() != null && !v.getFeedback().isBlank())
-                    .map(v -> {
-                        Map<String, Integer> dimScores = new LinkedHashMap<>();
-                        List<String> improvements = List.of();
-                        int totalScore = v.getReviewScore() != null ? v.getReviewScore() : 0;
-
-                        try {
-                            JsonNode root = objectMapper.readTree(v.getFeedback());
-                            JsonNode scores = root.get("scores");
-                            if (scores != null) {
-                                dimScores.put("answerRelevance", scores.path("answerRelevance").asInt());
-                                dimScores.put("jobFit", scores.path("jobFit").asInt());
-                                dimScores.put("orgFit", scores.path("orgFit").asInt());
-                                dimScores.put("specificity", scores.path("specificity").asInt());
-                                dimScores.put("authenticity", scores.path("authenticity").asInt());
-                                dimScores.put("aiDetectionRisk", scores.path("aiDetectionRisk").asInt());
-                                dimScores.put("logicalStructure", scores.path("logicalStructure").asInt());
-                                dimScores.put("keywordUsage", scores.path("keywordUsage").asInt());
-                            }
-                            JsonNode impNode = root.get("improvements");
-                            if (impNode != null && impNode.isArray()) {
-                                List<String> imp = new ArrayList<>();
-                                for (JsonNode item : impNode) {
-                                    imp.add(item.asText());
-                                }
-                                improvements = imp;
-                            }
-                        } catch (Exception e) {
-                            log.warn("피드백 JSON 파싱 실패 (coverletter id={}): {}", v.getId(), e.getMessage());
-                        }
-
-                        return new ReviewTrendResponse.ScoreChange(
-                            v.getVersion(), totalScore, dimScores, improvements
-                        );
-                    })
+                List<ReviewTrendResponse.ScoreChange> trend = coverLetterRepository
+                    .findReviewTrend(jpId, cl.getQuestionIndex()).stream()
+                    .map(v -> new ReviewTrendResponse.ScoreChange(
+                        v.version(),
+                        v.totalScore(),
+                        v.scores() != null ? v.scores().dimensions() : Map.of(),
+                        v.scores() != null ? v.scores().improvementList() : List.of()
+                    ))
                     .toList();
 
                 return ResponseEntity.ok(new ReviewTrendResponse(
@@ -388,15 +414,4 @@ public class CoverLetterController {
         if (score >= 60) return "C";
         return "D";
     }
-
-    private String extractOverallComment(String feedbackJson) {
-        if (feedbackJson == null || feedbackJson.isBlank()) return null;
-        try {
-            JsonNode root = objectMapper.readTree(feedbackJson);
-            JsonNode comment = root.get("overallComment");
-            return comment != null ? comment.asText() : null;
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
@@ -2,9 +2,11 @@ package com.career.assistant.api;
 
 import com.career.assistant.api.dto.JobPostingResponse;
 import com.career.assistant.api.dto.JobPostingSearchResponse;
+import com.career.assistant.api.dto.PipelineLogResponse;
 import com.career.assistant.application.CompanyAnalyzer;
 import com.career.assistant.domain.jobposting.JobPosting;
 import com.career.assistant.domain.jobposting.JobPostingRepository;
+import com.career.assistant.domain.pipeline.PipelineLogRepository;
 import com.career.assistant.infrastructure.crawling.EssayQuestion;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -29,6 +31,7 @@ public class JobPostingController {
 
     private final JobPostingRepository jobPostingRepository;
     private final CompanyAnalyzer companyAnalyzer;
+    private final PipelineLogRepository pipelineLogRepository;
     private final ObjectMapper objectMapper;
 
     @Operation(summary = "회사명으로 회사 분석 (채용공고 없이 회사명만으로 분석)")
@@ -92,6 +95,18 @@ public class JobPostingController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "채용공고 파이프라인 단계 기록 조회 (단계별 소요 시간, 실패 사유)")
+    @GetMapping("/{id}/pipeline")
+    public ResponseEntity<List<PipelineLogResponse>> getPipelineLog(@PathVariable Long id) {
+        if (!jobPostingRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        var logs = pipelineLogRepository.findByJobIdOrderByIdAsc(id).stream()
+            .map(PipelineLogResponse::from)
+            .toList();
+        return ResponseEntity.ok(logs);
+    }
+
     @Operation(summary = "채용공고 삭제")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -0,0 +1,31 @@
+package com.career.assistant.api.dto;
+
+import com.career.assistant.application.job.CoverLetterJob;
+import com.career.assistant.application.job.CoverLetterProgressEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CoverLetterJobResponse(
+    String jobId,
+    String url,
+    String status,
+    LocalDateTime createdAt,
+    LocalDateTime finishedAt,
+    String error,
+    List<CoverLetterProgressEvent> events,
+    List<CoverLetterResponse> coverLetters
+) {
+    public static CoverLetterJobResponse from(CoverLetterJob job, List<CoverLetterResponse> coverLetters) {
+        return new CoverLetterJobResponse(
+            job.getId(),
+            job.getUrl(),
+            job.getStatus().name(),
+            job.getCreatedAt(),
+            job.getFinishedAt(),
+            job.getError(),
+            job.getEvents(),
+            coverLetters
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.career.assistant.api.dto;
+
+import com.career.assistant.domain.pipeline.PipelineLog;
+import com.career.assistant.domain.pipeline.PipelineLogStatus;
+import com.career.assistant.domain.pipeline.PipelineStage;
+
+import java.time.LocalDateTime;
+
+public record PipelineLogResponse(
+    PipelineStage stage,
+    Integer questionIndex,
+    PipelineLogStatus status,
+    Long durationMs,
+    String errorMsg,
+    LocalDateTime createdAt
+) {
+    public static PipelineLogResponse from(PipelineLog log) {
+        return new PipelineLogResponse(
+            log.getStage(),
+            log.getQuestionIndex(),
+            log.getStatus(),
+            log.getDurationMs(),
+            log.getErrorMsg(),
+            log.getCreatedAt()
+        );
+    }
+}
@@ -1,18 +1,19 @@
 package com.career.assistant.application;
 
 import com.career.assistant.domain.jobposting.JobPosting;
-import com.career.assistant.infrastructure.ai.AiPort;
+import com.career.assistant.infrastructure.ai.AiBatchRequest;
+import com.career.assistant.infrastructure.ai.AiBatchResult;
+import com.career.assistant.infrastructure.ai.AiOutputSchema;
+import com.career.assistant.infrastructure.ai.AiRouter;
+import com.career.assistant.infrastructure.ai.AiTask;
 import com.career.assistant.infrastructure.crawling.EssayQuestion;
 import com.career.assistant.infrastructure.dart.DartClient;
 import com.career.assistant.infrastructure.dart.DartCompanyData;
 import com.career.assistant.infrastructure.dart.DartCompanyInfo;
 import com.career.assistant.infrastructure.dart.DartCorpCodeCache;
 import com.career.assistant.infrastructure.dart.DartBusinessReport;
-import com.fasterxml.jackson.core.json.JsonReadFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -34,22 +35,73 @@ public class CompanyAnalyzer {
         - "금융 IT 서비스", "솔루션 기업" 같은 포괄적 표현 금지. "exture+(초저지연 주문 처리 시스템)" 수준의 구체성 필요.
         - 각 필드를 충분히 상세하게 작성하세요. 피상적 분석은 가치가 없습니다.""";
 
-    private final AiPort claudeHaiku;
+    /** 회사명 단독 분석과 공고 분석이 함께 쓰는 스키마 — 공고 전용 필드(hiringReason, questionGuides 등)는 선택 */
+    private static final AiOutputSchema ANALYSIS_SCHEMA = AiOutputSchema.of(
+        "submit_company_analysis",
+        "회사 심층 분석 결과를 제출한다. 모든 값은 한국어로, 구체적 고유명사를 포함한다.",
+        """
+        {
+          "type": "object",
+          "properties": {
+            "companyOverview": {"type": "string"},
+            "coreProducts": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {"name": {"type": "string"}, "description": {"type": "string"}},
+                "required": ["name", "description"]
+              }
+            },
+            "competitiveAdvantage": {"type": "string"},
+            "competitors": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {"name": {"type": "string"}, "differentiation": {"type": "string"}},
+                "required": ["name", "differentiation"]
+              }
+            },
+            "hiringReason": {"type": "string"},
+            "idealCandidate": {"type": "string"},
+            "companyValues": {"type": "string"},
+            "techDirection": {"type": "string"},
+            "painPoints": {"type": "string"},
+            "hiddenRequirements": {"type": "string"},
+            "idealCandidateProfile": {"type": "string"},
+            "insiderLanguage": {"type": "string"},
+            "recentNews": {"type": "string"},
+            "recentTrends": {"type": "string"},
+            "questionGuides": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {
+                  "questionIndex": {"type": "integer"},
+                  "questionText": {"type": "string"},
+                  "questionType": {"type": "string"},
+                  "writingStrategy": {"type": "string"},
+                  "mustInclude": {"type": "array", "items": {"type": "string"}},
+                  "avoid": {"type": "array", "items": {"type": "string"}},
+                  "exampleOpening": {"type": "string"}
+                },
+                "required": ["questionIndex", "questionText", "questionType", "writingStrategy"]
+              }
+            }
+          },
+          "required": ["companyOverview", "coreProducts", "competitiveAdvantage", "competitors",
+                       "companyValues", "techDirection", "painPoints", "hiddenRequirements",
+                       "idealCandidateProfile", "insiderLanguage", "recentNews", "recentTrends"]
+        }
+        """);
+
+    private final AiRouter aiRouter;
     private final DartClient dartClient;
     private final DartCorpCodeCache dartCorpCodeCache;
 
-    private static final ObjectMapper LENIENT_MAPPER = JsonMapper.builder()
-        .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
-        .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
-        .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
-        .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
-        .enable(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS)
-        .build();
-
-    public CompanyAnalyzer(@Qualifier("claudeHaiku") AiPort claudeHaiku,
+    public CompanyAnalyzer(AiRouter aiRouter,
                            DartClient dartClient,
                            DartCorpCodeCache dartCorpCodeCache) {
-        this.claudeHaiku = claudeHaiku;
+        this.aiRouter = aiRouter;
         this.dartClient = dartClient;
         this.dartCorpCodeCache = dartCorpCodeCache;
     }
@@ -99,49 +151,40 @@ public class CompanyAnalyzer {
         }
     }
 
+    /** 야간 배치용 — analyze와 같은 프롬프트/스키마로 요청만 만든다 */
+    public AiBatchRequest batchRequest(String customId, JobPosting jobPosting, List<EssayQuestion> questions) {
+        DartCompanyData dartData = fetchDartData(jobPosting.getCompanyName());
+        return AiBatchRequest.structured(customId, aiRouter.route(AiTask.ANALYSIS).getModelName(),
+            SYSTEM_PROMPT, null, buildAnalysisPrompt(jobPosting, questions, dartData), ANALYSIS_SCHEMA);
+    }
+
+    /** 배치 결과를 analyze와 같은 정규화 JSON 문자열로 변환 (실패/빈 결과는 null) */
+    public String readBatchResult(AiBatchResult result) {
+        if (result == null || !result.isSucceeded()) return null;
+        try {
+            JsonNode analysis = result.structured(ANALYSIS_SCHEMA);
+            return analysis != null && analysis.isObject() && !analysis.isEmpty() ? analysis.toString() : null;
+        } catch (Exception e) {
+            log.warn("[분석] 배치 결과 파싱 실패 ({}): {}", result.customId(), e.getMessage());
+            return null;
+        }
+    }
+
     private String callAiAndParse(String userPrompt, String companyName, boolean hasDart) {
         log.info("[분석] AI 분석 요청 - {} (프롬프트 {}자, DART: {})",
             companyName, userPrompt.length(), hasDart ? "활용" : "없음");
 
-        String response = claudeHaiku.generate(SYSTEM_PROMPT, userPrompt);
-        if (response == null || response.isBlank()) {
+        JsonNode analysis = aiRouter.route(AiTask.ANALYSIS)
+            .generateStructured(SYSTEM_PROMPT, null, userPrompt, ANALYSIS_SCHEMA);
+        if (analysis == null || !analysis.isObject() || analysis.isEmpty()) {
             log.error("[분석] AI 응답이 비어있습니다.");
             return null;
         }
 
-        // { ... } 추출
-        String rawJson = extractJson(response);
-        if (rawJson == null) {
-            log.error("[분석] AI 응답에서 {{...}} 구조를 찾을 수 없습니다. 응답 앞 500자: {}",
-                response.substring(0, Math.min(500, response.length())));
-            return null;
-        }
-
-        // 1차: 관용 파서로 파싱 → 표준 JSON 재직렬화
-        try {
-            var tree = LENIENT_MAPPER.readTree(rawJson);
-            String normalized = LENIENT_MAPPER.writeValueAsString(tree);
-            log.info("[분석] 회사 분석 완료 - {} ({}자, DART: {})",
-                companyName, normalized.length(), hasDart ? "활용" : "없음");
-            return normalized;
-        } catch (Exception e) {
-            log.warn("[분석] 1차 JSON 파싱 실패: {}", e.getMessage());
-        }
-
-        // 2차: 문자열 내부 제어문자 이스케이프 후 재시도
-        try {
-            String cleaned = escapeControlCharsInStrings(rawJson);
-            var tree = LENIENT_MAPPER.readTree(cleaned);
-            String normalized = LENIENT_MAPPER.writeValueAsString(tree);
-            log.info("[분석] 회사 분석 완료 (정리 후) - {} ({}자)", companyName, normalized.length());
-            return normalized;
-        } catch (Exception e) {
-            log.warn("[분석] 2차 JSON 파싱 실패: {}", e.getMessage());
-        }
-
-        // 3차: 파싱 불가해도 원본 반환 — null보다 낫다
-        log.warn("[분석] JSON 파싱 실패했지만 원본 반환 ({}자). 다운스트림에서 fallback 처리됨.", rawJson.length());
-        return rawJson;
+        String normalized = analysis.toString();
+        log.info("[분석] 회사 분석 완료 - {} ({}자, DART: {})",
+            companyName, normalized.length(), hasDart ? "활용" : "없음");
+        return normalized;
     }
 
     private DartCompanyData fetchDartData(String companyName) {
@@ -173,75 +216,6 @@ public class CompanyAnalyzer {
         }
     }
 
-    private String extractJson(String response) {
-        if (response == null || response.isBlank()) return null;
-
-        String trimmed = response.strip();
-
-        if (trimmed.startsWith("```")) {
-            int endIdx = trimmed.lastIndexOf("```");
-            if (endIdx > 3) {
-                trimmed = trimmed.substring(trimmed.indexOf('\n') + 1, endIdx).strip();
-            }
-        }
-
-        int firstBrace = trimmed.indexOf('{');
-        int lastBrace = trimmed.lastIndexOf('}');
-        if (firstBrace >= 0 && lastBrace > firstBrace) {
-            return trimmed.substring(firstBrace, lastBrace + 1);
-        }
-
-        return null;
-    }
-
-    /**
-     * JSON 문자열 값 내부의 제어문자(줄바꿈, 탭 등)를 이스케이프.
-     * trailing comma도 제거.
-     */
-    private String escapeControlCharsInStrings(String json) {
-        StringBuilder sb = new StringBuilder(json.length());
-        boolean inString = false;
-        boolean escaped = false;
-
-        for (int i = 0; i < json.length(); i++) {
-            char c = json.charAt(i);
-
-            if (escaped) {
-                sb.append(c);
-                escaped = false;
-                continue;
-            }
-
-            if (c == '\\' && inString) {
-                sb.append(c);
-                escaped = true;
-                continue;
-            }
-
-            if (c == '"') {
-                inString = !inString;
-                sb.append(c);
-                continue;
-            }
-
-            if (inString) {
-                switch (c) {
-                    case '\n' -> sb.append("\\n");
-                    case '\r' -> sb.append("\\r");
-                    case '\t' -> sb.append("\\t");
-                    default -> { if (c >= 0x20) sb.append(c); }
-                }
-            } else {
-                sb.append(c);
-            }
-        }
-
-        String result = sb.toString();
-        result = result.replaceAll(",\\s*}", "}");
-        result = result.replaceAll(",\\s*]", "]");
-        return result;
-    }
-
     private String buildCompanyOnlyPrompt(String companyName, DartCompanyData dartData) {
         String dartSection = "";
         if (dartData != null && dartData.hasData()) {
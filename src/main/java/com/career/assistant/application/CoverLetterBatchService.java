@@ -0,0 +1,212 @@
+package com.career.assistant.application;
+
+import com.career.assistant.domain.experience.UserExperience;
+import com.career.assistant.domain.experience.UserExperienceRepository;
+import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.domain.jobposting.JobPostingRepository;
+import com.career.assistant.domain.jobposting.PipelineStatus;
+import com.career.assistant.infrastructure.ai.AiBatchPort;
+import com.career.assistant.infrastructure.ai.AiBatchProperties;
+import com.career.assistant.infrastructure.ai.AiBatchRequest;
+import com.career.assistant.infrastructure.ai.AiBatchResult;
+import com.career.assistant.infrastructure.ai.AiUsageRecorder;
+import com.career.assistant.infrastructure.crawling.EssayQuestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 수집만 된(FETCHED) 공고와 낮 동안 선분석을 마친(ANALYZED) 공고를 야간에 Message Batches로 선생성한다.
+ * 분석 → 전략 → 첫 초안은 서로 의존하므로 단계마다 여러 공고의 요청을 한 배치로 묶어 제출하고 끝날 때까지 폴링한다.
+ * 선분석된 공고는 저장된 문항과 분석을 그대로 써서 크롤링과 분석 단계를 건너뛴다.
+ * 초안은 일반 버전 저장 경로로 기록하고 공고를 DRAFTED로 전환 — 사용자가 공고를 요청하면 검토/개선 루프만 이어서 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CoverLetterBatchService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final JobPostingRepository jobPostingRepository;
+    private final UserExperienceRepository userExperienceRepository;
+    private final CoverLetterFacade coverLetterFacade;
+    private final CompanyAnalyzer companyAnalyzer;
+    private final CoverLetterStrategyPlanner strategyPlanner;
+    private final AiBatchPort aiBatchPort;
+    private final AiBatchProperties properties;
+    private final AiUsageRecorder usageRecorder;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public record Summary(int candidates, int crawled, int analyzed, int drafted, int failed) {}
+
+    public Summary runOvernight() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[배치] 이전 선생성이 아직 진행 중 — 이번 실행 생략");
+            return new Summary(0, 0, 0, 0, 0);
+        }
+        try (AiUsageRecorder.Run ignored = usageRecorder.startRun("야간 배치 선생성")) {
+            return run();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Summary run() {
+        List<JobPosting> candidates = selectCandidates();
+        if (candidates.isEmpty()) {
+            log.info("[배치] 선생성 대상 공고 없음");
+            return new Summary(0, 0, 0, 0, 0);
+        }
+        log.info("[배치] 선생성 시작 — 대상 {}건", candidates.size());
+
+        // 1~2단계: 크롤링/분류 (AI 호출 없음)
+        List<Candidate> crawled = new ArrayList<>();
+        List<Candidate> analyzedCandidates = new ArrayList<>();
+        int failed = 0;
+        for (JobPosting posting : candidates) {
+            if (posting.getStatus() == PipelineStatus.ANALYZED) {
+                analyzedCandidates.add(new Candidate(posting, coverLetterFacade.storedQuestions(posting)));
+                continue;
+            }
+            try {
+                List<EssayQuestion> questions = coverLetterFacade.crawlAndClassify(posting, null);
+                crawled.add(new Candidate(jobPostingRepository.save(posting), questions));
+            } catch (Exception e) {
+                // FETCHED로 남겨 두면 사용자가 요청할 때 동기 경로에서 다시 크롤링한다
+                log.warn("[배치] 크롤링 실패 — 건너뜀: {} ({})", posting.getUrl(), e.getMessage());
+                failed++;
+            }
+        }
+
+        // 3단계: 회사 분석 — 결과가 없는 공고는 이후 단계에서 빼고, 사용자가 요청할 때 동기 경로가 분석부터 다시 한다
+        Map<String, AiBatchResult> analyses = submitAndAwait("분석",
+            crawled.stream()
+                .map(c -> companyAnalyzer.batchRequest(customId("analysis", c.posting), c.posting, c.questions))
+                .toList());
+        for (Candidate candidate : crawled) {
+            String analysisJson = companyAnalyzer.readBatchResult(analyses.get(customId("analysis", candidate.posting)));
+            if (analysisJson != null) {
+                candidate.posting.updateCompanyAnalysis(analysisJson);
+                candidate.posting = jobPostingRepository.save(candidate.posting);
+                analyzedCandidates.add(candidate);
+            } else {
+                log.warn("[배치] 회사 분석 결과 없음 — 이후 단계 건너뜀: {}", candidate.posting.getCompanyName());
+            }
+        }
+
+        // 전략 수립 (문항 2개 이상)
+        List<UserExperience> allExperiences = userExperienceRepository.findAll();
+        Map<String, AiBatchRequest> strategyRequests = new HashMap<>();
+        for (Candidate candidate : analyzedCandidates) {
+            AiBatchRequest request = strategyPlanner.batchRequest(
+                customId("strategy", candidate.posting), candidate.posting, candidate.questions, allExperiences);
+            if (request != null) {
+                strategyRequests.put(request.customId(), request);
+            }
+        }
+        Map<String, AiBatchResult> strategies = submitAndAwait("전략", List.copyOf(strategyRequests.values()));
+
+        // 4단계: 첫 초안 — 전략을 요청했는데 결과가 없는 공고는 전략 없이 쓰지 않고 동기 경로에 맡긴다
+        List<Candidate> planned = new ArrayList<>();
+        List<AiBatchRequest> draftRequests = new ArrayList<>();
+        for (Candidate candidate : analyzedCandidates) {
+            String strategyId = customId("strategy", candidate.posting);
+            String masterPlan = strategyPlanner.readBatchResult(strategies.get(strategyId));
+            if (masterPlan == null && strategyRequests.containsKey(strategyId)) {
+                log.warn("[배치] 작성 전략 결과 없음 — 초안 단계 건너뜀: {}", candidate.posting.getCompanyName());
+                continue;
+            }
+            planned.add(candidate);
+            draftRequests.addAll(coverLetterFacade.draftBatchRequests(candidate.posting, candidate.questions, masterPlan));
+        }
+        Map<String, AiBatchResult> drafts = submitAndAwait("초안", draftRequests);
+
+        int drafted = 0;
+        for (Candidate candidate : planned) {
+            if (!coverLetterFacade.saveBatchDrafts(candidate.posting, candidate.questions, drafts).isEmpty()) {
+                jobPostingRepository.save(candidate.posting);
+                drafted++;
+            }
+        }
+
+        Summary summary = new Summary(candidates.size(), crawled.size(), analyzedCandidates.size(), drafted, failed);
+        log.info("[배치] 선생성 완료 — {}", summary);
+        return summary;
+    }
+
+    /** 마감이 지나지 않은 FETCHED/ANALYZED 공고를 마감 임박 순으로 (마감일 없는 공고는 뒤로) */
+    private List<JobPosting> selectCandidates() {
+        LocalDate today = LocalDate.now(KST);
+        return Stream.of(PipelineStatus.FETCHED, PipelineStatus.ANALYZED)
+            .flatMap(status -> jobPostingRepository.findByStatus(status).stream())
+            .filter(p -> p.getDeadline() == null || !p.getDeadline().isBefore(today))
+            .sorted(Comparator.comparing(JobPosting::getDeadline, Comparator.nullsLast(Comparator.naturalOrder())))
+            .limit(properties.getMaxPostings())
+            .toList();
+    }
+
+    /** 제출 후 끝날 때까지 폴링 — maxWait를 넘기면 배치를 취소하고 이 단계 결과 없이 진행한다 */
+    private Map<String, AiBatchResult> submitAndAwait(String stage, List<AiBatchRequest> requests) {
+        if (requests.isEmpty()) return Map.of();
+
+        String batchId = aiBatchPort.submit(requests);
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        while (!aiBatchPort.isEnded(batchId)) {
+            if (System.nanoTime() > deadline) {
+                log.warn("[배치] {} 단계 대기 시간 초과 ({}) — 취소 후 결과 없이 진행: {}", stage, properties.getMaxWait(), batchId);
+                cancelQuietly(batchId);
+                return Map.of();
+            }
+            try {
+                Thread.sleep(properties.getPollInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelQuietly(batchId);
+                return Map.of();
+            }
+        }
+
+        Map<String, AiBatchResult> results = aiBatchPort.results(batchId).stream()
+            .collect(Collectors.toMap(AiBatchResult::customId, Function.identity(), (a, b) -> a, HashMap::new));
+        log.info("[배치] {} 단계 완료 — 요청 {}건, 결과 {}건", stage, requests.size(), results.size());
+        return results;
+    }
+
+    /** 버려진 배치가 계속 처리되며 과금되지 않게 취소를 요청한다 — 실패해도 결과는 쓰지 않으므로 로그만 남긴다 */
+    private void cancelQuietly(String batchId) {
+        try {
+            aiBatchPort.cancel(batchId);
+        } catch (Exception e) {
+            log.warn("[배치] 배치 취소 실패: {} ({})", batchId, e.getMessage());
+        }
+    }
+
+    /** 단계마다 저장 후 반환된 공고(@Version 갱신본)로 바꿔 끼운다 */
+    private static final class Candidate {
+        private JobPosting posting;
+        private final List<EssayQuestion> questions;
+
+        private Candidate(JobPosting posting, List<EssayQuestion> questions) {
+            this.posting = posting;
+            this.questions = questions;
+        }
+    }
+
+    private String customId(String stage, JobPosting posting) {
+        return stage + "-" + posting.getId();
+    }
+}
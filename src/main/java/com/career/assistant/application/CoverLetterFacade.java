@@ -1,37 +1,70 @@
 package com.career.assistant.application;
 
 import com.career.assistant.api.dto.ReviewResponse;
+import com.career.assistant.application.job.CoverLetterProgress;
+import com.career.assistant.application.job.CoverLetterProgressEvent;
+import com.career.assistant.application.job.CoverLetterProgressEvent.Stage;
+import com.career.assistant.application.review.DraftLintResult;
+import com.career.assistant.application.review.DraftLinter;
 import com.career.assistant.application.review.ReviewAgent;
 import com.career.assistant.application.review.ReviewResult;
 import com.career.assistant.domain.coverletter.CoverLetter;
 import com.career.assistant.domain.coverletter.CoverLetterRepository;
 import com.career.assistant.domain.experience.UserExperience;
 import com.career.assistant.domain.experience.UserExperienceRepository;
+import com.career.assistant.domain.jobposting.CompanyType;
 import com.career.assistant.domain.jobposting.JobPosting;
 import com.career.assistant.domain.jobposting.JobPostingRepository;
+import com.career.assistant.domain.jobposting.PipelineStatus;
+import com.career.assistant.domain.pipeline.PipelineStage;
+import com.career.assistant.infrastructure.ai.AiBatchRequest;
+import com.career.assistant.infrastructure.ai.AiBatchResult;
+import com.career.assistant.infrastructure.ai.AiConversation;
 import com.career.assistant.infrastructure.ai.AiPort;
 import com.career.assistant.infrastructure.ai.AiRouter;
+import com.career.assistant.infrastructure.ai.AiTask;
+import com.career.assistant.infrastructure.ai.AiUsageRecorder;
 import com.career.assistant.infrastructure.crawling.CrawledJobInfo;
 import com.career.assistant.infrastructure.crawling.EssayQuestion;
 import com.career.assistant.infrastructure.crawling.JsoupCrawler;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.career.assistant.infrastructure.crawling.EmploymentOption;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * 자소서 생성/개선 파이프라인.
+ * 한 번의 실행에 수 분짜리 AI 호출이 여러 번 들어가므로 전체를 트랜잭션으로 묶지 않는다 —
+ * 조회, 버전 저장, 상태 변경은 각각 리포지토리의 짧은 트랜잭션으로 처리하고 AI 호출은 트랜잭션 밖에서 수행한다.
+ * 공고 상태는 {@link JobPosting}의 @Version으로 보호되며, 저장 후에는 반환된 인스턴스를 이어서 사용한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -41,6 +74,14 @@ public class CoverLetterFacade {
     private static final int MIN_ITERATIONS = 1;
     private static final String QUALITY_GRADE = "A";
 
+    /** 초안 후보별 전개 방식 — 같은 프롬프트는 단일 비행으로 합쳐지므로 후보마다 지시를 달리한다 */
+    private static final List<String> DRAFT_VARIANTS = List.of(
+        "",
+        "\n\n[작성 방향] 결과와 수치를 첫 문장에 두는 두괄식으로, 성과 → 과정 → 배운 점 순서로 전개하세요.",
+        "\n\n[작성 방향] 당시의 구체적인 장면과 문제 상황으로 시작해 문제 인식 → 행동 → 결과 순서로 서술하세요.",
+        "\n\n[작성 방향] 지원 회사의 사업/직무 과제를 먼저 짚고, 그 과제에 기여할 근거로 경험을 제시하세요."
+    );
+
     private final JobPostingRepository jobPostingRepository;
     private final CoverLetterRepository coverLetterRepository;
     private final UserExperienceRepository userExperienceRepository;
@@ -53,6 +94,34 @@ public class CoverLetterFacade {
     private final AiRouter aiRouter;
     private final ObjectMapper objectMapper;
     private final ReviewAgent reviewAgent;
+    private final AiUsageRecorder usageRecorder;
+    private final CoverLetterProgress progress;
+    private final ReviewPipelineGate pipelineGate;
+    private final DraftLinter draftLinter;
+    private final PipelineCheckpoints checkpoints;
+
+    /** 문항별 작성→검토→개선을 하나의 대화로 이어 보내 이전 턴을 프롬프트 캐시로 재사용 */
+    @Value("${ai.review-loop.conversation-mode:true}")
+    private boolean conversationMode;
+
+    /** 문항별 생성→검토→개선 체인을 동시에 돌릴 최대 문항 수 (1이면 순차 실행) — 단계별 상한은 {@link ReviewPipelineGate} */
+    @Value("${ai.review-loop.question-parallelism:4}")
+    private int questionParallelism;
+
+    /**
+     * 첫 초안 후보 수 — 2 이상이면 후보를 동시에 작성/채점해 최고점 후보에서만 개선 루프를 잇는다.
+     * 전개 방식(DRAFT_VARIANTS) 수를 넘는 후보는 같은 요청이 되어 단일 비행으로 합쳐지므로 그 수로 제한한다.
+     */
+    @Value("${ai.review-loop.best-of-n:1}")
+    private int bestOfN;
+
+    @PostConstruct
+    void validateBestOfN() {
+        if (bestOfN > DRAFT_VARIANTS.size()) {
+            log.warn("[설정] best-of-n {}은 전개 방식 수({})를 넘어 {}로 제한합니다",
+                bestOfN, DRAFT_VARIANTS.size(), DRAFT_VARIANTS.size());
+        }
+    }
 
     public static Map<Integer, CoverLetter> extractLatestByQuestion(List<CoverLetter> letters) {
         Map<Integer, CoverLetter> latest = new LinkedHashMap<>();
@@ -66,33 +135,32 @@ public class CoverLetterFacade {
         return latest;
     }
 
-    @Transactional
     public ReviewResponse reviewUserDraft(Long jobPostingId, String content, Integer questionIndex) {
+        try (AiUsageRecorder.Run ignored = usageRecorder.startRun("사용자 수정본 검토: " + jobPostingId)) {
+            return doReviewUserDraft(jobPostingId, content, questionIndex);
+        }
+    }
+
+    private ReviewResponse doReviewUserDraft(Long jobPostingId, String content, Integer questionIndex) {
         JobPosting jp = jobPostingRepository.findById(jobPostingId)
             .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다: " + jobPostingId));
 
         int qIdx = questionIndex != null ? questionIndex : 0;
 
-        // 기존 최신 버전 조회 → 새 버전 번호 계산
-        int nextVersion = coverLetterRepository
-            .findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(jobPostingId, qIdx)
-            .map(cl -> cl.getVersion() + 1)
-            .orElse(1);
-
-        // 문항 텍스트 가져오기
-        String questionText = coverLetterRepository
-            .findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(jobPostingId, qIdx)
-            .map(CoverLetter::getQuestionText)
-            .orElse(null);
+        // 기존 최신 버전 조회 → 새 버전 번호/문항 텍스트
+        Optional<CoverLetter> previous = coverLetterRepository
+            .findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(jobPostingId, qIdx);
+        int nextVersion = previous.map(cl -> cl.getVersion() + 1).orElse(1);
+        String questionText = previous.map(CoverLetter::getQuestionText).orElse(null);
 
         // charLimit 계산
         Map<Integer, Integer> charLimitByQuestion = deserializeCharLimits(jp);
         int charLimit = charLimitByQuestion.getOrDefault(qIdx, 1000);
 
-        // 사용자 수정본으로 새 버전 저장
-        CoverLetter newVersion = CoverLetter.ofVersion(
-            jp, "user-edit", content, nextVersion, qIdx, questionText
-        );
+        // 사용자 수정본으로 새 버전 저장 (이전 버전이 있으면 차분 저장)
+        CoverLetter newVersion = previous
+            .map(prev -> CoverLetter.nextVersionOf(prev, "user-edit", content, nextVersion))
+            .orElseGet(() -> CoverLetter.ofVersion(jp, "user-edit", content, nextVersion, qIdx, questionText));
         coverLetterRepository.save(newVersion);
 
         // 리뷰 실행
@@ -100,7 +168,7 @@ public class CoverLetterFacade {
         ReviewResult review = reviewAgent.review(content, jp, questionText, 1, experiences, charLimit);
 
         // 리뷰 결과 저장
-        newVersion.addReview(review.rawJson(), review.totalScore());
+        newVersion.addReview(review.rawJson(), review.totalScore(), review.toReviewScores());
         coverLetterRepository.save(newVersion);
 
         log.info("[검토] 사용자 수정본 검토 완료 - 회사: {}, 문항: {}, v{}, 점수: {}",
@@ -125,13 +193,17 @@ public class CoverLetterFacade {
         );
     }
 
-    @Transactional
     public List<CoverLetter> improveExisting(Long jobPostingId) {
         return improveExisting(jobPostingId, null);
     }
 
-    @Transactional
     public List<CoverLetter> improveExisting(Long jobPostingId, String userMessage) {
+        try (AiUsageRecorder.Run ignored = usageRecorder.startRun("자소서 추가 개선: " + jobPostingId)) {
+            return doImproveExisting(jobPostingId, userMessage);
+        }
+    }
+
+    private List<CoverLetter> doImproveExisting(Long jobPostingId, String userMessage) {
         JobPosting jp = jobPostingRepository.findById(jobPostingId)
             .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다: " + jobPostingId));
         List<CoverLetter> allLetters = coverLetterRepository.findByJobPostingId(jobPostingId);
@@ -140,52 +212,49 @@ public class CoverLetterFacade {
         }
 
         Map<Integer, CoverLetter> latestByQuestion = extractLatestByQuestion(allLetters);
-        AiPort ai = aiRouter.route(jp.getCompanyType());
         String jobContext = promptBuilder.buildJobContext(jp);
-        List<CoverLetter> results = new ArrayList<>();
 
         // essayQuestionsJson에서 문항별 charLimit 매핑
         Map<Integer, Integer> charLimitByQuestion = deserializeCharLimits(jp);
 
         log.info("[개선] 기존 자소서 추가 개선 시작 - 회사: {}, 문항 {}개", jp.getCompanyName(), latestByQuestion.size());
 
-        Set<Long> usedPrimaryIds = new LinkedHashSet<>();
         List<CoverLetter> latestLetters = latestByQuestion.entrySet().stream()
             .sorted(Map.Entry.comparingByKey())
             .map(Map.Entry::getValue)
             .toList();
+        List<List<UserExperience>> assignments = assignExperiences(jp,
+            latestLetters.stream().map(CoverLetter::getQuestionText).toList());
 
-        for (CoverLetter latest : latestLetters) {
+        List<CoverLetter> results = runPerQuestion(latestLetters.size(), i -> {
+            CoverLetter latest = latestLetters.get(i);
             int qIdx = latest.getQuestionIndex() != null ? latest.getQuestionIndex() : 0;
             int charLimit = charLimitByQuestion.getOrDefault(qIdx, 1000);
-            List<UserExperience> experiences = retrieveExperiencesOrFallback(
-                jp, latest.getQuestionText(), usedPrimaryIds);
-            UserExperience primary = getPrimaryExperience(experiences);
-            if (primary != null) {
-                usedPrimaryIds.add(primary.getId());
-            }
-
-            log.info("[RAG] 문항 {} 검색된 경험 {}건, 주력 경험 ID: {}",
-                qIdx, experiences.size(), primary != null ? primary.getId() : "없음");
             CoverLetter improved = generateWithReviewLoop(
-                latest, jp, experiences, ai, jobContext, latest.getQuestionText(), null, charLimit, userMessage);
-            results.add(improved);
+                latest, jp, assignments.get(i), jobContext, latest.getQuestionText(), null, charLimit, userMessage,
+                startConversation(jobContext), null);
 
             log.info("[개선] 문항 {} 개선 완료 - v{} → v{}, 점수: {}",
                 latest.getQuestionIndex(), latest.getVersion(), improved.getVersion(), improved.getReviewScore());
-        }
+            publishQuestionCompleted(improved);
+            return improved;
+        });
 
         log.info("[개선] 추가 개선 완료 - 회사: {}, 문항 {}개", jp.getCompanyName(), results.size());
         return results;
     }
 
-    @Transactional
     public List<CoverLetter> generateFromUrl(String url) {
         return generateFromUrl(url, null);
     }
 
-    @Transactional
     public List<CoverLetter> generateFromUrl(String url, Integer employmentId) {
+        try (AiUsageRecorder.Run ignored = usageRecorder.startRun("자소서 생성: " + url)) {
+            return doGenerateFromUrl(url, employmentId);
+        }
+    }
+
+    private List<CoverLetter> doGenerateFromUrl(String url, Integer employmentId) {
         if (jobPostingRepository.existsByUrl(url)) {
             log.info("이미 처리된 공고: {}", url);
             JobPosting existing = jobPostingRepository.findByUrl(url).orElseThrow();
@@ -208,15 +277,46 @@ public class CoverLetterFacade {
                 return crawlAndGenerate(existing, null);
             }
 
+            // 이전 시도가 실패한 공고 → 체크포인트 기준으로 실패한 단계부터 이어서 수행
+            if (existing.getStatus() == PipelineStatus.FAILED) {
+                return resumeFailed(existing);
+            }
+
+            // 야간 배치로 초안까지 만들어 둔 공고 → 검토/개선 루프만 이어서 수행
+            if (existing.getStatus() == PipelineStatus.DRAFTED) {
+                log.info("배치 초안이 있는 공고 — 검토/개선부터 시작: {}", url);
+                existing.markReviewing();
+                existing = jobPostingRepository.save(existing);
+                List<CoverLetter> reviewed;
+                try {
+                    reviewed = doImproveExisting(existing.getId(), null);
+                } catch (Exception e) {
+                    // 초안은 그대로 남아 있으므로 REVIEWING에 묶어 두지 않고 다음 요청이 검토부터 다시 하게 한다
+                    log.error("배치 초안 검토/개선 실패 — 초안 상태로 되돌림: {}", url, e);
+                    restoreDrafted(existing);
+                    throw e;
+                }
+                existing.markFinalized();
+                jobPostingRepository.save(existing);
+                return reviewed;
+            }
+
             List<CoverLetter> existingLetters = coverLetterRepository.findByJobPostingId(existing.getId());
             if (!existingLetters.isEmpty()) {
                 return existingLetters;
             }
-            return generateCoverLetters(existing, List.of());
+            // 백그라운드 선분석을 마친 공고 → 저장된 문항/분석으로 초안 작성부터 수행
+            List<EssayQuestion> essayQuestions = deserializeQuestions(existing);
+            if (existing.getStatus() == PipelineStatus.SCORED && existing.getCompanyAnalysis() == null) {
+                // 선분석에서 회사 분석만 실패한 공고 — 초안 전에 분석을 다시 시도한다
+                log.info("회사 분석 없는 공고 — 분석부터 다시 시작: {}", url);
+                existing = analyzeCompany(existing, essayQuestions);
+            }
+            log.info("{} 상태 공고 — 초안 작성부터 시작: {}", existing.getStatus(), url);
+            return generateCoverLetters(existing, essayQuestions);
         }
 
-        JobPosting jobPosting = JobPosting.from(url);
-        jobPostingRepository.save(jobPosting);
+        JobPosting jobPosting = jobPostingRepository.save(JobPosting.from(url));
 
         return crawlAndGenerate(jobPosting, employmentId);
     }
@@ -227,284 +327,527 @@ public class CoverLetterFacade {
 
     private List<CoverLetter> crawlAndGenerate(JobPosting jobPosting, Integer employmentId) {
         try {
-            // 1단계: 크롤링
-            CrawledJobInfo crawledInfo = jsoupCrawler.crawl(jobPosting.getUrl());
-
-            // 1-1단계: 다중 직무 공고 — 사용자 선택 우선, 자동 매칭 폴백
-            if (crawledInfo.employmentOptions().size() > 1) {
-                EmploymentOption best;
-                if (employmentId != null) {
-                    // 사용자가 직접 선택한 employment 사용
-                    best = crawledInfo.employmentOptions().stream()
-                        .filter(o -> o.id() == employmentId)
-                        .findFirst()
-                        .orElse(null);
-                    if (best != null) {
-                        log.info("[매칭] 사용자 직접 선택 직무: {} (id={})", best.field(), best.id());
-                    } else {
-                        log.warn("[매칭] 사용자 지정 employmentId={} 를 찾을 수 없음 — 자동 매칭 폴백", employmentId);
-                        List<UserExperience> experiences = userExperienceRepository.findAll();
-                        best = findBestEmployment(crawledInfo.employmentOptions(), experiences);
-                    }
-                } else {
-                    // 기존 자동 매칭
-                    List<UserExperience> experiences = userExperienceRepository.findAll();
-                    best = findBestEmployment(crawledInfo.employmentOptions(), experiences);
-                }
-                if (best != null && best.id() != crawledInfo.employmentOptions().get(0).id()) {
-                    log.info("[매칭] 사용자 경험 기반 직무 자동 선택: {} (id={}) ← 기본: {} (id={})",
-                        best.field(), best.id(),
-                        crawledInfo.employmentOptions().get(0).field(),
-                        crawledInfo.employmentOptions().get(0).id());
-                    try {
-                        CrawledJobInfo refined = jsoupCrawler.fetchForEmployment(best.id());
-                        crawledInfo = CrawledJobInfo.of(
-                            crawledInfo.companyName(),
-                            mergeJobDescriptions(crawledInfo.jobDescription(), refined.jobDescription()),
-                            crawledInfo.requirements(),
-                            crawledInfo.deadline(),
-                            crawledInfo.active(),
-                            refined.essayQuestions().isEmpty()
-                                ? crawledInfo.essayQuestions() : refined.essayQuestions(),
-                            crawledInfo.employmentOptions()
-                        );
-                    } catch (Exception e) {
-                        log.warn("[매칭] 선택된 employment 재조회 실패 — employment 옵션 정보로 보강: {}", e.getMessage());
-                        String fallbackJd = buildFallbackEmploymentJd(best);
-                        crawledInfo = CrawledJobInfo.of(
-                            crawledInfo.companyName(),
-                            mergeJobDescriptions(crawledInfo.jobDescription(), fallbackJd),
-                            crawledInfo.requirements(),
-                            crawledInfo.deadline(),
-                            crawledInfo.active(),
-                            crawledInfo.essayQuestions(),
-                            crawledInfo.employmentOptions()
-                        );
+            Prepared prepared = crawlAndAnalyze(jobPosting, employmentId);
+
+            // 4단계: 자소서 생성 (에이전트 루프)
+            return generateCoverLetters(prepared.posting(), prepared.questions());
+
+        } catch (Exception e) {
+            log.error("자소서 생성 실패: {}", jobPosting.getUrl(), e);
+            markFailed(jobPosting);
+            throw e;
+        }
+    }
+
+    /**
+     * 수집 공고 선분석 — 크롤링/분류/회사 분석까지만 수행해 ANALYZED로 저장한다.
+     * 사용자가 나중에 공고를 요청하면 저장된 문항과 분석을 그대로 써서 초안 작성부터 시작한다.
+     * 실패해도 공고는 FETCHED로 남아 사용자 요청 시 동기 경로에서 다시 시도된다.
+     */
+    public JobPosting preAnalyze(JobPosting jobPosting) {
+        return crawlAndAnalyze(jobPosting, null).posting();
+    }
+
+    /** 선분석 때 저장해 둔 문항 — 다시 크롤링하지 않고 초안 단계부터 이어 갈 때 쓴다 */
+    public List<EssayQuestion> storedQuestions(JobPosting jobPosting) {
+        return deserializeQuestions(jobPosting);
+    }
+
+    /** 1~3단계: 크롤링/분류 후 회사 분석 (트랜잭션 밖) */
+    private Prepared crawlAndAnalyze(JobPosting jobPosting, Integer employmentId) {
+        List<EssayQuestion> essayQuestions = crawlAndClassify(jobPosting, employmentId);
+        JobPosting current = jobPostingRepository.save(jobPosting);
+        return new Prepared(analyzeCompany(current, essayQuestions), essayQuestions);
+    }
+
+    /** 3단계: AI 회사 심층 분석 — 실패하면 분석 없이 진행한다 (체크포인트에는 실패로 남아 재개 시 다시 시도) */
+    private JobPosting analyzeCompany(JobPosting jobPosting, List<EssayQuestion> essayQuestions) {
+        String analysisJson = null;
+        try {
+            log.info("[분석] 회사 분석 시작 - {}", jobPosting.getCompanyName());
+            progress.publish(CoverLetterProgressEvent.of(Stage.ANALYZING,
+                "%s 회사 심층 분석 중 (경쟁사, 채용 배경, 문항별 작성 전략)".formatted(jobPosting.getCompanyName())));
+            analysisJson = checkpoints.run(jobPosting.getId(), PipelineStage.ANALYZE, null,
+                () -> {
+                    // 분석기는 실패를 null로 돌려주므로 예외로 바꿔 체크포인트에 실패로 남긴다
+                    String json = companyAnalyzer.analyze(jobPosting, essayQuestions);
+                    if (json == null) {
+                        throw new IllegalStateException("회사 분석 결과 없음");
                     }
-                } else if (best != null) {
-                    log.info("[매칭] 기본 선택 직무가 최적: {} (id={})", best.field(), best.id());
-                }
+                    return json;
+                },
+                json -> null);
+        } catch (Exception e) {
+            log.warn("[분석] 회사 분석 실패 - 분석 없이 진행합니다: {}", e.getMessage());
+        }
+        if (analysisJson == null) {
+            return jobPosting;
+        }
+        jobPosting.updateCompanyAnalysis(analysisJson);
+        JobPosting analyzed = jobPostingRepository.save(jobPosting);
+        log.info("[분석] 회사 분석 완료 - {}", analyzed.getCompanyName());
+        return analyzed;
+    }
+
+    /**
+     * 실패한 공고 재시도 — 마지막 시도에서 끝난 단계는 건너뛰고 실패한 단계부터 이어서 수행한다.
+     * 크롤링/분류 결과와 회사 분석은 공고에, 전략은 체크포인트 산출물에, 문항별 초안/최종본은 자소서 버전으로 남아 있다.
+     */
+    private List<CoverLetter> resumeFailed(JobPosting failed) {
+        if (!checkpoints.isCompleted(failed.getId(), PipelineStage.CLASSIFY)) {
+            log.info("[재개] 크롤링/분류 전에 실패한 공고 — 처음부터 다시 수행: {}", failed.getUrl());
+            return crawlAndGenerate(failed, null);
+        }
+
+        try {
+            List<EssayQuestion> essayQuestions = deserializeQuestions(failed);
+            JobPosting current = failed;
+            if (!checkpoints.isCompleted(failed.getId(), PipelineStage.ANALYZE) || current.getCompanyAnalysis() == null) {
+                log.info("[재개] 회사 분석부터 이어서 수행: {}", failed.getUrl());
+                current = analyzeCompany(current, essayQuestions);
+            } else {
+                log.info("[재개] 크롤링/분석 완료된 공고 — 자소서 생성부터 이어서 수행: {}", failed.getUrl());
             }
+            return generateCoverLetters(current, essayQuestions);
+        } catch (Exception e) {
+            log.error("자소서 생성 재개 실패: {}", failed.getUrl(), e);
+            markFailed(failed);
+            throw e;
+        }
+    }
 
-            List<EssayQuestion> essayQuestions = crawledInfo.essayQuestions();
+    /** 크롤링/분석을 마친 공고(저장 후 @Version 갱신본)와 문항 */
+    private record Prepared(JobPosting posting, List<EssayQuestion> questions) {}
 
-            String essayQuestionsJson = serializeQuestions(essayQuestions);
-            LocalDate deadline = parseDeadline(crawledInfo.deadline());
+    /** 실패 표시는 최선 노력 — 생성 도중 저장된 최신 상태를 다시 읽어 갱신한다 (동시 갱신과 충돌하면 그 상태를 존중) */
+    private void markFailed(JobPosting jobPosting) {
+        try {
+            jobPostingRepository.findById(jobPosting.getId()).ifPresent(latest -> {
+                latest.markFailed();
+                jobPostingRepository.save(latest);
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("[상태] 공고 {} 실패 표시 생략 — 다른 요청이 먼저 갱신함", jobPosting.getId());
+        } catch (Exception e) {
+            log.warn("[상태] 공고 {} 실패 표시 저장 실패: {}", jobPosting.getId(), e.getMessage());
+        }
+    }
 
-            jobPosting.updateCrawledInfo(
-                crawledInfo.companyName(),
-                crawledInfo.jobDescription(),
-                crawledInfo.requirements(),
-                essayQuestionsJson,
-                deadline
-            );
+    /** 배치 초안 검토가 실패했을 때 DRAFTED로 되돌린다 — markFailed와 같이 최신 상태를 다시 읽어 최선 노력으로 갱신 */
+    private void restoreDrafted(JobPosting jobPosting) {
+        try {
+            jobPostingRepository.findById(jobPosting.getId()).ifPresent(latest -> {
+                latest.markDrafted();
+                jobPostingRepository.save(latest);
+            });
+        } catch (Exception e) {
+            log.warn("[상태] 공고 {} 초안 상태 복구 실패: {}", jobPosting.getId(), e.getMessage());
+        }
+    }
 
-            // 2단계: 회사 유형 분류
-            var companyType = companyClassifier.classify(
-                crawledInfo.companyName(), crawledInfo.jobDescription());
-            jobPosting.classify(companyType);
+    /** 1~2단계: 크롤링(다중 직무면 직무 선택) 후 공고 정보 반영 및 회사 유형 분류 — 배치 선생성도 같은 경로를 쓴다 */
+    public List<EssayQuestion> crawlAndClassify(JobPosting jobPosting, Integer employmentId) {
+        // 1단계: 크롤링
+        progress.publish(CoverLetterProgressEvent.of(Stage.CRAWLING, "공고 크롤링 중: " + jobPosting.getUrl()));
+        CrawledJobInfo crawledInfo = checkpoints.run(jobPosting.getId(), PipelineStage.CRAWL, null,
+            () -> crawl(jobPosting, employmentId),
+            info -> "문항 %d개, 직무 옵션 %d개".formatted(info.essayQuestions().size(), info.employmentOptions().size()));
+
+        List<EssayQuestion> essayQuestions = crawledInfo.essayQuestions();
+
+        String essayQuestionsJson = serializeQuestions(essayQuestions);
+        LocalDate deadline = parseDeadline(crawledInfo.deadline());
+
+        jobPosting.updateCrawledInfo(
+            crawledInfo.companyName(),
+            crawledInfo.jobDescription(),
+            crawledInfo.requirements(),
+            essayQuestionsJson,
+            deadline
+        );
 
-            // 3단계: AI 회사 심층 분석
-            try {
-                log.info("[분석] 회사 분석 시작 - {}", crawledInfo.companyName());
-                String analysisJson = companyAnalyzer.analyze(jobPosting, essayQuestions);
-                if (analysisJson != null) {
-                    jobPosting.updateCompanyAnalysis(analysisJson);
-                    log.info("[분석] 회사 분석 완료 - {}", crawledInfo.companyName());
+        // 2단계: 회사 유형 분류
+        var companyType = checkpoints.run(jobPosting.getId(), PipelineStage.CLASSIFY, null,
+            () -> companyClassifier.classify(crawledInfo.companyName(), crawledInfo.jobDescription()),
+            CompanyType::name);
+        jobPosting.classify(companyType);
+        return essayQuestions;
+    }
+
+    /** 크롤링 후 다중 직무 공고면 사용자 선택 → 경험 기반 자동 매칭 순으로 직무를 골라 해당 직무 정보로 보강 */
+    private CrawledJobInfo crawl(JobPosting jobPosting, Integer employmentId) {
+        CrawledJobInfo crawledInfo = jsoupCrawler.crawl(jobPosting.getUrl());
+
+        // 1-1단계: 다중 직무 공고 — 사용자 선택 우선, 자동 매칭 폴백
+        if (crawledInfo.employmentOptions().size() > 1) {
+            EmploymentOption best;
+            if (employmentId != null) {
+                // 사용자가 직접 선택한 employment 사용
+                best = crawledInfo.employmentOptions().stream()
+                    .filter(o -> o.id() == employmentId)
+                    .findFirst()
+                    .orElse(null);
+                if (best != null) {
+                    log.info("[매칭] 사용자 직접 선택 직무: {} (id={})", best.field(), best.id());
                 } else {
-                    log.warn("[분석] 회사 분석 결과 없음 - 분석 없이 진행합니다.");
+                    log.warn("[매칭] 사용자 지정 employmentId={} 를 찾을 수 없음 — 자동 매칭 폴백", employmentId);
+                    List<UserExperience> experiences = userExperienceRepository.findAll();
+                    best = findBestEmployment(crawledInfo.employmentOptions(), experiences);
                 }
-            } catch (Exception e) {
-                log.warn("[분석] 회사 분석 실패 - 분석 없이 진행합니다: {}", e.getMessage());
+            } else {
+                // 기존 자동 매칭
+                List<UserExperience> experiences = userExperienceRepository.findAll();
+                best = findBestEmployment(crawledInfo.employmentOptions(), experiences);
+            }
+            if (best != null && best.id() != crawledInfo.employmentOptions().get(0).id()) {
+                log.info("[매칭] 사용자 경험 기반 직무 자동 선택: {} (id={}) ← 기본: {} (id={})",
+                    best.field(), best.id(),
+                    crawledInfo.employmentOptions().get(0).field(),
+                    crawledInfo.employmentOptions().get(0).id());
+                try {
+                    CrawledJobInfo refined = jsoupCrawler.fetchForEmployment(best.id());
+                    crawledInfo = CrawledJobInfo.of(
+                        crawledInfo.companyName(),
+                        mergeJobDescriptions(crawledInfo.jobDescription(), refined.jobDescription()),
+                        crawledInfo.requirements(),
+                        crawledInfo.deadline(),
+                        crawledInfo.active(),
+                        refined.essayQuestions().isEmpty()
+                            ? crawledInfo.essayQuestions() : refined.essayQuestions(),
+                        crawledInfo.employmentOptions()
+                    );
+                } catch (Exception e) {
+                    log.warn("[매칭] 선택된 employment 재조회 실패 — employment 옵션 정보로 보강: {}", e.getMessage());
+                    String fallbackJd = buildFallbackEmploymentJd(best);
+                    crawledInfo = CrawledJobInfo.of(
+                        crawledInfo.companyName(),
+                        mergeJobDescriptions(crawledInfo.jobDescription(), fallbackJd),
+                        crawledInfo.requirements(),
+                        crawledInfo.deadline(),
+                        crawledInfo.active(),
+                        crawledInfo.essayQuestions(),
+                        crawledInfo.employmentOptions()
+                    );
+                }
+            } else if (best != null) {
+                log.info("[매칭] 기본 선택 직무가 최적: {} (id={})", best.field(), best.id());
             }
-
-            // 4단계: 자소서 생성 (에이전트 루프)
-            return generateCoverLetters(jobPosting, essayQuestions);
-
-        } catch (Exception e) {
-            jobPosting.markFailed();
-            log.error("자소서 생성 실패: {}", jobPosting.getUrl(), e);
-            throw e;
         }
+        return crawledInfo;
     }
 
     private List<CoverLetter> generateCoverLetters(JobPosting jobPosting, List<EssayQuestion> essayQuestions) {
-        AiPort ai = aiRouter.route(jobPosting.getCompanyType());
-        String jobContext = promptBuilder.buildJobContext(jobPosting);
-
         if (!userExperienceRepository.existsAny()) {
             log.warn("[경고] 등록된 경험(UserExperience)이 0건입니다. 자소서 품질이 크게 저하될 수 있습니다. " +
                 "경험 데이터를 먼저 등록해주세요.");
         }
 
         jobPosting.markReviewing();
+        JobPosting reviewing = jobPostingRepository.save(jobPosting);
 
-        if (essayQuestions == null || essayQuestions.isEmpty()) {
-            List<UserExperience> experiences = retrieveExperiencesOrFallback(jobPosting, null);
-            log.info("[RAG] 검색된 경험 {}건 (단일 자소서)", experiences.size());
+        List<CoverLetter> finalLetters = essayQuestions == null || essayQuestions.isEmpty()
+            ? List.of(generateSingle(reviewing))
+            : generatePerQuestion(reviewing, essayQuestions);
+
+        reviewing.markFinalized();
+        jobPostingRepository.save(reviewing);
+        return finalLetters;
+    }
 
-            String prompt = promptBuilder.build(jobPosting, experiences, 1000);
-            String content = enforceCharLimit(ai.generateWithContext(jobContext, prompt), 1000, ai, jobContext);
+    private CoverLetter generateSingle(JobPosting jobPosting) {
+        AiPort ai = aiRouter.route(AiTask.DRAFT);
+        String jobContext = promptBuilder.buildJobContext(jobPosting);
+        List<UserExperience> experiences = retrieveExperiencesOrFallback(jobPosting, null);
+        log.info("[RAG] 검색된 경험 {}건 (단일 자소서)", experiences.size());
+
+        String prompt = promptBuilder.build(jobPosting, experiences, 1000);
+        CoverLetter finalLetter = checkpointedQuestion(jobPosting, 0, () -> {
+            DraftCandidate first = draftFirst(ai, jobPosting, experiences, jobContext, prompt, null, 1000, "단일");
 
-            int nextVersion = coverLetterRepository
-                .findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(jobPosting.getId(), 0)
-                .map(cl -> cl.getVersion() + 1)
-                .orElse(1);
             CoverLetter coverLetter = CoverLetter.ofVersion(
-                jobPosting, ai.getModelName(), content, nextVersion, 0, null);
+                jobPosting, ai.getModelName(), first.content(), nextVersion(jobPosting, 0), 0, null);
             coverLetterRepository.save(coverLetter);
+            progress.publish(CoverLetterProgressEvent.ofQuestion(Stage.DRAFTED, 0, 0, null,
+                "초안 작성 완료 (%d자)".formatted(first.content().length())));
+            return new FirstDraft(coverLetter, first.conversation(), first.review());
+        }, first -> generateWithReviewLoop(
+            first.letter(), jobPosting, experiences, jobContext, null, null, 1000, null,
+            first.conversation(), first.review()
+        ));
+
+        log.info("[에이전트] 자소서 완료 (단일) - 회사: {}, 최종 v{}, 점수: {}",
+            jobPosting.getCompanyName(), finalLetter.getVersion(), finalLetter.getReviewScore());
+        publishQuestionCompleted(finalLetter);
+        return finalLetter;
+    }
 
-            CoverLetter finalLetter = generateWithReviewLoop(
-                coverLetter, jobPosting, experiences, ai, jobContext, null, null, 1000, null
-            );
+    private List<CoverLetter> generatePerQuestion(JobPosting jobPosting, List<EssayQuestion> essayQuestions) {
+        AiPort ai = aiRouter.route(AiTask.DRAFT);
+        String jobContext = promptBuilder.buildJobContext(jobPosting);
 
-            jobPosting.markFinalized();
-            log.info("[에이전트] 자소서 완료 (단일) - 회사: {}, 최종 v{}, 점수: {}",
-                jobPosting.getCompanyName(), finalLetter.getVersion(), finalLetter.getReviewScore());
-            return List.of(finalLetter);
+        // 전략 수립 (문항 2개 이상일 때) — 재개 시에는 저장된 전략을 그대로 쓴다
+        String masterPlan = checkpoints.completedOutput(jobPosting.getId(), PipelineStage.STRATEGY, null).orElse(null);
+        if (masterPlan != null) {
+            log.info("[재개] 저장된 작성 전략 재사용 ({}자)", masterPlan.length());
+        } else {
+            progress.publish(CoverLetterProgressEvent.of(Stage.PLANNING,
+                "문항 %d개 작성 전략 수립 중".formatted(essayQuestions.size())));
+            try {
+                List<UserExperience> allExperiences = userExperienceRepository.findAll();
+                masterPlan = checkpoints.run(jobPosting.getId(), PipelineStage.STRATEGY, null,
+                    () -> strategyPlanner.planStrategy(jobPosting, essayQuestions, allExperiences),
+                    plan -> plan);
+            } catch (Exception e) {
+                log.warn("[전략] 전략 수립 중 오류 — 개별 생성 방식으로 진행: {}", e.getMessage());
+            }
         }
 
-        // 전략 수립 (문항 2개 이상일 때)
-        String masterPlan = null;
-        try {
-            List<UserExperience> allExperiences = userExperienceRepository.findAll();
-            masterPlan = strategyPlanner.planStrategy(jobPosting, essayQuestions, allExperiences);
-        } catch (Exception e) {
-            log.warn("[전략] 전략 수립 중 오류 — 개별 생성 방식으로 진행: {}", e.getMessage());
-        }
+        // 경험 배정과 버전 번호는 미리 정하고, AI 체인만 문항별로 동시에 돌린다
+        List<List<UserExperience>> assignments = assignExperiences(jobPosting,
+            essayQuestions.stream().map(EssayQuestion::questionText).toList());
+        List<Integer> nextVersions = essayQuestions.stream()
+            .map(question -> nextVersion(jobPosting, question.number()))
+            .toList();
+        String plan = masterPlan;
 
-        List<CoverLetter> finalLetters = new ArrayList<>();
-        Set<Long> usedPrimaryIds = new LinkedHashSet<>();
-        for (EssayQuestion question : essayQuestions) {
-            List<UserExperience> experiences = retrieveExperiencesOrFallback(
-                jobPosting, question.questionText(), usedPrimaryIds);
+        List<CoverLetter> finalLetters = runPerQuestion(essayQuestions.size(), i -> {
+            EssayQuestion question = essayQuestions.get(i);
+            List<UserExperience> experiences = assignments.get(i);
             UserExperience primary = getPrimaryExperience(experiences);
             List<UserExperience> secondary = getSecondaryExperiences(experiences);
 
-            if (primary != null) {
-                usedPrimaryIds.add(primary.getId());
-            }
+            String prompt = promptBuilder.buildForQuestion(jobPosting, primary, secondary, question, plan);
+            int charLimit = question.charLimit() > 0 ? question.charLimit() : 1000;
+            CoverLetter finalLetter = checkpointedQuestion(jobPosting, question.number(), () -> {
+                DraftCandidate first = draftFirst(ai, jobPosting, experiences, jobContext, prompt,
+                    question.questionText(), charLimit, String.valueOf(question.number()));
+
+                CoverLetter coverLetter = CoverLetter.ofVersion(
+                    jobPosting, ai.getModelName(), first.content(), nextVersions.get(i),
+                    question.number(), question.questionText());
+                coverLetterRepository.save(coverLetter);
+                progress.publish(CoverLetterProgressEvent.ofQuestion(Stage.DRAFTED, question.number(), 0, null,
+                    "문항 %d 초안 작성 완료 (%d자)".formatted(question.number(), first.content().length())));
+                return new FirstDraft(coverLetter, first.conversation(), first.review());
+            }, first -> generateWithReviewLoop(
+                first.letter(), jobPosting, experiences, jobContext,
+                question.questionText(), question, charLimit, null,
+                first.conversation(), first.review()
+            ));
+
+            log.info("[에이전트] 문항 {} 완료 - 회사: {}, 최종 v{}, 점수: {}",
+                question.number(), jobPosting.getCompanyName(),
+                finalLetter.getVersion(), finalLetter.getReviewScore());
+            publishQuestionCompleted(finalLetter);
+            return finalLetter;
+        });
+
+        log.info("[에이전트] 자소서 전체 완료 (문항 {}개) - 회사: {}, 모델: {}",
+            finalLetters.size(), jobPosting.getCompanyName(), ai.getModelName());
+        return finalLetters;
+    }
+
+    /**
+     * 배치 선생성용 첫 초안 요청 — generateCoverLetters와 같은 경험 배정/프롬프트로 만들되 AI를 호출하지 않는다.
+     * 글자수 보정과 검토 루프는 사용자가 공고를 요청할 때 이어서 수행한다.
+     */
+    public List<AiBatchRequest> draftBatchRequests(JobPosting jobPosting, List<EssayQuestion> essayQuestions,
+                                                   String masterPlan) {
+        String model = aiRouter.route(AiTask.DRAFT).getModelName();
+        String jobContext = promptBuilder.buildJobContext(jobPosting);
+
+        if (essayQuestions == null || essayQuestions.isEmpty()) {
+            List<UserExperience> experiences = retrieveExperiencesOrFallback(jobPosting, null);
+            return List.of(AiBatchRequest.text(draftCustomId(jobPosting, 0), model, null, jobContext,
+                promptBuilder.build(jobPosting, experiences, 1000), promptBuilder.maxOutputTokens(1000)));
+        }
 
-            log.info("[RAG] 문항 {} 검색된 경험 {}건, 주력 경험 ID: {}",
-                question.number(), experiences.size(), primary != null ? primary.getId() : "없음");
+        List<AiBatchRequest> requests = new ArrayList<>();
+        List<List<UserExperience>> assignments = assignExperiences(jobPosting,
+            essayQuestions.stream().map(EssayQuestion::questionText).toList());
+        for (int i = 0; i < essayQuestions.size(); i++) {
+            EssayQuestion question = essayQuestions.get(i);
+            List<UserExperience> experiences = assignments.get(i);
+            UserExperience primary = getPrimaryExperience(experiences);
 
-            String prompt = promptBuilder.buildForQuestion(jobPosting, primary, secondary, question, masterPlan);
+            String prompt = promptBuilder.buildForQuestion(
+                jobPosting, primary, getSecondaryExperiences(experiences), question, masterPlan);
             int charLimit = question.charLimit() > 0 ? question.charLimit() : 1000;
-            String content = enforceCharLimit(ai.generateWithContext(jobContext, prompt), charLimit, ai, jobContext);
+            requests.add(AiBatchRequest.text(draftCustomId(jobPosting, question.number()), model, null,
+                jobContext, prompt, promptBuilder.maxOutputTokens(charLimit)));
+        }
+        return requests;
+    }
 
+    /**
+     * 배치 결과를 문항별 새 버전으로 저장하고 DRAFTED로 전환한다.
+     * DRAFTED 공고는 저장된 초안만 검토/개선하므로, 한 문항이라도 초안이 없으면 아무것도 저장하지 않고
+     * 공고를 그대로 두어 사용자가 요청할 때 동기 경로에서 전 문항을 작성하게 한다.
+     */
+    public List<CoverLetter> saveBatchDrafts(JobPosting jobPosting, List<EssayQuestion> essayQuestions,
+                                             Map<String, AiBatchResult> results) {
+        List<EssayQuestion> targets = essayQuestions == null || essayQuestions.isEmpty()
+            ? List.of(new EssayQuestion(0, null, 1000))
+            : essayQuestions;
+
+        for (EssayQuestion question : targets) {
+            AiBatchResult result = results.get(draftCustomId(jobPosting, question.number()));
+            if (result == null || !result.isSucceeded()) {
+                log.warn("[배치] 초안 없음 — 공고 {} 초안 저장 생략, 문항 {}: {}", jobPosting.getId(), question.number(),
+                    result != null ? result.error() : "결과 누락");
+                return List.of();
+            }
+        }
+
+        List<CoverLetter> saved = new ArrayList<>();
+        for (EssayQuestion question : targets) {
+            AiBatchResult result = results.get(draftCustomId(jobPosting, question.number()));
             int nextVersion = coverLetterRepository
-                .findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(
-                    jobPosting.getId(), question.number())
+                .findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(jobPosting.getId(), question.number())
                 .map(cl -> cl.getVersion() + 1)
                 .orElse(1);
             CoverLetter coverLetter = CoverLetter.ofVersion(
-                jobPosting, ai.getModelName(), content, nextVersion,
+                jobPosting, result.model(), result.text(), nextVersion,
                 question.number(), question.questionText());
-            coverLetterRepository.save(coverLetter);
-
-            CoverLetter finalLetter = generateWithReviewLoop(
-                coverLetter, jobPosting, experiences, ai, jobContext,
-                question.questionText(), question, charLimit, null
-            );
-            finalLetters.add(finalLetter);
-
-            log.info("[에이전트] 문항 {} 완료 - 회사: {}, 최종 v{}, 점수: {}",
-                question.number(), jobPosting.getCompanyName(),
-                finalLetter.getVersion(), finalLetter.getReviewScore());
+            saved.add(coverLetterRepository.save(coverLetter));
         }
 
-        jobPosting.markFinalized();
-        log.info("[에이전트] 자소서 전체 완료 (문항 {}개) - 회사: {}, 모델: {}",
-            finalLetters.size(), jobPosting.getCompanyName(), ai.getModelName());
-        return finalLetters;
+        jobPosting.markDrafted();
+        return saved;
+    }
+
+    private String draftCustomId(JobPosting jobPosting, int questionNumber) {
+        return "draft-%d-%d".formatted(jobPosting.getId(), questionNumber);
     }
 
     private CoverLetter generateWithReviewLoop(CoverLetter currentLetter, JobPosting jobPosting,
-                                                List<UserExperience> experiences, AiPort ai,
+                                                List<UserExperience> experiences,
                                                 String jobContext,
                                                 String questionText, EssayQuestion essayQuestion,
-                                                int charLimit, String userMessage) {
+                                                int charLimit, String userMessage,
+                                                AiConversation conversation,
+                                                ReviewResult initialReview) {
         String currentDraft = currentLetter.getContent();
         CoverLetter latest = currentLetter;
         CoverLetter bestLetter = currentLetter;
         int bestScore = -1;
 
         for (int iteration = 1; iteration <= MAX_ITERATIONS; iteration++) {
+            int round = iteration;
+            String reviewedDraft = currentDraft;
             log.info("[에이전트] v{} → {}차 검토 시작 (문항: {})",
                 latest.getVersion(), iteration,
                 questionText != null ? questionText.substring(0, Math.min(20, questionText.length())) : "단일");
 
-            // 검토
-            ReviewResult review;
-            try {
-                review = reviewAgent.review(currentDraft, jobPosting, questionText, iteration, experiences, charLimit);
-            } catch (Exception e) {
-                log.error("[에이전트] {}차 검토 중 API 오류: {}", iteration, e.getMessage());
-                if (iteration < MIN_ITERATIONS) {
-                    log.warn("[에이전트] 최소 반복 미달 ({}/{}) — 다음 반복에서 재시도", iteration, MIN_ITERATIONS);
-                    continue;
+            // 로컬 규칙 점검 — 즉시 탈락 규칙 위반은 LLM 검토 결과도 탈락이므로 검토 호출 없이 바로 개선으로 넘긴다
+            DraftLintResult lint = draftLinter.lint(reviewedDraft, jobPosting.getCompanyName(), charLimit);
+            boolean reuseInitialReview = iteration == 1 && initialReview != null;
+            String reviewSummary;
+            String targetedStrategy;
+            if (lint.hasHardFailures() && !reuseInitialReview && iteration < MAX_ITERATIONS) {
+                log.info("[에이전트] {}차 자동 점검 탈락 — LLM 검토 생략: {}", iteration, lint.violations());
+                progress.publish(CoverLetterProgressEvent.ofQuestion(Stage.REVIEWED,
+                    latest.getQuestionIndex(), iteration, null,
+                    "문항 %s %d차 자동 점검 탈락 — %s".formatted(
+                        questionLabel(latest), iteration, String.join(", ", lint.violations()))));
+                reviewSummary = buildLintSummary(lint);
+                targetedStrategy = buildLintStrategy(lint);
+            } else {
+                // 검토 (초안 후보 채점에서 이미 받은 1차 검토는 재사용)
+                ReviewResult review;
+                if (reuseInitialReview) {
+                    review = initialReview;
+                } else {
+                    try {
+                        review = pipelineGate.review(() -> reviewAgent.review(
+                            reviewedDraft, jobPosting, questionText, round, experiences, charLimit));
+                    } catch (Exception e) {
+                        log.error("[에이전트] {}차 검토 중 API 오류: {}", iteration, e.getMessage());
+                        if (iteration < MIN_ITERATIONS) {
+                            log.warn("[에이전트] 최소 반복 미달 ({}/{}) — 다음 반복에서 재시도", iteration, MIN_ITERATIONS);
+                            continue;
+                        }
+                        break;
+                    }
                 }
-                break;
-            }
 
-            // 검토 결과 저장
-            latest.addReview(review.rawJson(), review.totalScore());
-            coverLetterRepository.save(latest);
-
-            log.info("[에이전트] {}차 검토 결과 - 점수: {}점({}등급), violations: {}개, improvements: {}개",
-                iteration, review.totalScore(), review.grade(),
-                review.violations().size(), review.improvements().size());
+                // 검토 결과 저장
+                latest.addReview(review.rawJson(), review.totalScore(), review.toReviewScores());
+                coverLetterRepository.save(latest);
+
+                log.info("[에이전트] {}차 검토 결과 - 점수: {}점({}등급), violations: {}개, improvements: {}개",
+                    iteration, review.totalScore(), review.grade(),
+                    review.violations().size(), review.improvements().size());
+                progress.publish(CoverLetterProgressEvent.ofQuestion(Stage.REVIEWED,
+                    latest.getQuestionIndex(), iteration, review.totalScore(),
+                    "문항 %s %d차 검토 — %d점(%s등급)".formatted(
+                        questionLabel(latest), iteration, review.totalScore(), review.grade())));
+
+                // 최고 점수 버전 추적
+                if (review.totalScore() > bestScore) {
+                    bestScore = review.totalScore();
+                    bestLetter = latest;
+                } else {
+                    log.warn("[에이전트] 점수 하락 감지 ({}점 → {}점) — 최고 버전: v{}({}점)",
+                        bestScore, review.totalScore(), bestLetter.getVersion(), bestScore);
+                }
 
-            // 최고 점수 버전 추적
-            if (review.totalScore() > bestScore) {
-                bestScore = review.totalScore();
-                bestLetter = latest;
-            } else {
-                log.warn("[에이전트] 점수 하락 감지 ({}점 → {}점) — 최고 버전: v{}({}점)",
-                    bestScore, review.totalScore(), bestLetter.getVersion(), bestScore);
-            }
+                // 품질 등급 통과 (최소 반복 횟수 이후에만 적용)
+                if (iteration >= MIN_ITERATIONS && passesQualityGrade(review.grade())) {
+                    log.info("[에이전트] 품질 기준 통과! ({}등급, {}회 반복)", review.grade(), iteration);
+                    break;
+                }
+                if (iteration < MIN_ITERATIONS && passesQualityGrade(review.grade())) {
+                    log.info("[에이전트] {}등급 도달했으나 최소 반복 미달 ({}/{}) — 추가 개선 진행",
+                        review.grade(), iteration, MIN_ITERATIONS);
+                }
 
-            // 품질 등급 통과 (최소 반복 횟수 이후에만 적용)
-            if (iteration >= MIN_ITERATIONS && passesQualityGrade(review.grade())) {
-                log.info("[에이전트] 품질 기준 통과! ({}등급, {}회 반복)", review.grade(), iteration);
-                break;
-            }
-            if (iteration < MIN_ITERATIONS && passesQualityGrade(review.grade())) {
-                log.info("[에이전트] {}등급 도달했으나 최소 반복 미달 ({}/{}) — 추가 개선 진행",
-                    review.grade(), iteration, MIN_ITERATIONS);
-            }
+                // 마지막 반복이면 더 이상 개선하지 않음
+                if (iteration == MAX_ITERATIONS) {
+                    log.info("[에이전트] 최대 반복 횟수 도달 ({}회), 최고 버전(v{}, {}점)으로 확정",
+                        MAX_ITERATIONS, bestLetter.getVersion(), bestScore);
+                    break;
+                }
 
-            // 마지막 반복이면 더 이상 개선하지 않음
-            if (iteration == MAX_ITERATIONS) {
-                log.info("[에이전트] 최대 반복 횟수 도달 ({}회), 최고 버전(v{}, {}점)으로 확정",
-                    MAX_ITERATIONS, bestLetter.getVersion(), bestScore);
-                break;
+                reviewSummary = buildReviewSummary(review, lint);
+                targetedStrategy = buildTargetedStrategy(review);
             }
 
             // 개선 프롬프트 생성 및 AI 호출
             log.info("[에이전트] 개선 프롬프트 생성 → v{} 작성 중...", latest.getVersion() + 1);
             try {
-                String targetedStrategy = buildTargetedStrategy(review);
-                String reviewSummary = buildReviewSummary(review);
                 log.info("[에이전트] 타겟 전략: {}", targetedStrategy.replace("\n", " | "));
-                String improvementPrompt = promptBuilder.buildImprovementPrompt(
-                    jobPosting, experiences, questionText, currentDraft, reviewSummary, iteration, targetedStrategy,
-                    charLimit, userMessage
-                );
-                String improvedContent = enforceCharLimit(
-                    jobContext != null ? ai.generateWithContext(jobContext, improvementPrompt) : ai.generate(improvementPrompt),
-                    charLimit, ai, jobContext);
-
-                // 새 버전 저장
-                CoverLetter newVersion = CoverLetter.ofVersion(
-                    jobPosting, ai.getModelName(), improvedContent,
-                    latest.getVersion() + 1,
-                    latest.getQuestionIndex(), latest.getQuestionText()
-                );
+                // 반복마다 라우팅 — 작성 모델이 저하되면 다음 개선부터 폴백 모델 사용
+                AiPort ai = aiRouter.route(AiTask.REWRITE);
+                String improvedContent = pipelineGate.improve(() -> {
+                    String improved;
+                    if (conversation != null && !conversation.isEmpty()) {
+                        // 대화 모드: 공고/경험/이전 초안은 이력(캐시)에 있으므로 새 피드백만 보낸다
+                        String followUp = promptBuilder.buildFollowUpImprovementPrompt(
+                            reviewSummary, targetedStrategy, round, charLimit, userMessage);
+                        improved = ai.continueConversation(
+                            conversation, followUp, promptBuilder.maxOutputTokens(charLimit));
+                    } else {
+                        String improvementPrompt = promptBuilder.buildImprovementPrompt(
+                            jobPosting, experiences, questionText, reviewedDraft, reviewSummary, round,
+                            targetedStrategy, charLimit, userMessage
+                        );
+                        improved = draft(ai, conversation, jobContext, improvementPrompt, charLimit);
+                    }
+                    return enforceCharLimit(improved, charLimit, ai, jobContext);
+                });
+                recordFinalReply(conversation, improvedContent);
+
+                // 새 버전 저장 (기준본 대비 차분)
+                CoverLetter newVersion = CoverLetter.nextVersionOf(
+                    latest, ai.getModelName(), improvedContent, latest.getVersion() + 1);
                 coverLetterRepository.save(newVersion);
 
                 currentDraft = improvedContent;
                 latest = newVersion;
+                progress.publish(CoverLetterProgressEvent.ofQuestion(Stage.IMPROVED,
+                    latest.getQuestionIndex(), iteration, null,
+                    "문항 %s v%d 개선본 작성 완료".formatted(questionLabel(latest), latest.getVersion())));
             } catch (Exception e) {
                 log.error("[에이전트] {}차 개선 중 API 오류: {}", iteration, e.getMessage());
                 if (iteration < MIN_ITERATIONS) {
@@ -515,16 +858,18 @@ public class CoverLetterFacade {
             }
         }
 
+        // 한 번도 채점되지 못했으면(자동 점검 탈락 후 검토 실패) 탈락 사유를 반영한 마지막 개선본을 쓴다
+        if (bestScore < 0) {
+            return latest;
+        }
+
         // DB 최신 버전과 최고 점수 버전 일치 보장
         if (bestLetter != latest && bestScore > 0) {
             log.info("[에이전트] 최고 점수 버전(v{}, {}점)을 최종 버전(v{})으로 확정",
                 bestLetter.getVersion(), bestScore, latest.getVersion() + 1);
-            CoverLetter finalVersion = CoverLetter.ofVersion(
-                jobPosting, ai.getModelName(), bestLetter.getContent(),
-                latest.getVersion() + 1,
-                bestLetter.getQuestionIndex(), bestLetter.getQuestionText()
-            );
-            finalVersion.addReview(bestLetter.getFeedback(), bestScore);
+            CoverLetter finalVersion = CoverLetter.nextVersionOf(
+                bestLetter, bestLetter.getAiModel(), bestLetter.getContent(), latest.getVersion() + 1);
+            finalVersion.copyReviewFrom(bestLetter);
             coverLetterRepository.save(finalVersion);
             return finalVersion;
         }
@@ -532,11 +877,226 @@ public class CoverLetterFacade {
         return bestLetter;
     }
 
+    /**
+     * 문항별 경험 배정 — 문항 순서대로 검색하면서 앞 문항의 주력 경험을 뒤 문항 검색에서 제외한다.
+     * 병렬 생성 전에 한 번에 정해 두므로 실행 순서와 무관하게 항상 같은 배정이 나온다.
+     */
+    private List<List<UserExperience>> assignExperiences(JobPosting jobPosting, List<String> questionTexts) {
+        List<List<UserExperience>> assignments = new ArrayList<>();
+        Set<Long> usedPrimaryIds = new LinkedHashSet<>();
+        for (int i = 0; i < questionTexts.size(); i++) {
+            List<UserExperience> experiences = retrieveExperiencesOrFallback(
+                jobPosting, questionTexts.get(i), Set.copyOf(usedPrimaryIds));
+            UserExperience primary = getPrimaryExperience(experiences);
+            if (primary != null) {
+                usedPrimaryIds.add(primary.getId());
+            }
+            log.info("[RAG] {}번째 문항 검색된 경험 {}건, 주력 경험 ID: {}",
+                i + 1, experiences.size(), primary != null ? primary.getId() : "없음");
+            assignments.add(experiences);
+        }
+        return assignments;
+    }
+
+    /**
+     * 첫 초안 작성. best-of-n이 2 이상이면 전개 방식을 달리한 후보를 동시에 쓰고 곧바로 1차 검토까지 병렬로 받아
+     * 최고점 후보를 고른다 — 고른 후보의 대화와 검토 결과를 그대로 개선 루프에 넘겨 같은 검토를 반복하지 않는다.
+     */
+    private DraftCandidate draftFirst(AiPort ai, JobPosting jobPosting, List<UserExperience> experiences,
+                                      String jobContext, String prompt, String questionText, int charLimit,
+                                      String label) {
+        int candidateCount = Math.min(bestOfN, DRAFT_VARIANTS.size());
+        if (candidateCount <= 1) {
+            AiConversation conversation = startConversation(jobContext);
+            String content = pipelineGate.draft(() -> enforceCharLimit(
+                draft(ai, conversation, jobContext, prompt, charLimit), charLimit, ai, jobContext));
+            recordFinalReply(conversation, content);
+            return new DraftCandidate(content, conversation, null);
+        }
+
+        List<DraftCandidate> candidates = runConcurrently(candidateCount, candidateCount, "cover-letter-candidate-", i -> {
+            String variantPrompt = prompt + DRAFT_VARIANTS.get(i);
+            AiConversation conversation = startConversation(jobContext);
+            String content;
+            try {
+                content = pipelineGate.draft(() -> enforceCharLimit(
+                    draft(ai, conversation, jobContext, variantPrompt, charLimit), charLimit, ai, jobContext));
+            } catch (Exception e) {
+                log.warn("[후보] 문항 {} 후보 {} 작성 실패: {}", label, i + 1, e.getMessage());
+                return null;
+            }
+            recordFinalReply(conversation, content);
+            DraftLintResult lint = draftLinter.lint(content, jobPosting.getCompanyName(), charLimit);
+            if (lint.hasHardFailures()) {
+                // 즉시 탈락 후보는 채점해도 최하점이므로 검토 호출을 아낀다
+                log.info("[후보] 문항 {} 후보 {} 자동 점검 탈락 — 채점 생략: {}", label, i + 1, lint.violations());
+                return new DraftCandidate(content, conversation, null);
+            }
+            try {
+                ReviewResult review = pipelineGate.review(() -> reviewAgent.review(
+                    content, jobPosting, questionText, 1, experiences, charLimit));
+                return new DraftCandidate(content, conversation, review);
+            } catch (Exception e) {
+                log.warn("[후보] 문항 {} 후보 {} 채점 실패: {}", label, i + 1, e.getMessage());
+                return new DraftCandidate(content, conversation, null);
+            }
+        });
+
+        List<DraftCandidate> drafted = candidates.stream().filter(Objects::nonNull).toList();
+        if (drafted.isEmpty()) {
+            throw new IllegalStateException("문항 %s 초안 후보 %d개 모두 작성 실패".formatted(label, candidateCount));
+        }
+        DraftCandidate best = drafted.stream()
+            .max(Comparator.comparingInt(DraftCandidate::score))
+            .orElseThrow();
+        log.info("[후보] 문항 {} 초안 후보 점수 {} → {}점 후보 선택", label,
+            drafted.stream().map(DraftCandidate::score).toList(), best.score());
+        return best;
+    }
+
+    /**
+     * 문항별 작업을 제한된 가상 스레드 풀에서 동시에 실행하고 문항 순서대로 결과를 모은다.
+     * 토큰 사용량과 진행 이벤트가 같은 작업으로 모이도록 호출 스레드의 Run/수신자를 작업 스레드에 연결한다.
+     * 한 문항이라도 실패하면 나머지를 중단하고 예외를 그대로 전파한다.
+     */
+    private <R> List<R> runPerQuestion(int count, IntFunction<R> task) {
+        return runConcurrently(count, questionParallelism, "cover-letter-question-", task);
+    }
+
+    /** 최대 maxParallelism개씩 가상 스레드에서 실행하고 입력 순서대로 결과를 모은다 — 문항 체인과 초안 후보가 함께 쓴다 */
+    private <R> List<R> runConcurrently(int count, int maxParallelism, String threadPrefix, IntFunction<R> task) {
+        int parallelism = Math.min(maxParallelism, count);
+        if (parallelism <= 1) {
+            return IntStream.range(0, count).mapToObj(task).toList();
+        }
+
+        AiUsageRecorder.Run run = usageRecorder.currentRun();
+        Consumer<CoverLetterProgressEvent> listener = progress.current();
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+            parallelism, Thread.ofVirtual().name(threadPrefix, 1).factory())) {
+            List<Future<R>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    try (AiUsageRecorder.Scope usageScope = usageRecorder.bind(run);
+                         CoverLetterProgress.Scope progressScope = progress.bind(listener)) {
+                        return task.apply(index);
+                    }
+                }));
+            }
+
+            List<R> results = new ArrayList<>();
+            try {
+                for (Future<R> future : futures) {
+                    results.add(future.get());
+                }
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                throw new IllegalStateException("동시 생성 실패: " + e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("동시 생성이 중단되었습니다", e);
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 문항 하나의 첫 초안 → 검토/개선 루프를 체크포인트로 감싼다.
+     * 재개 시 최종본이 남아 있으면 그대로 쓰고, 초안만 있으면 그 초안부터 검토를 이어간다 (대화 이력은 없으므로 단발 개선).
+     */
+    private CoverLetter checkpointedQuestion(JobPosting jobPosting, int questionIndex,
+                                             Supplier<FirstDraft> drafting,
+                                             Function<FirstDraft, CoverLetter> reviewLoop) {
+        Optional<CoverLetter> finished = checkpointedLetter(jobPosting, PipelineStage.REVIEW, questionIndex);
+        if (finished.isPresent()) {
+            log.info("[재개] 문항 {} 완료본 v{} 재사용", questionIndex, finished.get().getVersion());
+            return finished.get();
+        }
+
+        FirstDraft first = checkpointedLetter(jobPosting, PipelineStage.DRAFT, questionIndex)
+            .map(letter -> {
+                log.info("[재개] 문항 {} 초안 v{}부터 검토 재개", questionIndex, letter.getVersion());
+                return new FirstDraft(letter, null, null);
+            })
+            .orElseGet(() -> checkpoints.run(jobPosting.getId(), PipelineStage.DRAFT, questionIndex,
+                drafting, draft -> letterId(draft.letter())));
+        return checkpoints.run(jobPosting.getId(), PipelineStage.REVIEW, questionIndex,
+            () -> reviewLoop.apply(first), CoverLetterFacade::letterId);
+    }
+
+    /** 현재 시도에서 체크포인트로 남긴 문항별 자소서 (다른 경로에서 지워졌으면 empty) */
+    private Optional<CoverLetter> checkpointedLetter(JobPosting jobPosting, PipelineStage stage, int questionIndex) {
+        return checkpoints.completedOutput(jobPosting.getId(), stage, questionIndex)
+            .map(Long::valueOf)
+            .flatMap(coverLetterRepository::findById);
+    }
+
+    private static String letterId(CoverLetter letter) {
+        return letter.getId() != null ? String.valueOf(letter.getId()) : null;
+    }
+
+    /** 저장된 첫 초안과 그 초안을 만든 대화/검토 결과 (재개한 초안이면 둘 다 null) */
+    private record FirstDraft(CoverLetter letter, AiConversation conversation, ReviewResult review) {}
+
+    /** 첫 초안 후보 — 본문, 그 초안을 만든 대화, 채점 결과(없으면 null) */
+    private record DraftCandidate(String content, AiConversation conversation, ReviewResult review) {
+        int score() {
+            return review != null ? review.totalScore() : -1;
+        }
+    }
+
+    private void publishQuestionCompleted(CoverLetter finalLetter) {
+        progress.publish(CoverLetterProgressEvent.ofQuestion(Stage.QUESTION_COMPLETED,
+            finalLetter.getQuestionIndex(), null, finalLetter.getReviewScore(),
+            "문항 %s 완료 — 최종 v%d, %s점".formatted(questionLabel(finalLetter), finalLetter.getVersion(),
+                finalLetter.getReviewScore() != null ? finalLetter.getReviewScore() : "-")));
+    }
+
+    private String questionLabel(CoverLetter letter) {
+        Integer qIdx = letter.getQuestionIndex();
+        return qIdx == null || qIdx == 0 ? "단일" : String.valueOf(qIdx);
+    }
+
+    private int nextVersion(JobPosting jobPosting, int questionIndex) {
+        return coverLetterRepository
+            .findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(jobPosting.getId(), questionIndex)
+            .map(cl -> cl.getVersion() + 1)
+            .orElse(1);
+    }
+
+    private AiConversation startConversation(String jobContext) {
+        return conversationMode ? AiConversation.withContext(jobContext) : null;
+    }
+
+    /** 대화 모드면 이력에 이어서, 아니면 단발 호출로 본문 생성 */
+    private String draft(AiPort ai, AiConversation conversation, String jobContext, String prompt, int charLimit) {
+        int maxTokens = promptBuilder.maxOutputTokens(charLimit);
+        if (conversation != null) {
+            return ai.continueConversation(conversation, prompt, maxTokens);
+        }
+        return jobContext != null ? ai.generateWithContext(jobContext, prompt, maxTokens) : ai.generate(prompt);
+    }
+
+    /** 글자수 보정 후 실제 저장된 본문을 이력에 남겨 다음 턴이 같은 초안을 기준으로 개선하게 한다 */
+    private void recordFinalReply(AiConversation conversation, String content) {
+        if (conversation != null) {
+            conversation.replaceLastReply(content);
+        }
+    }
+
     private boolean passesQualityGrade(String grade) {
         return QUALITY_GRADE.equals(grade) || "S".equals(grade);
     }
 
     String buildReviewSummary(ReviewResult review) {
+        return buildReviewSummary(review, null);
+    }
+
+    /** 채용팀장 피드백 뒤에 로컬 점검 결과를 덧붙인다 — LLM이 놓친 기계적 위반도 개선 프롬프트에 반드시 들어가게 한다 */
+    String buildReviewSummary(ReviewResult review, DraftLintResult lint) {
         StringBuilder sb = new StringBuilder();
         sb.append("[채용팀장 피드백]\n");
 
@@ -570,9 +1130,43 @@ public class CoverLetterFacade {
             sb.append("\n총평: ").append(review.overallComment());
         }
 
+        if (lint != null && !lint.isEmpty()) {
+            sb.append("\n\n");
+            appendLintFindings(sb, lint);
+        }
+
         return sb.toString();
     }
 
+    /** LLM 검토를 건너뛴 경우의 피드백 — 로컬 점검에서 찾은 위반만으로 개선을 요청한다 */
+    String buildLintSummary(DraftLintResult lint) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[채용팀장 피드백]\n");
+        sb.append("즉시 탈락 규칙을 위반해 서류 검토 전 단계에서 탈락했습니다.\n\n");
+        appendLintFindings(sb, lint);
+        return sb.toString();
+    }
+
+    String buildLintStrategy(DraftLintResult lint) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[가장 시급한 개선 영역]\n");
+        sb.append("아래 위반을 모두 해소하는 것이 최우선입니다. 나머지 내용은 최대한 유지하세요.\n\n");
+        for (String violation : lint.violations()) {
+            sb.append("▸ ").append(violation).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private void appendLintFindings(StringBuilder sb, DraftLintResult lint) {
+        sb.append("[자동 점검]\n");
+        for (String violation : lint.violations()) {
+            sb.append("- (탈락) ").append(violation).append("\n");
+        }
+        for (String warning : lint.warnings()) {
+            sb.append("- (감점) ").append(warning).append("\n");
+        }
+    }
+
     String buildTargetedStrategy(ReviewResult review) {
         var weakest = review.getWeakestDimensions(3);
         StringBuilder sb = new StringBuilder();
@@ -624,7 +1218,7 @@ public class CoverLetterFacade {
                     [현재 자소서 (%d자)]
                     %s""".formatted(charLimit, content.length(), content);
                 String rewritten = jobContext != null
-                    ? ai.generateWithContext(jobContext, rewritePrompt)
+                    ? ai.generateWithContext(jobContext, rewritePrompt, promptBuilder.maxOutputTokens(charLimit))
                     : ai.generate(rewritePrompt);
                 if (rewritten != null && !rewritten.isBlank() && rewritten.length() <= charLimit) {
                     log.info("[글자수] AI 재작성 성공: {}자 → {}자 (제한: {}자)",
@@ -664,17 +1258,21 @@ public class CoverLetterFacade {
 
     private Map<Integer, Integer> deserializeCharLimits(JobPosting jp) {
         Map<Integer, Integer> map = new LinkedHashMap<>();
+        for (EssayQuestion q : deserializeQuestions(jp)) {
+            map.put(q.number(), q.charLimit() > 0 ? q.charLimit() : 1000);
+        }
+        return map;
+    }
+
+    private List<EssayQuestion> deserializeQuestions(JobPosting jp) {
         String json = jp.getEssayQuestionsJson();
-        if (json == null || json.isBlank()) return map;
+        if (json == null || json.isBlank()) return List.of();
         try {
-            List<EssayQuestion> questions = objectMapper.readValue(json, new TypeReference<>() {});
-            for (EssayQuestion q : questions) {
-                map.put(q.number(), q.charLimit() > 0 ? q.charLimit() : 1000);
-            }
+            return objectMapper.readValue(json, new TypeReference<>() {});
         } catch (Exception e) {
             log.warn("essayQuestionsJson 역직렬화 실패: {}", e.getMessage());
+            return List.of();
         }
-        return map;
     }
 
     private List<UserExperience> retrieveExperiencesOrFallback(JobPosting jobPosting, String questionText) {
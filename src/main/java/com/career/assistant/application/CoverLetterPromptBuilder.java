@@ -3,6 +3,8 @@ package com.career.assistant.application;
 import com.career.assistant.domain.experience.UserExperience;
 import com.career.assistant.domain.jobposting.CompanyType;
 import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.infrastructure.ai.PromptBudgetProperties;
+import com.career.assistant.infrastructure.ai.TokenEstimator;
 import com.career.assistant.infrastructure.crawling.EssayQuestion;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,13 +30,26 @@ public class CoverLetterPromptBuilder {
         .build();
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PromptBudgetProperties budget;
+
+    public CoverLetterPromptBuilder(PromptBudgetProperties budget) {
+        this.budget = budget;
+    }
 
     /** 동일 공고 내 반복 호출 시 캐시되는 안정적 컨텍스트 (회사분석 + 채용공고) */
     public String buildJobContext(JobPosting jobPosting) {
         String companyAnalysis = buildCompanyAnalysisGuide(jobPosting);
         String tone = resolveTone(jobPosting.getCompanyType());
-
-        return """
+        String companyName = jobPosting.getCompanyName();
+
+        // 잘라낼 순서: 직무설명 원문 → 기업 분석 → 자격요건
+        return fitToBudget("공고 컨텍스트", budget.getJobContextMaxTokens(), List.of(
+            PromptTrimmer.Section.of(companyAnalysis, 2),
+            PromptTrimmer.Section.of(
+                jobPosting.getJobDescription() != null ? jobPosting.getJobDescription() : "(정보 없음)", 1),
+            PromptTrimmer.Section.of(
+                jobPosting.getRequirements() != null ? jobPosting.getRequirements() : "(정보 없음)", 3)
+        ), s -> """
             [기업 분석]
             %s
 
@@ -43,13 +59,31 @@ public class CoverLetterPromptBuilder {
             [채용공고]
             회사: %s
             직무설명: %s
-            자격요건: %s""".formatted(
-                companyAnalysis,
-                tone,
-                jobPosting.getCompanyName(),
-                jobPosting.getJobDescription() != null ? jobPosting.getJobDescription() : "(정보 없음)",
-                jobPosting.getRequirements() != null ? jobPosting.getRequirements() : "(정보 없음)"
-            );
+            자격요건: %s""".formatted(s.get(0), tone, companyName, s.get(1), s.get(2)));
+    }
+
+    /** 글자수 제한에 맞춘 출력 max_tokens — 너무 작으면 자소서가 중간에 잘리므로 여유 배수를 둔다 */
+    public int maxOutputTokens(int charLimit) {
+        int limit = charLimit > 0 ? charLimit : 1000;
+        int tokens = (int) Math.ceil(TokenEstimator.estimateForKoreanChars(limit) * budget.getOutputHeadroom());
+        return Math.max(budget.getMinOutputTokens(), Math.min(budget.getMaxOutputTokens(), tokens));
+    }
+
+    /** 예산 초과 시 우선순위 낮은 섹션부터 잘라 다시 렌더링 */
+    private String fitToBudget(String label, int maxTokens, List<PromptTrimmer.Section> sections,
+                               Function<List<String>, String> render) {
+        String prompt = render.apply(sections.stream()
+            .map(section -> section.text() != null ? section.text() : "")
+            .toList());
+        if (!budget.isEnabled()) return prompt;
+
+        int tokens = TokenEstimator.estimate(prompt);
+        if (tokens <= maxTokens) return prompt;
+
+        String fitted = render.apply(PromptTrimmer.trim(sections, tokens - maxTokens));
+        log.info("[토큰] {} 예산 초과 — 약 {} → {} 토큰 (예산: {})",
+            label, tokens, TokenEstimator.estimate(fitted), maxTokens);
+        return fitted;
     }
 
     public String build(JobPosting jobPosting, List<UserExperience> experiences) {
@@ -64,7 +98,9 @@ public class CoverLetterPromptBuilder {
         String jobRoleDirective = buildJobRoleDirective(jobPosting, experiences);
         int targetMin = (int) (charLimit * 0.9);
 
-        return """
+        return fitToBudget("자소서 작성", budget.getPromptMaxTokens(), List.of(
+            new PromptTrimmer.Section(experienceSummary, 1, 600)
+        ), s -> """
             아래 채용공고와 지원자 경험을 바탕으로, 이 회사에만 쓸 수 있는 자소서를 작성하세요.
 
             [글자수 규칙]
@@ -89,8 +125,8 @@ public class CoverLetterPromptBuilder {
                 charLimit, targetMin, charLimit,
                 jobRoleDirective,
                 charLimit,
-                experienceSummary
-            );
+                s.get(0)
+            ));
     }
 
     public String buildForQuestion(JobPosting jobPosting, List<UserExperience> experiences,
@@ -124,7 +160,13 @@ public class CoverLetterPromptBuilder {
         int charLimit = question.charLimit() > 0 ? question.charLimit() : 1000;
         int targetMin = (int) (charLimit * 0.9);
 
-        return """
+        // 잘라낼 순서: 전체 전략 → 문항 가이드 → 경험(보조 경험이 뒤에 있어 먼저 잘림)
+        return fitToBudget("문항 %d 작성".formatted(question.number()), budget.getPromptMaxTokens(), List.of(
+            PromptTrimmer.Section.of(masterPlanSection, 1),
+            PromptTrimmer.Section.of(questionGuide.isBlank()
+                ? "(분석 데이터 없음 — 채용공고에서 직접 파악하세요)" : questionGuide, 2),
+            new PromptTrimmer.Section(experienceSummary, 3, 600)
+        ), s -> """
             아래 자소서 문항에 대한 답변을 작성하세요.
 
             [글자수 규칙]
@@ -157,12 +199,12 @@ public class CoverLetterPromptBuilder {
                 charLimit,
                 question.number(),
                 question.questionText(),
-                masterPlanSection,
-                questionGuide.isBlank() ? "(분석 데이터 없음 — 채용공고에서 직접 파악하세요)" : questionGuide,
+                s.get(0),
+                s.get(1),
                 questionType,
                 typeGuide,
-                experienceSummary
-            );
+                s.get(2)
+            ));
     }
 
     public String buildImprovementPrompt(JobPosting jobPosting, List<UserExperience> experiences,
@@ -208,10 +250,9 @@ public class CoverLetterPromptBuilder {
 
         String jobRoleDirective = buildJobRoleDirective(jobPosting, allExperiences);
 
-        String userMessageSection = "";
-        if (userMessage != null && !userMessage.isBlank()) {
-            userMessageSection = "\n            [사용자 추가 지시사항]\n            " + userMessage + "\n";
-        }
+        String userMessageSection = userMessage != null && !userMessage.isBlank()
+            ? "\n            [사용자 추가 지시사항]\n            " + userMessage + "\n"
+            : "";
 
         String improvementSection;
         if (targetedStrategy != null && !targetedStrategy.isBlank()) {
@@ -230,7 +271,11 @@ public class CoverLetterPromptBuilder {
             3. 글 전체의 자연스러운 흐름을 유지하세요.""".formatted(iterationNum);
         }
 
-        return """
+        // 잘라낼 순서: 경험(보조 경험부터) → 검토 피드백. 이전 초안과 문항은 자르지 않는다
+        return fitToBudget("%d차 개선".formatted(iterationNum), budget.getPromptMaxTokens(), List.of(
+            new PromptTrimmer.Section(reviewFeedbackJson, 2, 400),
+            new PromptTrimmer.Section(experienceSummary, 1, 600)
+        ), s -> """
             당신은 채용팀장의 피드백을 받고 자소서를 개선하는 전문가입니다.
             아래의 검토 피드백을 꼼꼼히 반영하여 자소서를 개선하세요.
 
@@ -259,11 +304,39 @@ public class CoverLetterPromptBuilder {
                 userMessageSection,
                 improvementSection,
                 jobRoleDirective,
-                reviewFeedbackJson,
+                s.get(0),
                 previousDraft,
                 question != null ? question : "(단일 자소서)",
-                experienceSummary
-            );
+                s.get(1)
+            ));
+    }
+
+    /** 대화 모드 후속 개선 — 공고·경험·이전 초안은 대화 이력에 있으므로 새 피드백만 담는다 */
+    public String buildFollowUpImprovementPrompt(String reviewFeedback, String targetedStrategy,
+                                                  int iterationNum, int charLimit, String userMessage) {
+        String userMessageSection = userMessage != null && !userMessage.isBlank()
+            ? "\n[사용자 추가 지시사항]\n" + userMessage + "\n"
+            : "";
+        String strategySection = targetedStrategy != null && !targetedStrategy.isBlank()
+            ? targetedStrategy + "\n"
+            : "";
+
+        return """
+            방금 작성한 자소서를 채용팀장이 검토했습니다. 아래 피드백을 반영해 %d차 개선본을 작성하세요.
+
+            [최우선 규칙]
+            순수 텍스트만 출력. 마크다운, 소제목, 번호, 불릿 전부 금지.
+            단락 사이 빈 줄 하나로 구분. 자소서 본문만 출력.
+            반드시 %d자 이내로 작성하세요. (공백 포함, 초과 절대 금지)
+            %s
+            %s
+            [개선 원칙]
+            1. 잘 쓴 부분은 반드시 유지하거나 더 강화하세요.
+            2. 지적된 문제만 고치세요. 괜찮은 부분까지 건드리면 글이 망가집니다.
+            3. 앞서 제공된 경험 목록 밖의 내용을 추가하지 마세요.
+
+            [검토 피드백 (채용팀장)]
+            %s""".formatted(iterationNum, charLimit, userMessageSection, strategySection, reviewFeedback);
     }
 
     private String buildCompanyAnalysisGuide(JobPosting jobPosting) {
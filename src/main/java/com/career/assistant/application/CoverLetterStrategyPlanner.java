@@ -1,11 +1,14 @@
 package com.career.assistant.application;
 
+import com.career.assistant.common.AiResponseParser;
 import com.career.assistant.domain.experience.UserExperience;
 import com.career.assistant.domain.jobposting.JobPosting;
-import com.career.assistant.infrastructure.ai.AiPort;
+import com.career.assistant.infrastructure.ai.AiBatchRequest;
+import com.career.assistant.infrastructure.ai.AiBatchResult;
+import com.career.assistant.infrastructure.ai.AiRouter;
+import com.career.assistant.infrastructure.ai.AiTask;
 import com.career.assistant.infrastructure.crawling.EssayQuestion;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,10 +24,10 @@ public class CoverLetterStrategyPlanner {
         전체 자소서의 통합 전략을 JSON으로 수립합니다.
         반드시 순수 JSON만 출력하세요. 마크다운 코드블록(```) 없이.""";
 
-    private final AiPort claudeHaiku;
+    private final AiRouter aiRouter;
 
-    public CoverLetterStrategyPlanner(@Qualifier("claudeHaiku") AiPort claudeHaiku) {
-        this.claudeHaiku = claudeHaiku;
+    public CoverLetterStrategyPlanner(AiRouter aiRouter) {
+        this.aiRouter = aiRouter;
     }
 
     public String planStrategy(JobPosting jobPosting, List<EssayQuestion> questions,
@@ -36,9 +39,9 @@ public class CoverLetterStrategyPlanner {
 
         try {
             String userPrompt = buildStrategyPrompt(jobPosting, questions, allExperiences);
-            String response = claudeHaiku.generate(SYSTEM_PROMPT, userPrompt);
+            String response = aiRouter.route(AiTask.ANALYSIS).generate(SYSTEM_PROMPT, userPrompt);
 
-            String json = extractJson(response);
+            String json = AiResponseParser.extractJson(response);
             if (json != null) {
                 log.info("[전략] 통합 전략 수립 완료 — 문항 {}개, 경험 {}건",
                     questions.size(), allExperiences.size());
@@ -54,6 +57,19 @@ public class CoverLetterStrategyPlanner {
         }
     }
 
+    /** 야간 배치용 — 문항이 2개 미만이면 전략 수립을 생략하므로 null */
+    public AiBatchRequest batchRequest(String customId, JobPosting jobPosting, List<EssayQuestion> questions,
+                                       List<UserExperience> allExperiences) {
+        if (questions == null || questions.size() < 2) return null;
+        return AiBatchRequest.text(customId, aiRouter.route(AiTask.ANALYSIS).getModelName(),
+            SYSTEM_PROMPT, buildStrategyPrompt(jobPosting, questions, allExperiences));
+    }
+
+    public String readBatchResult(AiBatchResult result) {
+        if (result == null || !result.isSucceeded()) return null;
+        return AiResponseParser.extractJson(result.text());
+    }
+
     private String buildStrategyPrompt(JobPosting jobPosting, List<EssayQuestion> questions,
                                         List<UserExperience> experiences) {
         String questionsText = questions.stream()
@@ -132,25 +148,4 @@ public class CoverLetterStrategyPlanner {
                 questions.size()
             );
     }
-
-    private String extractJson(String response) {
-        if (response == null || response.isBlank()) return null;
-
-        String trimmed = response.strip();
-
-        if (trimmed.startsWith("```")) {
-            int endIdx = trimmed.lastIndexOf("```");
-            if (endIdx > 3) {
-                trimmed = trimmed.substring(trimmed.indexOf('\n') + 1, endIdx).strip();
-            }
-        }
-
-        int firstBrace = trimmed.indexOf('{');
-        int lastBrace = trimmed.lastIndexOf('}');
-        if (firstBrace >= 0 && lastBrace > firstBrace) {
-            return trimmed.substring(firstBrace, lastBrace + 1);
-        }
-
-        return null;
-    }
 }
@@ -0,0 +1,85 @@
+package com.career.assistant.application;
+
+import com.career.assistant.domain.pipeline.PipelineLog;
+import com.career.assistant.domain.pipeline.PipelineLogRepository;
+import com.career.assistant.domain.pipeline.PipelineStage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 파이프라인 단계 체크포인트 기록/조회 (pipeline_log).
+ * 한 번의 시도는 가장 최근 CRAWL 기록부터 시작한다 — 새로 크롤링하면 이전 시도의 산출물은 재개에 쓰지 않는다.
+ * 기록 실패는 파이프라인을 막지 않는다 (재개 정보가 없으면 해당 단계를 다시 수행할 뿐이다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineCheckpoints {
+
+    private final PipelineLogRepository repository;
+
+    /** 단계를 실행하고 소요 시간과 결과를 남긴다. 실패도 기록한 뒤 예외를 그대로 던진다. */
+    public <T> T run(Long jobId, PipelineStage stage, Integer questionIndex,
+                     Supplier<T> work, Function<T, String> output) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = work.get();
+        } catch (RuntimeException e) {
+            save(PipelineLog.failed(jobId, stage, questionIndex, e.getMessage(), elapsedMillis(start)));
+            throw e;
+        }
+        save(PipelineLog.succeeded(jobId, stage, questionIndex,
+            result != null ? output.apply(result) : null, elapsedMillis(start)));
+        return result;
+    }
+
+    /** 현재 시도에서 해당 단계가 성공했는지 */
+    public boolean isCompleted(Long jobId, PipelineStage stage) {
+        return currentAttempt(jobId).stream()
+            .anyMatch(entry -> entry.getStage() == stage && entry.isSucceeded());
+    }
+
+    /** 현재 시도에서 성공한 단계의 산출물 (없거나 산출물이 비어 있으면 empty) */
+    public Optional<String> completedOutput(Long jobId, PipelineStage stage, Integer questionIndex) {
+        return currentAttempt(jobId).stream()
+            .filter(entry -> entry.getStage() == stage && entry.isSucceeded())
+            .filter(entry -> Objects.equals(entry.getQuestionIndex(), questionIndex))
+            .map(PipelineLog::getOutput)
+            .filter(Objects::nonNull)
+            .reduce((first, second) -> second);
+    }
+
+    private List<PipelineLog> currentAttempt(Long jobId) {
+        try {
+            return repository.findTopByJobIdAndStageOrderByIdDesc(jobId, PipelineStage.CRAWL)
+                .map(crawl -> repository.findByJobIdAndIdGreaterThanEqualOrderByIdAsc(jobId, crawl.getId()))
+                .orElse(List.of());
+        } catch (Exception e) {
+            log.warn("[체크포인트] 공고 {} 기록 조회 실패 — 처음부터 수행: {}", jobId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void save(PipelineLog entry) {
+        try {
+            repository.save(entry);
+            log.debug("[체크포인트] 공고 {} {}{} {} ({}ms)", entry.getJobId(), entry.getStage(),
+                entry.getQuestionIndex() != null ? "#" + entry.getQuestionIndex() : "",
+                entry.getStatus(), entry.getDurationMs());
+        } catch (Exception e) {
+            log.warn("[체크포인트] 공고 {} {} 기록 실패: {}", entry.getJobId(), entry.getStage(), e.getMessage());
+        }
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
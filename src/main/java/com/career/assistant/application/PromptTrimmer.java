@@ -0,0 +1,73 @@
+package com.career.assistant.application;
+
+import com.career.assistant.infrastructure.ai.TokenEstimator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 프롬프트 섹션을 우선순위가 낮은 것부터 잘라 초과 토큰만큼 줄인다.
+ * 섹션은 줄/문장 경계에서 자르고, minChars 이하로는 줄이지 않는다.
+ */
+final class PromptTrimmer {
+
+    static final String OMITTED = "\n(이하 생략)";
+
+    /** priority가 낮을수록 먼저 잘린다 */
+    record Section(String text, int priority, int minChars) {
+
+        static Section of(String text, int priority) {
+            return new Section(text, priority, 0);
+        }
+    }
+
+    private PromptTrimmer() {
+    }
+
+    /** 섹션 순서를 유지한 채 잘린 텍스트 목록을 반환 */
+    static List<String> trim(List<Section> sections, int overflowTokens) {
+        List<String> result = new ArrayList<>(sections.stream()
+            .map(s -> s.text() != null ? s.text() : "")
+            .toList());
+
+        List<Integer> order = IntStream.range(0, sections.size()).boxed()
+            .sorted(Comparator.comparingInt(i -> sections.get(i).priority()))
+            .toList();
+
+        int remaining = overflowTokens;
+        for (int i : order) {
+            if (remaining <= 0) break;
+            String text = result.get(i);
+            int minChars = sections.get(i).minChars();
+            if (text.length() <= minChars) continue;
+
+            int tokens = TokenEstimator.estimate(text);
+            int targetTokens = Math.max(0, tokens - remaining);
+            int targetChars = Math.max(minChars, (int) ((long) text.length() * targetTokens / Math.max(1, tokens)));
+            String cut = cutAtBoundary(text, targetChars);
+
+            remaining -= tokens - TokenEstimator.estimate(cut);
+            result.set(i, cut);
+        }
+        return result;
+    }
+
+    static String cutAtBoundary(String text, int maxChars) {
+        if (text.length() <= maxChars) return text;
+        if (maxChars <= 0) return "";
+
+        int floor = (int) (maxChars * 0.6);
+        int boundary = -1;
+        for (int i = maxChars - 1; i >= floor; i--) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '.' || c == '!' || c == '?' || c == '。') {
+                boundary = i + 1;
+                break;
+            }
+        }
+        String head = text.substring(0, boundary > 0 ? boundary : maxChars).stripTrailing();
+        return head + OMITTED;
+    }
+}
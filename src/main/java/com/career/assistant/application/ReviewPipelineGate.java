@@ -0,0 +1,57 @@
+package com.career.assistant.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 문항별 작성→검토→개선 체인의 단계별 동시 실행 수 제한.
+ * 문항 체인들이 단계 사이를 흘러가며 파이프라인을 이룬다 — 문항 N이 검토(Haiku)를 기다리는 동안
+ * 문항 N+1의 초안(Sonnet)이 진행되므로 작성 모델과 검토 모델이 서로를 기다리며 놀지 않는다.
+ * 단계마다 상한을 두어 문항이 많아도 한 모델에 요청이 몰리지 않게 한다.
+ */
+@Component
+public class ReviewPipelineGate {
+
+    private final Semaphore draftPermits;
+    private final Semaphore reviewPermits;
+    private final Semaphore improvePermits;
+
+    public ReviewPipelineGate(
+        @Value("${ai.review-loop.stage-concurrency.draft:2}") int draft,
+        @Value("${ai.review-loop.stage-concurrency.review:3}") int review,
+        @Value("${ai.review-loop.stage-concurrency.improve:2}") int improve
+    ) {
+        this.draftPermits = new Semaphore(Math.max(1, draft), true);
+        this.reviewPermits = new Semaphore(Math.max(1, review), true);
+        this.improvePermits = new Semaphore(Math.max(1, improve), true);
+    }
+
+    public <T> T draft(Supplier<T> work) {
+        return run(draftPermits, "초안", work);
+    }
+
+    public <T> T review(Supplier<T> work) {
+        return run(reviewPermits, "검토", work);
+    }
+
+    public <T> T improve(Supplier<T> work) {
+        return run(improvePermits, "개선", work);
+    }
+
+    private <T> T run(Semaphore permits, String stage, Supplier<T> work) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(stage + " 단계 대기 중 중단되었습니다", e);
+        }
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
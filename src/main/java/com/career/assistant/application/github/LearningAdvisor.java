@@ -1,8 +1,10 @@
 package com.career.assistant.application.github;
 
 import com.career.assistant.domain.github.GitHubActivity;
+import com.career.assistant.infrastructure.ai.AiOutputSchema;
 import com.career.assistant.infrastructure.ai.AiPort;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -55,6 +57,77 @@ public class LearningAdvisor {
         gaps는 최대 3개, todayTasks 3개, problems 2개, quizzes 3개, blogTopic 1개를 생성하세요.
         """;
 
+    private static final AiOutputSchema RECOMMENDATION_SCHEMA = AiOutputSchema.of(
+        "submit_learning_plan",
+        "학습 공백 분석과 오늘의 학습 추천(할 일, 코테 문제, CS 퀴즈, 블로그 주제)을 제출한다.",
+        """
+        {
+          "type": "object",
+          "properties": {
+            "gaps": {
+              "type": "array", "maxItems": 3,
+              "items": {
+                "type": "object",
+                "properties": {
+                  "topic": {"type": "string"},
+                  "gapDays": {"type": "integer"},
+                  "severity": {"type": "string", "enum": ["긴급", "주의", "양호"]},
+                  "reason": {"type": "string"}
+                },
+                "required": ["topic", "gapDays", "severity", "reason"]
+              }
+            },
+            "todayTasks": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {
+                  "category": {"type": "string", "enum": ["코테", "CS", "블로그"]},
+                  "action": {"type": "string"},
+                  "reason": {"type": "string"}
+                },
+                "required": ["category", "action", "reason"]
+              }
+            },
+            "problems": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {
+                  "platform": {"type": "string"},
+                  "number": {"type": "string"},
+                  "title": {"type": "string"},
+                  "type": {"type": "string"},
+                  "difficulty": {"type": "string"},
+                  "url": {"type": "string"}
+                },
+                "required": ["platform", "number", "title", "type", "difficulty", "url"]
+              }
+            },
+            "quizzes": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {
+                  "topic": {"type": "string"},
+                  "question": {"type": "string"},
+                  "options": {"type": "array", "items": {"type": "string"}, "minItems": 4, "maxItems": 4},
+                  "answer": {"type": "integer", "minimum": 0, "maximum": 3},
+                  "explanation": {"type": "string"}
+                },
+                "required": ["topic", "question", "options", "answer", "explanation"]
+              }
+            },
+            "blogTopic": {
+              "type": "object",
+              "properties": {"title": {"type": "string"}, "outline": {"type": "string"}},
+              "required": ["title", "outline"]
+            }
+          },
+          "required": ["gaps", "todayTasks", "problems", "quizzes", "blogTopic"]
+        }
+        """);
+
     public LearningAdvisor(
         @Qualifier("claudeHaiku") AiPort claude,
         GitHubAnalyzer gitHubAnalyzer,
@@ -75,7 +148,7 @@ public class LearningAdvisor {
 
         String userPrompt = buildUserPrompt(activities);
         log.info("Requesting learning analysis from Claude...");
-        String response = claude.generate(SYSTEM_PROMPT, userPrompt);
+        JsonNode response = claude.generateStructured(SYSTEM_PROMPT, null, userPrompt, RECOMMENDATION_SCHEMA);
         log.info("Received learning analysis response");
 
         return parseResponse(response);
@@ -114,47 +187,17 @@ public class LearningAdvisor {
             """.formatted(activityData, solvedSection);
     }
 
-    private LearningRecommendation parseResponse(String response) {
-        String json = extractJson(response);
-
-        if (json == null) {
-            log.warn("Failed to extract JSON from AI response. Response preview: {}",
-                response.substring(0, Math.min(300, response.length())));
-            throw new RuntimeException("AI 응답에서 유효한 JSON을 추출할 수 없습니다. 다시 시도해주세요.");
-        }
-
+    private LearningRecommendation parseResponse(JsonNode response) {
         try {
-            return objectMapper.readValue(json, LearningRecommendation.class);
+            return objectMapper.treeToValue(response, LearningRecommendation.class);
         } catch (JsonProcessingException e) {
+            String json = response.toString();
             log.warn("Failed to parse learning recommendation JSON: {}. JSON preview: {}",
                 e.getMessage(), json.substring(0, Math.min(300, json.length())));
             throw new RuntimeException("AI 응답 파싱 실패. 다시 시도해주세요.", e);
         }
     }
 
-    private String extractJson(String response) {
-        if (response == null || response.isBlank()) return null;
-
-        String trimmed = response.strip();
-
-        // 마크다운 코드블록 제거
-        if (trimmed.startsWith("```")) {
-            int endIdx = trimmed.lastIndexOf("```");
-            if (endIdx > 3) {
-                trimmed = trimmed.substring(trimmed.indexOf('\n') + 1, endIdx).strip();
-            }
-        }
-
-        // 가장 바깥 { ... } 블록 추출
-        int firstBrace = trimmed.indexOf('{');
-        int lastBrace = trimmed.lastIndexOf('}');
-        if (firstBrace >= 0 && lastBrace > firstBrace) {
-            return trimmed.substring(firstBrace, lastBrace + 1);
-        }
-
-        return null;
-    }
-
     public static class NoActivityDataException extends RuntimeException {
         public NoActivityDataException(String message) {
             super(message);
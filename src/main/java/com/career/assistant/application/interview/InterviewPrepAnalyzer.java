@@ -1,10 +1,11 @@
 package com.career.assistant.application.interview;
 
-import com.career.assistant.common.AiResponseParser;
 import com.career.assistant.domain.experience.UserExperience;
 import com.career.assistant.domain.experience.UserExperienceRepository;
 import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.infrastructure.ai.AiOutputSchema;
 import com.career.assistant.infrastructure.ai.AiPort;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -40,6 +41,64 @@ public class InterviewPrepAnalyzer {
         - 반드시 순수 JSON만 출력하세요. 마크다운 코드블록(```) 없이 JSON만 출력하세요.
         - 모든 내용은 한국어로 작성""";
 
+    private static final AiOutputSchema INTERVIEW_PREP_SCHEMA = AiOutputSchema.of(
+        "submit_interview_prep",
+        "면접 예상 질문(인성/직무·기술/경험)과 코딩테스트 준비 가이드를 제출한다.",
+        """
+        {
+          "type": "object",
+          "properties": {
+            "behavioralQuestions": {
+              "type": "array", "maxItems": 3,
+              "items": {
+                "type": "object",
+                "properties": {"question": {"type": "string"}, "intent": {"type": "string"}, "answerGuide": {"type": "string"}},
+                "required": ["question", "intent", "answerGuide"]
+              }
+            },
+            "technicalQuestions": {
+              "type": "array", "maxItems": 3,
+              "items": {
+                "type": "object",
+                "properties": {"question": {"type": "string"}, "intent": {"type": "string"}, "answerGuide": {"type": "string"}},
+                "required": ["question", "intent", "answerGuide"]
+              }
+            },
+            "experienceQuestions": {
+              "type": "array", "maxItems": 3,
+              "items": {
+                "type": "object",
+                "properties": {"question": {"type": "string"}, "intent": {"type": "string"}, "answerGuide": {"type": "string"}},
+                "required": ["question", "intent", "answerGuide"]
+              }
+            },
+            "codingTestPrep": {
+              "type": "object",
+              "properties": {
+                "hasCodingTest": {"type": "boolean"},
+                "testFormat": {"type": "string"},
+                "keyTopics": {"type": "array", "items": {"type": "string"}},
+                "practiceProblems": {
+                  "type": "array",
+                  "items": {
+                    "type": "object",
+                    "properties": {
+                      "title": {"type": "string"},
+                      "difficulty": {"type": "string"},
+                      "topic": {"type": "string"},
+                      "description": {"type": "string"}
+                    },
+                    "required": ["title", "difficulty", "topic", "description"]
+                  }
+                }
+              },
+              "required": ["hasCodingTest"]
+            }
+          },
+          "required": ["behavioralQuestions", "technicalQuestions", "experienceQuestions", "codingTestPrep"]
+        }
+        """);
+
     private final AiPort claudeHaiku;
     private final UserExperienceRepository userExperienceRepository;
     private final ObjectMapper objectMapper;
@@ -59,7 +118,7 @@ public class InterviewPrepAnalyzer {
         log.info("[면접준비] AI 분석 요청 — {} (모델: {})", jobPosting.getCompanyName(), claudeHaiku.getModelName());
 
         try {
-            String response = claudeHaiku.generate(SYSTEM_PROMPT, userPrompt);
+            JsonNode response = claudeHaiku.generateStructured(SYSTEM_PROMPT, null, userPrompt, INTERVIEW_PREP_SCHEMA);
             log.info("[면접준비] AI 응답 수신 — {}", jobPosting.getCompanyName());
             return parseResponse(response);
         } catch (Exception e) {
@@ -115,23 +174,16 @@ public class InterviewPrepAnalyzer {
             );
     }
 
-    private InterviewPrepResult parseResponse(String response) {
-        if (response == null || response.isBlank()) {
+    private InterviewPrepResult parseResponse(JsonNode response) {
+        if (response == null || !response.isObject()) {
             throw new RuntimeException("면접 준비 분석 응답이 비어있습니다.");
         }
 
-        String json = AiResponseParser.extractJson(response);
-        if (json == null) {
-            String preview = response.substring(0, Math.min(300, response.length()));
-            log.warn("[면접준비] JSON 추출 실패. 응답 미리보기: {}", preview);
-            throw new RuntimeException("면접 준비 분석 응답에서 유효한 JSON을 추출할 수 없습니다.");
-        }
-
         try {
-            return objectMapper.readValue(json, InterviewPrepResult.class);
+            return objectMapper.treeToValue(response, InterviewPrepResult.class);
         } catch (Exception e) {
-            String preview = json.substring(0, Math.min(300, json.length()));
-            log.warn("[면접준비] JSON 파싱 실패: {}. 미리보기: {}", e.getMessage(), preview);
+            String json = response.toString();
+            log.warn("[면접준비] JSON 파싱 실패: {}. 미리보기: {}", e.getMessage(), json.substring(0, Math.min(300, json.length())));
             throw new RuntimeException("면접 준비 분석 응답 파싱 실패.", e);
         }
     }
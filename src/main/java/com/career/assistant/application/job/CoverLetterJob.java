@@ -0,0 +1,150 @@
+package com.career.assistant.application.job;
+
+import com.career.assistant.domain.coverletter.CoverLetter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 자소서 생성 작업 하나의 상태와 진행 이력.
+ * 늦게 구독한 수신자도 지난 이벤트를 순서대로 받도록 발행/구독을 하나의 전달 큐로 직렬화한다.
+ */
+@Slf4j
+@Getter
+public class CoverLetterJob {
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String url;
+    private final Integer employmentId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile List<Long> coverLetterIds = List.of();
+    private final List<CoverLetterProgressEvent> events = new ArrayList<>();
+    @Getter(AccessLevel.NONE)
+    private final List<Consumer<CoverLetterProgressEvent>> listeners = new CopyOnWriteArrayList<>();
+    /** 락 밖에서 순서대로 실행할 전달 작업 — 먼저 들어온 스레드가 비울 때까지 처리한다 */
+    @Getter(AccessLevel.NONE)
+    private final Deque<Runnable> deliveries = new ArrayDeque<>();
+    @Getter(AccessLevel.NONE)
+    private boolean delivering;
+    private final CompletableFuture<List<CoverLetter>> completion = new CompletableFuture<>();
+
+    CoverLetterJob(String url, Integer employmentId) {
+        this.url = url;
+        this.employmentId = employmentId;
+    }
+
+    public synchronized List<CoverLetterProgressEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+
+    /** 지난 이벤트를 먼저 재생한 뒤 이후 이벤트를 받도록 등록한다 — 이미 끝난 작업이면 재생만 한다 */
+    public void subscribe(Consumer<CoverLetterProgressEvent> listener) {
+        List<CoverLetterProgressEvent> replay;
+        synchronized (this) {
+            replay = List.copyOf(events);
+            deliveries.add(() -> {
+                for (CoverLetterProgressEvent event : replay) {
+                    if (!deliver(listener, event)) return;
+                }
+                if (replay.stream().noneMatch(CoverLetterProgressEvent::isTerminal)) {
+                    listeners.add(listener);
+                }
+            });
+        }
+        drainDeliveries();
+    }
+
+    public void unsubscribe(Consumer<CoverLetterProgressEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 문항별 생성 스레드에서 동시에 호출된다. 이벤트 기록만 락 안에서 하고, 수신자 호출(텔레그램 전송, SSE 전송)은
+     * 락 밖에서 한다 — 느린 수신자가 다른 문항 스레드의 발행을 막지 않는다.
+     */
+    public void publish(CoverLetterProgressEvent event) {
+        synchronized (this) {
+            events.add(event);
+            deliveries.add(() -> {
+                for (Consumer<CoverLetterProgressEvent> listener : listeners) {
+                    deliver(listener, event);
+                }
+                if (event.isTerminal()) {
+                    listeners.clear();
+                }
+            });
+        }
+        drainDeliveries();
+    }
+
+    /** 전달 작업은 한 번에 한 스레드만 실행해 수신자마다 발행 순서가 유지된다 */
+    private void drainDeliveries() {
+        synchronized (this) {
+            if (delivering) return;
+            delivering = true;
+        }
+        while (true) {
+            Runnable next;
+            synchronized (this) {
+                next = deliveries.poll();
+                if (next == null) {
+                    delivering = false;
+                    return;
+                }
+            }
+            next.run();
+        }
+    }
+
+    private boolean deliver(Consumer<CoverLetterProgressEvent> listener, CoverLetterProgressEvent event) {
+        try {
+            listener.accept(event);
+            return true;
+        } catch (Exception e) {
+            log.warn("[작업] {} 진행 이벤트 전달 실패 — 구독 해제: {}", id, e.getMessage());
+            listeners.remove(listener);
+            return false;
+        }
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    void succeed(List<CoverLetter> coverLetters) {
+        coverLetterIds = coverLetters.stream().map(CoverLetter::getId).toList();
+        finishedAt = LocalDateTime.now();
+        status = Status.SUCCEEDED;
+        publish(CoverLetterProgressEvent.of(CoverLetterProgressEvent.Stage.COMPLETED,
+            "자소서 생성 완료 (문항 %d개)".formatted(coverLetters.size())));
+        completion.complete(coverLetters);
+    }
+
+    void fail(Throwable cause) {
+        error = cause.getMessage();
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+        publish(CoverLetterProgressEvent.of(CoverLetterProgressEvent.Stage.FAILED,
+            "자소서 생성 실패: " + cause.getMessage()));
+        completion.completeExceptionally(cause);
+    }
+}
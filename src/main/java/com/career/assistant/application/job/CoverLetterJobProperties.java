@@ -0,0 +1,23 @@
+package com.career.assistant.application.job;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비동기 자소서 생성 작업 설정.
+ * 요청 스레드(HTTP, 텔레그램)는 작업 ID만 받고 즉시 반환하며, 실제 생성은 전용 실행기에서 동시에 처리한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cover-letter-job")
+public class CoverLetterJobProperties {
+    /** 동시에 처리할 최대 공고 수 — 초과분은 대기열에서 순서대로 실행 */
+    private int concurrency = 3;
+    /** 끝난 작업을 조회용으로 보관하는 기간 */
+    private Duration retention = Duration.ofHours(6);
+    /** SSE 연결 최대 유지 시간 */
+    private Duration sseTimeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,98 @@
+package com.career.assistant.application.job;
+
+import com.career.assistant.application.CoverLetterFacade;
+import com.career.assistant.domain.coverletter.CoverLetter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 자소서 생성을 작업으로 접수해 전용 실행기에서 처리한다.
+ * 작업 스레드에 진행 수신자를 연결해 두면 파이프라인이 발행하는 이벤트가 해당 작업의 구독자(SSE, 텔레그램)에게 전달된다.
+ */
+@Slf4j
+@Service
+public class CoverLetterJobService {
+
+    private final CoverLetterFacade coverLetterFacade;
+    private final CoverLetterProgress progress;
+    private final CoverLetterJobProperties properties;
+    private final Map<String, CoverLetterJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public CoverLetterJobService(CoverLetterFacade coverLetterFacade,
+                                 CoverLetterProgress progress,
+                                 CoverLetterJobProperties properties) {
+        this.coverLetterFacade = coverLetterFacade;
+        this.progress = progress;
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(
+            Math.max(1, properties.getConcurrency()),
+            Thread.ofVirtual().name("cover-letter-job-", 1).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public CoverLetterJob submit(String url, Integer employmentId) {
+        return submit(url, employmentId, null);
+    }
+
+    /** 작업을 접수하고 즉시 반환한다. listener는 실행 전에 구독되어 첫 이벤트부터 받는다. */
+    public CoverLetterJob submit(String url, Integer employmentId, Consumer<CoverLetterProgressEvent> listener) {
+        evictExpired();
+        CoverLetterJob job = new CoverLetterJob(url, employmentId);
+        if (listener != null) {
+            job.subscribe(listener);
+        }
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job));
+        log.info("[작업] 자소서 생성 작업 접수 - {} ({})", job.getId(), url);
+        return job;
+    }
+
+    public Optional<CoverLetterJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public long getSseTimeoutMillis() {
+        return properties.getSseTimeout().toMillis();
+    }
+
+    private void run(CoverLetterJob job) {
+        job.markRunning();
+        try (CoverLetterProgress.Scope ignored = progress.bind(job::publish)) {
+            List<CoverLetter> coverLetters = coverLetterFacade.generateFromUrl(job.getUrl(), job.getEmploymentId());
+            job.succeed(coverLetters);
+            log.info("[작업] 자소서 생성 작업 완료 - {} (문항 {}개)", job.getId(), coverLetters.size());
+        } catch (Exception e) {
+            log.error("[작업] 자소서 생성 작업 실패 - {} ({})", job.getId(), job.getUrl(), e);
+            job.fail(e);
+        }
+    }
+
+    private void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,55 @@
+package com.career.assistant.application.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 현재 스레드에서 진행 중인 자소서 작업의 진행 이벤트 수신자.
+ * 작업 스레드가 {@link #bind(Consumer)}로 연결하면 파이프라인 곳곳의 {@link #publish}가 그 작업으로 전달되고,
+ * 연결이 없으면(동기 API, 스케줄러 등) 아무 일도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class CoverLetterProgress {
+
+    private final ThreadLocal<Consumer<CoverLetterProgressEvent>> listener = new ThreadLocal<>();
+
+    /** 현재 스레드의 수신자 (없으면 null) — 작업을 다른 스레드로 넘길 때 {@link #bind(Consumer)}와 함께 사용 */
+    public Consumer<CoverLetterProgressEvent> current() {
+        return listener.get();
+    }
+
+    /** 현재 스레드에 수신자를 연결한다. 반환된 Scope를 닫으면 이전 수신자로 되돌린다. */
+    public Scope bind(Consumer<CoverLetterProgressEvent> target) {
+        Consumer<CoverLetterProgressEvent> previous = listener.get();
+        if (target != null) {
+            listener.set(target);
+        }
+        return () -> {
+            if (previous != null) {
+                listener.set(previous);
+            } else {
+                listener.remove();
+            }
+        };
+    }
+
+    /** 수신자 오류는 생성 흐름에 영향을 주지 않도록 로그만 남긴다 */
+    public void publish(CoverLetterProgressEvent event) {
+        Consumer<CoverLetterProgressEvent> target = listener.get();
+        if (target == null) return;
+        try {
+            target.accept(event);
+        } catch (Exception e) {
+            log.warn("[진행] 진행 이벤트 전달 실패 ({}): {}", event.stage(), e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
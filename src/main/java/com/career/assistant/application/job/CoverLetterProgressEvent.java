@@ -0,0 +1,42 @@
+package com.career.assistant.application.job;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자소서 생성 진행 이벤트 — SSE와 텔레그램으로 그대로 전달된다.
+ * 문항 단위 이벤트는 questionIndex/iteration/score를 채우고, 공고 단위 이벤트는 null로 둔다.
+ */
+public record CoverLetterProgressEvent(
+    Stage stage,
+    Integer questionIndex,
+    Integer iteration,
+    Integer score,
+    String message,
+    LocalDateTime occurredAt
+) {
+
+    public enum Stage {
+        CRAWLING,
+        ANALYZING,
+        PLANNING,
+        DRAFTED,
+        REVIEWED,
+        IMPROVED,
+        QUESTION_COMPLETED,
+        COMPLETED,
+        FAILED
+    }
+
+    public static CoverLetterProgressEvent of(Stage stage, String message) {
+        return new CoverLetterProgressEvent(stage, null, null, null, message, LocalDateTime.now());
+    }
+
+    public static CoverLetterProgressEvent ofQuestion(Stage stage, Integer questionIndex, Integer iteration,
+                                                      Integer score, String message) {
+        return new CoverLetterProgressEvent(stage, questionIndex, iteration, score, message, LocalDateTime.now());
+    }
+
+    public boolean isTerminal() {
+        return stage == Stage.COMPLETED || stage == Stage.FAILED;
+    }
+}
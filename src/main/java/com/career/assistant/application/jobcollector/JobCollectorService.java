@@ -1,51 +1,79 @@
 package com.career.assistant.application.jobcollector;
 
+import com.career.assistant.domain.crawling.CrawlCursor;
+import com.career.assistant.domain.crawling.CrawlCursorRepository;
 import com.career.assistant.domain.jobposting.JobPosting;
 import com.career.assistant.domain.jobposting.JobPostingRepository;
 import com.career.assistant.infrastructure.crawling.JobListingItem;
 import com.career.assistant.infrastructure.crawling.JobSiteCrawler;
+import com.career.assistant.infrastructure.crawling.PageStop;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 public class JobCollectorService {
 
+    /** 목록(사람인은 키워드별 목록)마다 다음 수집의 기준으로 남기는 상단 URL 수 */
+    private static final int CURSOR_URLS_PER_LIST = 5;
+
     private final List<JobSiteCrawler> crawlers;
     private final JobPostingRepository jobPostingRepository;
+    private final CrawlCursorRepository cursorRepository;
     private final JobCollectorMessageFormatter messageFormatter;
     private final List<String> keywords;
     private final int maxPages;
+    private final long siteTimeoutSeconds;
+    private final int catchUpMaxPages;
 
     public JobCollectorService(
         List<JobSiteCrawler> crawlers,
         JobPostingRepository jobPostingRepository,
+        CrawlCursorRepository cursorRepository,
         JobCollectorMessageFormatter messageFormatter,
         @Value("${job-collector.keywords:백엔드,Java,Spring,서버,금융,증권,핀테크}") String keywordsCsv,
-        @Value("${job-collector.max-pages:3}") int maxPages
+        @Value("${job-collector.max-pages:3}") int maxPages,
+        @Value("${job-collector.site-timeout-seconds:180}") long siteTimeoutSeconds,
+        @Value("${job-collector.catch-up-max-pages:10}") int catchUpMaxPages
     ) {
         this.crawlers = crawlers;
         this.jobPostingRepository = jobPostingRepository;
+        this.cursorRepository = cursorRepository;
         this.messageFormatter = messageFormatter;
         this.keywords = Arrays.stream(keywordsCsv.split(","))
             .map(String::trim)
             .map(String::toLowerCase)
             .toList();
         this.maxPages = maxPages;
+        this.siteTimeoutSeconds = siteTimeoutSeconds;
+        this.catchUpMaxPages = catchUpMaxPages;
     }
 
-    @Transactional
+    /**
+     * 사이트별 크롤링은 동시에 실행하고, 저장/중복 판정은 크롤러 등록 순서대로 한 스레드에서 처리한다.
+     * 제한 시간 안에 끝나지 않거나 실패한 사이트는 건너뛰고 나머지 사이트 결과만 저장한다.
+     * 최신순 목록을 주는 사이트는 지난 수집 위치(커서)에 닿으면 페이지 넘김을 멈춘다.
+     */
     public List<JobPosting> collectNewPostings() {
+        List<SiteRun> runs = fetchAllSites();
+
         List<JobPosting> newPostings = new ArrayList<>();
 
         // 기존 DB 공고의 회사명+제목 조합을 미리 로드 (크로스 플랫폼 중복 감지용)
@@ -57,15 +85,14 @@ public class JobCollectorService {
         // 이번 수집에서 새로 추가된 것도 중복 체크에 포함
         Set<String> sessionKeys = new HashSet<>(existingKeys);
 
-        for (JobSiteCrawler crawler : crawlers) {
+        for (SiteRun run : runs) {
+            JobSiteCrawler crawler = run.crawler;
             int siteNew = 0;
             try {
-                log.info("[수집] {} 크롤링 시작", crawler.getSiteName());
-                List<JobListingItem> listings = crawler.fetchListings(maxPages);
-
-                for (JobListingItem item : listings) {
+                Set<String> savedUrls = existingUrls(run.listings);
+                for (JobListingItem item : run.listings) {
                     if (!matchesKeywords(item)) continue;
-                    if (jobPostingRepository.existsByUrl(item.url())) continue;
+                    if (!savedUrls.add(item.url())) continue;
 
                     // 크로스 플랫폼 중복: 회사명+제목이 유사한 공고가 이미 존재하면 건너뜀
                     String dedupKey = normalizeForDedup(item.companyName(), item.title());
@@ -79,15 +106,16 @@ public class JobCollectorService {
                     JobPosting posting = JobPosting.fromCollected(
                         item.url(), item.companyName(), item.title(), deadline
                     );
-                    jobPostingRepository.save(posting);
-                    newPostings.add(posting);
+                    newPostings.add(jobPostingRepository.save(posting));
                     sessionKeys.add(dedupKey);
                     siteNew++;
                 }
 
                 log.info("[수집] {} 완료 — 신규 {}건", crawler.getSiteName(), siteNew);
+                // 저장까지 끝난 사이트만 커서를 옮긴다 — 중간에 실패하면 다음 수집이 같은 구간을 다시 읽는다
+                advanceCursor(run);
             } catch (Exception e) {
-                log.error("[수집] {} 크롤링 실패", crawler.getSiteName(), e);
+                log.error("[수집] {} 저장 실패", crawler.getSiteName(), e);
             }
         }
 
@@ -95,6 +123,157 @@ public class JobCollectorService {
         return newPostings;
     }
 
+    /**
+     * 모든 사이트를 가상 스레드로 동시에 크롤링한다. 제한 시간은 수집 시작 시점부터 공통으로 적용되므로
+     * 전체 소요 시간은 가장 느린 사이트(최대 제한 시간)에 맞춰진다.
+     * 반환 순서는 크롤러 등록 순서를 따른다 — 중복 판정에서 먼저 등록된 사이트가 우선한다.
+     */
+    private List<SiteRun> fetchAllSites() {
+        Map<SiteRun, Future<List<JobListingItem>>> futures = new LinkedHashMap<>();
+        List<SiteRun> completed = new ArrayList<>();
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("job-collector-", 1).factory());
+        try {
+            for (JobSiteCrawler crawler : crawlers) {
+                SiteRun run = startRun(crawler);
+                futures.put(run, executor.submit(() -> {
+                    log.info("[수집] {} 크롤링 시작 (최대 {}페이지{})", crawler.getSiteName(), run.pages,
+                        run.cursor != null && run.cursor.isCatchUp() ? ", 따라잡기" : "");
+                    long start = System.currentTimeMillis();
+                    List<JobListingItem> listings = fetch(run);
+                    log.info("[수집] {} 크롤링 완료 — {}건 ({}ms)",
+                        crawler.getSiteName(), listings.size(), System.currentTimeMillis() - start);
+                    return listings;
+                }));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(siteTimeoutSeconds);
+            for (Map.Entry<SiteRun, Future<List<JobListingItem>>> entry : futures.entrySet()) {
+                String siteName = entry.getKey().crawler.getSiteName();
+                try {
+                    long remaining = Math.max(0, deadline - System.nanoTime());
+                    entry.getKey().listings = entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                    completed.add(entry.getKey());
+                } catch (TimeoutException e) {
+                    entry.getValue().cancel(true);
+                    log.warn("[수집] {} 크롤링 시간 초과({}초) — 이번 수집에서 제외", siteName, siteTimeoutSeconds);
+                } catch (ExecutionException e) {
+                    log.error("[수집] {} 크롤링 실패", siteName, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("[수집] 크롤링 대기 중 인터럽트 — 수집된 사이트까지만 저장");
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return completed;
+    }
+
+    private SiteRun startRun(JobSiteCrawler crawler) {
+        if (!crawler.supportsIncremental() && !crawler.supportsIdCursor()) {
+            return new SiteRun(crawler, null, maxPages);
+        }
+        CrawlCursor cursor = cursorRepository.findById(crawler.getSiteName())
+            .orElseGet(() -> CrawlCursor.of(crawler.getSiteName()));
+        return new SiteRun(crawler, cursor, cursor.isCatchUp() ? catchUpMaxPages : maxPages);
+    }
+
+    private List<JobListingItem> fetch(SiteRun run) {
+        if (run.cursor == null) {
+            return run.crawler.fetchListings(run.pages);
+        }
+        return run.crawler.supportsIdCursor()
+            ? run.crawler.fetchListingsAfter(run.pages, run.cursor)
+            : run.crawler.fetchListings(run.pages, run);
+    }
+
+    /**
+     * 순번형 ID 사이트는 크롤러가 확인을 마친 ID까지 옮겨 둔 최고 수위를 그대로 저장한다.
+     * 기준 URL에 닿았으면 이번 상단 URL로 기준을 옮긴다. 닿지 못했으면 그 사이에 읽지 못한 공고가 있을 수 있으므로
+     * 기준을 유지한 채 다음 수집을 따라잡기(더 많은 페이지)로 돌린다. 따라잡기에서도 닿지 못하면
+     * 기준 공고가 목록에서 내려간 것으로 보고 새 기준으로 다시 시작한다.
+     */
+    private void advanceCursor(SiteRun run) {
+        CrawlCursor cursor = run.cursor;
+        if (cursor == null) return;
+        if (run.crawler.supportsIdCursor()) {
+            if (cursor.getLastId() != null) cursorRepository.save(cursor);
+            return;
+        }
+        if (run.topUrls.isEmpty()) return;
+
+        String siteName = run.crawler.getSiteName();
+        if (run.reachedAll() || cursor.lastUrlSet().isEmpty()) {
+            cursor.moveTo(run.topUrls);
+        } else if (!cursor.isCatchUp()) {
+            log.warn("[수집] {} — {}페이지 안에 지난 수집 위치에 닿지 못함, 다음 수집에서 최대 {}페이지까지 따라잡기",
+                siteName, run.pages, catchUpMaxPages);
+            cursor.startCatchUp();
+        } else {
+            log.warn("[수집] {} — 따라잡기에서도 지난 수집 위치를 찾지 못해 기준을 다시 잡음", siteName);
+            cursor.moveTo(run.topUrls);
+        }
+        cursorRepository.save(cursor);
+    }
+
+    private Set<String> existingUrls(List<JobListingItem> listings) {
+        if (listings.isEmpty()) return new HashSet<>();
+        List<String> urls = listings.stream().map(JobListingItem::url).distinct().toList();
+        return new HashSet<>(jobPostingRepository.findExistingUrls(urls));
+    }
+
+    /**
+     * 사이트 하나의 이번 수집 상태. 크롤러 스레드에서 페이지마다 {@code reached}가 호출되고,
+     * 결과는 Future 완료 이후에 수집 스레드가 읽는다.
+     */
+    private final class SiteRun implements PageStop {
+        private final JobSiteCrawler crawler;
+        /** 증분 수집을 지원하지 않는 사이트는 null */
+        private final CrawlCursor cursor;
+        private final int pages;
+        private final Set<String> cursorUrls;
+        private final List<String> topUrls = new ArrayList<>();
+        private int listsStarted;
+        private int listsReached;
+        private List<JobListingItem> listings = List.of();
+
+        private SiteRun(JobSiteCrawler crawler, CrawlCursor cursor, int pages) {
+            this.crawler = crawler;
+            this.cursor = cursor;
+            this.pages = pages;
+            this.cursorUrls = cursor != null ? cursor.lastUrlSet() : Set.of();
+        }
+
+        @Override
+        public boolean reached(int page, List<JobListingItem> pageItems) {
+            if (page == 1) {
+                listsStarted++;
+                pageItems.stream().limit(CURSOR_URLS_PER_LIST).map(JobListingItem::url).forEach(topUrls::add);
+            }
+            if (pageItems.isEmpty()) return false;
+
+            // 지난 기준 URL을 만났거나, 페이지의 키워드 일치 공고가 모두 이미 저장돼 있으면 그 뒤는 이전 수집 구간이다
+            // (키워드가 맞지 않는 공고는 저장하지 않으므로 비교에서 뺀다 — 일치 공고가 없는 페이지로는 판단하지 않는다)
+            List<JobListingItem> matching = pageItems.stream()
+                .filter(JobCollectorService.this::matchesKeywords)
+                .toList();
+            boolean hit = pageItems.stream().anyMatch(item -> cursorUrls.contains(item.url()))
+                || (!matching.isEmpty()
+                    && existingUrls(matching).containsAll(matching.stream().map(JobListingItem::url).toList()));
+            if (hit) {
+                listsReached++;
+            }
+            return hit;
+        }
+
+        /** 목록이 여럿이면(사람인 키워드별 목록) 모든 목록이 이전 구간에 닿아야 빈 구간이 없다 */
+        private boolean reachedAll() {
+            return listsStarted > 0 && listsReached >= listsStarted;
+        }
+    }
+
     /**
      * 크로스 플랫폼 중복 감지를 위한 정규화 키 생성.
      * 회사명+제목에서 공백/특수문자를 제거하고 소문자로 변환.
@@ -0,0 +1,25 @@
+package com.career.assistant.application.jobcollector;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 수집 공고 백그라운드 선분석 설정.
+ * FETCHED 공고를 마감 임박 순으로 미리 크롤링/회사 분석해 두어 사용자가 요청하면 초안 작성부터 시작하게 한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "posting-preparation")
+public class PostingPreparationProperties {
+    private boolean enabled = false;
+    private String cron = "0 */30 8-23 * * *";
+    /** 동시에 선분석할 최대 공고 수 */
+    private int concurrency = 2;
+    /** 하루 최대 선분석 공고 수 */
+    private int dailyMaxPostings = 15;
+    /** 하루 선분석 토큰 상한 (input + cache_creation + output) — 넘으면 다음 날까지 새 공고를 꺼내지 않는다 */
+    private long dailyTokenBudget = 400_000;
+    /** 선분석 실패가 이 횟수에 닿은 공고는 대기열에서 제외 */
+    private int maxAttempts = 3;
+}
@@ -0,0 +1,227 @@
+package com.career.assistant.application.jobcollector;
+
+import com.career.assistant.application.CoverLetterFacade;
+import com.career.assistant.domain.jobposting.DailyPreparationUsage;
+import com.career.assistant.domain.jobposting.DailyPreparationUsageRepository;
+import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.domain.jobposting.JobPostingRepository;
+import com.career.assistant.domain.jobposting.PipelineStatus;
+import com.career.assistant.infrastructure.ai.AiUsageRecorder;
+import com.career.assistant.infrastructure.ai.AiUsageSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수집 공고(FETCHED) 선분석 대기열.
+ * 대기열 자체는 공고 테이블의 상태다 — FETCHED이고 실패 횟수가 상한 미만인 공고를 마감 임박 순, 같은 마감이면 적합도 순으로 꺼내
+ * 제한된 동시성으로 크롤링/분류/회사 분석까지 수행하고 ANALYZED로 저장한다. 재시작해도 남은 공고는 다음 실행에서 이어진다.
+ * 하루 공고 수와 토큰 상한을 넘으면 남은 공고는 다음 날로 미룬다 (진행 중인 공고만큼은 상한을 넘을 수 있다).
+ * 하루 사용량은 테이블에 누적하므로 재시작해도 상한이 처음부터 다시 시작되지 않는다.
+ */
+@Slf4j
+@Service
+public class PostingPreparationService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final JobPostingRepository jobPostingRepository;
+    private final DailyPreparationUsageRepository usageRepository;
+    private final CoverLetterFacade coverLetterFacade;
+    private final AiUsageRecorder usageRecorder;
+    private final PostingPreparationProperties properties;
+    private final List<String> keywords;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private DailyPreparationUsage usageToday;
+
+    public record Summary(int candidates, int prepared, int failed, boolean budgetExhausted) {}
+
+    public PostingPreparationService(
+        JobPostingRepository jobPostingRepository,
+        DailyPreparationUsageRepository usageRepository,
+        CoverLetterFacade coverLetterFacade,
+        AiUsageRecorder usageRecorder,
+        PostingPreparationProperties properties,
+        @Value("${job-collector.keywords:백엔드,Java,Spring,서버,금융,증권,핀테크}") String keywordsCsv
+    ) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.usageRepository = usageRepository;
+        this.coverLetterFacade = coverLetterFacade;
+        this.usageRecorder = usageRecorder;
+        this.properties = properties;
+        this.keywords = Arrays.stream(keywordsCsv.split(","))
+            .map(String::trim)
+            .map(String::toLowerCase)
+            .toList();
+    }
+
+    public Summary runOnce() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[선분석] 이전 실행이 아직 진행 중 — 이번 실행 생략");
+            return new Summary(0, 0, 0, false);
+        }
+        try {
+            return drain();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Summary drain() {
+        int remaining = remainingPostingsToday();
+        if (remaining <= 0) {
+            DailyPreparationUsage usage = usageSnapshot();
+            log.info("[선분석] 오늘 상한 도달 — 공고 {}건, 토큰 {}", usage.getPreparedCount(), usage.getTokens());
+            return new Summary(0, 0, 0, true);
+        }
+
+        List<JobPosting> queue = selectCandidates(remaining);
+        if (queue.isEmpty()) {
+            log.debug("[선분석] 대기 중인 공고 없음");
+            return new Summary(0, 0, 0, false);
+        }
+        log.info("[선분석] 시작 — 대상 {}건 (동시 {}건)", queue.size(), properties.getConcurrency());
+
+        AtomicInteger prepared = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicBoolean exhausted = new AtomicBoolean();
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, properties.getConcurrency()), Thread.ofVirtual().name("posting-preparation-", 1).factory())) {
+            for (JobPosting posting : queue) {
+                executor.submit(() -> {
+                    // 꺼낸 뒤 사용자가 먼저 요청했을 수 있으므로 최신 상태로 다시 확인
+                    JobPosting latest = jobPostingRepository.findById(posting.getId())
+                        .filter(JobPosting::needsCrawling)
+                        .orElse(null);
+                    if (latest == null) {
+                        log.info("[선분석] 이미 처리 중인 공고 — 건너뜀: {}", posting.getUrl());
+                        return;
+                    }
+                    if (!tryReserve()) {
+                        exhausted.set(true);
+                        return;
+                    }
+                    if (prepare(latest)) {
+                        prepared.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        Summary summary = new Summary(queue.size(), prepared.get(), failed.get(), exhausted.get());
+        DailyPreparationUsage usage = usageSnapshot();
+        log.info("[선분석] 완료 — {} (오늘 누적 공고 {}건, 토큰 {})", summary, usage.getPreparedCount(), usage.getTokens());
+        return summary;
+    }
+
+    private boolean prepare(JobPosting posting) {
+        try (AiUsageRecorder.Run run = usageRecorder.startRun("공고 선분석: " + posting.getUrl())) {
+            try {
+                JobPosting analyzed = coverLetterFacade.preAnalyze(posting);
+                if (analyzed.getCompanyAnalysis() == null) {
+                    // 분석은 실패해도 예외 없이 넘어오므로 여기서 실패로 센다 — 사용자 요청 시 분석부터 다시 한다
+                    log.warn("[선분석] 회사 분석 없음 — 실패로 기록: {}", posting.getUrl());
+                    recordFailure(analyzed);
+                    return false;
+                }
+                log.info("[선분석] {} — {} (마감 {})", analyzed.getStatus(), analyzed.getCompanyName(), analyzed.getDeadline());
+                return true;
+            } catch (Exception e) {
+                log.warn("[선분석] 실패 — {} ({})", posting.getUrl(), e.getMessage());
+                recordFailure(posting);
+                return false;
+            } finally {
+                charge(run.summarize());
+            }
+        }
+    }
+
+    /** 실패 횟수 기록은 최선 노력 — 최신 상태를 다시 읽어 갱신하고, 충돌하면 다음 실행에서 다시 시도된다 */
+    private void recordFailure(JobPosting posting) {
+        try {
+            jobPostingRepository.findById(posting.getId()).ifPresent(latest -> {
+                latest.recordPreparationFailure();
+                jobPostingRepository.save(latest);
+            });
+        } catch (Exception e) {
+            log.warn("[선분석] 공고 {} 실패 횟수 저장 실패: {}", posting.getId(), e.getMessage());
+        }
+    }
+
+    /** 마감이 지나지 않은 FETCHED 공고를 마감 임박 순(마감일 없는 공고는 뒤로), 같은 마감이면 키워드 적합도 순으로 */
+    private List<JobPosting> selectCandidates(int limit) {
+        LocalDate today = LocalDate.now(KST);
+        return jobPostingRepository
+            .findByStatusAndPreparationAttemptsLessThan(PipelineStatus.FETCHED, properties.getMaxAttempts()).stream()
+            .filter(p -> p.getDeadline() == null || !p.getDeadline().isBefore(today))
+            .sorted(Comparator.comparing(JobPosting::getDeadline, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Comparator.comparingInt(this::fitScore).reversed()))
+            .limit(limit)
+            .toList();
+    }
+
+    /** 수집 단계에는 회사명과 제목뿐이므로 수집 키워드가 몇 개 걸리는지로 적합도를 가늠한다 */
+    int fitScore(JobPosting posting) {
+        String text = ((posting.getCompanyName() != null ? posting.getCompanyName() : "") + " "
+            + (posting.getJobDescription() != null ? posting.getJobDescription() : "")).toLowerCase();
+        return (int) keywords.stream().filter(text::contains).count();
+    }
+
+    private synchronized int remainingPostingsToday() {
+        DailyPreparationUsage usage = usageToday();
+        if (usage.getTokens() >= properties.getDailyTokenBudget()) return 0;
+        return properties.getDailyMaxPostings() - usage.getPreparedCount();
+    }
+
+    private synchronized boolean tryReserve() {
+        DailyPreparationUsage usage = usageToday();
+        if (usage.getPreparedCount() >= properties.getDailyMaxPostings()
+            || usage.getTokens() >= properties.getDailyTokenBudget()) {
+            return false;
+        }
+        usage.addPosting();
+        persist(usage);
+        return true;
+    }
+
+    private synchronized void charge(AiUsageSummary summary) {
+        DailyPreparationUsage usage = usageToday();
+        usage.addTokens(summary.inputTokens() + summary.cacheCreationInputTokens() + summary.outputTokens());
+        persist(usage);
+    }
+
+    private synchronized DailyPreparationUsage usageSnapshot() {
+        return usageToday();
+    }
+
+    /** 날짜가 바뀌었거나 재시작 직후면 오늘 사용량을 테이블에서 다시 읽는다 */
+    private DailyPreparationUsage usageToday() {
+        LocalDate today = LocalDate.now(KST);
+        if (usageToday == null || !today.equals(usageToday.getUsageDate())) {
+            usageToday = usageRepository.findById(today).orElseGet(() -> DailyPreparationUsage.of(today));
+        }
+        return usageToday;
+    }
+
+    /** 저장은 최선 노력 — 실패해도 메모리의 누적값으로 오늘 상한은 계속 지킨다 */
+    private void persist(DailyPreparationUsage usage) {
+        try {
+            usageToday = usageRepository.save(usage);
+        } catch (Exception e) {
+            log.warn("[선분석] 오늘 사용량 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -4,10 +4,12 @@ import com.career.assistant.application.github.LearningRecommendation.DailyTask;
 import com.career.assistant.common.GitHubRepoRegistry;
 import com.career.assistant.domain.kpt.KptRecord;
 import com.career.assistant.domain.kpt.KptRecordRepository;
+import com.career.assistant.infrastructure.ai.AiOutputSchema;
 import com.career.assistant.infrastructure.ai.AiPort;
 import com.career.assistant.infrastructure.github.GitHubClient;
 import com.career.assistant.infrastructure.github.GitHubCommit;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -54,6 +56,23 @@ public class KptAnalyzer {
         }
         """;
 
+    private static final AiOutputSchema KPT_SCHEMA = AiOutputSchema.of(
+        "submit_kpt",
+        "오늘의 KPT(Keep/Problem/Try) 회고와 달성률을 제출한다.",
+        """
+        {
+          "type": "object",
+          "properties": {
+            "keep": {"type": "array", "items": {"type": "string"}},
+            "problem": {"type": "array", "items": {"type": "string"}},
+            "try": {"type": "array", "items": {"type": "string"}},
+            "comment": {"type": "string"},
+            "completionRate": {"type": "integer", "minimum": 0, "maximum": 100}
+          },
+          "required": ["keep", "problem", "try", "comment", "completionRate"]
+        }
+        """);
+
     private final AiPort claude;
     private final ObjectMapper objectMapper;
     private final KptRecordRepository kptRecordRepository;
@@ -83,7 +102,7 @@ public class KptAnalyzer {
 
         String userPrompt = buildUserPrompt(todayActivity, todayTasks);
         log.info("Requesting KPT analysis from Claude...");
-        String response = claude.generate(KPT_SYSTEM_PROMPT, userPrompt);
+        JsonNode response = claude.generateStructured(KPT_SYSTEM_PROMPT, null, userPrompt, KPT_SCHEMA);
         log.info("Received KPT analysis response");
 
         KptResult result = parseResponse(response);
@@ -158,50 +177,22 @@ public class KptAnalyzer {
             """.formatted(tasksData, todayActivity);
     }
 
-    private KptResult parseResponse(String response) {
-        if (response == null || response.isBlank()) {
-            log.warn("KPT analysis returned null or blank response");
+    private KptResult parseResponse(JsonNode response) {
+        if (response == null || !response.isObject()) {
+            log.warn("KPT analysis returned null or non-object response");
             throw new RuntimeException("KPT 분석 응답이 비어있습니다.");
         }
 
-        String json = extractJson(response);
-
-        if (json == null) {
-            String preview = response.substring(0, Math.min(300, response.length()));
-            log.warn("Failed to extract JSON from KPT response. Response preview: {}", preview);
-            throw new RuntimeException("KPT 분석 응답에서 유효한 JSON을 추출할 수 없습니다.");
-        }
-
         try {
-            return objectMapper.readValue(json, KptResult.class);
+            return objectMapper.treeToValue(response, KptResult.class);
         } catch (JsonProcessingException e) {
-            String preview = json.substring(0, Math.min(300, json.length()));
-            log.warn("Failed to parse KPT JSON: {}. JSON preview: {}", e.getMessage(), preview);
+            String json = response.toString();
+            log.warn("Failed to parse KPT JSON: {}. JSON preview: {}",
+                e.getMessage(), json.substring(0, Math.min(300, json.length())));
             throw new RuntimeException("KPT 분석 응답 파싱 실패.", e);
         }
     }
 
-    private String extractJson(String response) {
-        if (response == null || response.isBlank()) return null;
-
-        String trimmed = response.strip();
-
-        if (trimmed.startsWith("```")) {
-            int endIdx = trimmed.lastIndexOf("```");
-            if (endIdx > 3) {
-                trimmed = trimmed.substring(trimmed.indexOf('\n') + 1, endIdx).strip();
-            }
-        }
-
-        int firstBrace = trimmed.indexOf('{');
-        int lastBrace = trimmed.lastIndexOf('}');
-        if (firstBrace >= 0 && lastBrace > firstBrace) {
-            return trimmed.substring(firstBrace, lastBrace + 1);
-        }
-
-        return null;
-    }
-
     private String toJson(List<String> items) {
         try {
             return objectMapper.writeValueAsString(items != null ? items : List.of());
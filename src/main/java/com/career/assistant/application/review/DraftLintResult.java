@@ -0,0 +1,24 @@
+package com.career.assistant.application.review;
+
+import java.util.List;
+
+/**
+ * 로컬 규칙 점검 결과.
+ * violations는 시스템 프롬프트의 즉시 탈락 규칙 위반으로, 하나라도 있으면 LLM 검토 없이 바로 개선으로 넘긴다.
+ * warnings는 감점 요인으로 검토 피드백에 덧붙인다.
+ */
+public record DraftLintResult(
+    List<String> violations,
+    List<String> warnings,
+    int numberCount,
+    int properNounCount
+) {
+
+    public boolean hasHardFailures() {
+        return !violations.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return violations.isEmpty() && warnings.isEmpty();
+    }
+}
@@ -0,0 +1,139 @@
+package com.career.assistant.application.review;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 검토 전에 도는 로컬 규칙 점검.
+ * 시스템 프롬프트의 즉시 탈락 규칙(금지 표현, 같은 어미 3회 연속, 글자수 초과, 수치 없음)은 기계적으로 판별되므로
+ * 여기서 걸러 검토 호출 한 번을 아낀다. 모든 패턴은 한 번만 컴파일해 초안마다 한 번씩 훑는다.
+ */
+@Component
+public class DraftLinter {
+
+    /** ClaudeAdapter 시스템 프롬프트 [금지 표현]과 같은 목록 */
+    static final List<String> FORBIDDEN_PHRASES = List.of(
+        "의미 있다고 생각합니다", "깊이 있는 이해", "기여하겠습니다", "극대화하겠습니다",
+        "활용될 수 있습니다", "중요성을 깨달았습니다", "더 나아가", "무엇보다",
+        "소중한 경험", "값진 교훈", "뜻깊은 시간"
+    );
+
+    /** [키워드 전략]의 수동적 표현 — 탈락은 아니지만 감점 */
+    static final List<String> PASSIVE_PHRASES = List.of(
+        "하게 되었습니다", "할 수 있었습니다", "에 참여했습니다"
+    );
+
+    private static final int MAX_SAME_ENDING_RUN = 3;
+    private static final int ENDING_LENGTH = 4;
+    private static final int MIN_PROPER_NOUNS = 2;
+
+    private static final Pattern FORBIDDEN = alternation(FORBIDDEN_PHRASES);
+    private static final Pattern PASSIVE = alternation(PASSIVE_PHRASES);
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?])\\s+|\\n+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s.!?\"'”’)\\]]+$");
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:[.,]\\d+)*");
+    /** 한글 문서 속 영문/숫자 혼합 토큰(제품명, 기술명, 약어)을 고유명사 후보로 본다 */
+    private static final Pattern LATIN_TERM = Pattern.compile("(?<![A-Za-z0-9])[A-Za-z][A-Za-z0-9+#.\\-]*[A-Za-z0-9+#](?![A-Za-z0-9])");
+
+    public DraftLintResult lint(String draft, String companyName, int charLimit) {
+        List<String> violations = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+        if (draft == null || draft.isBlank()) {
+            return new DraftLintResult(List.of("본문이 비어 있음"), List.of(), 0, 0);
+        }
+
+        Set<String> forbidden = findAll(FORBIDDEN, draft);
+        if (!forbidden.isEmpty()) {
+            violations.add("금지 표현 사용: " + quoteAll(forbidden));
+        }
+
+        String repeatedEnding = findRepeatedEnding(draft);
+        if (repeatedEnding != null) {
+            violations.add("같은 어미 '%s' %d회 이상 연속".formatted(repeatedEnding, MAX_SAME_ENDING_RUN));
+        }
+
+        if (charLimit > 0 && draft.length() > charLimit) {
+            violations.add("글자수 초과 (%d자 / 제한 %d자)".formatted(draft.length(), charLimit));
+        }
+
+        int numberCount = count(NUMBER, draft);
+        if (numberCount == 0) {
+            violations.add("정량 수치 없음 — 숫자로 된 성과가 하나도 없음");
+        }
+
+        Set<String> passive = findAll(PASSIVE, draft);
+        if (!passive.isEmpty()) {
+            warnings.add("수동적 표현: " + quoteAll(passive));
+        }
+
+        int properNounCount = count(LATIN_TERM, draft);
+        boolean mentionsCompany = companyName != null && !companyName.isBlank() && draft.contains(companyName);
+        if (mentionsCompany) {
+            properNounCount++;
+        } else if (companyName != null && !companyName.isBlank()) {
+            warnings.add("회사명(%s) 미언급".formatted(companyName));
+        }
+        if (properNounCount < MIN_PROPER_NOUNS) {
+            warnings.add("고유명사(제품/시스템/기술명) 부족 — %d개".formatted(properNounCount));
+        }
+
+        if (charLimit > 0 && draft.length() < charLimit / 2) {
+            warnings.add("분량 부족 (%d자 / 제한 %d자)".formatted(draft.length(), charLimit));
+        }
+
+        return new DraftLintResult(List.copyOf(violations), List.copyOf(warnings), numberCount, properNounCount);
+    }
+
+    /** 문장 끝 어절의 마지막 네 글자를 어미로 보고, 같은 어미가 연속 3회 이상이면 그 어미를 반환 */
+    String findRepeatedEnding(String draft) {
+        String previous = null;
+        int run = 0;
+        for (String sentence : SENTENCE_BOUNDARY.split(draft)) {
+            String trimmed = TRAILING_PUNCTUATION.matcher(sentence).replaceAll("");
+            if (trimmed.isBlank()) continue;
+
+            int lastSpace = trimmed.lastIndexOf(' ');
+            String lastWord = trimmed.substring(lastSpace + 1);
+            String ending = lastWord.substring(Math.max(0, lastWord.length() - ENDING_LENGTH));
+
+            run = ending.equals(previous) ? run + 1 : 1;
+            previous = ending;
+            if (run >= MAX_SAME_ENDING_RUN) {
+                return ending;
+            }
+        }
+        return null;
+    }
+
+    private static Pattern alternation(List<String> phrases) {
+        return Pattern.compile(String.join("|", phrases.stream().map(Pattern::quote).toList()));
+    }
+
+    private static Set<String> findAll(Pattern pattern, String text) {
+        Set<String> found = new LinkedHashSet<>();
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            found.add(matcher.group());
+        }
+        return found;
+    }
+
+    private static int count(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String quoteAll(Set<String> phrases) {
+        return String.join(", ", phrases.stream().map(p -> "\"" + p + "\"").toList());
+    }
+}
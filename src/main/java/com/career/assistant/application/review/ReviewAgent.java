@@ -1,12 +1,15 @@
 package com.career.assistant.application.review;
 
+import com.career.assistant.common.AiResponseParseException;
 import com.career.assistant.domain.experience.UserExperience;
 import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.infrastructure.ai.AiOutputSchema;
 import com.career.assistant.infrastructure.ai.AiPort;
+import com.career.assistant.infrastructure.ai.AiRouter;
+import com.career.assistant.infrastructure.ai.AiTask;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -76,15 +79,42 @@ public class ReviewAgent {
           "overallComment": "총평 2~3문장. 마지막: 면접 초대 여부: YES/NO — (근거)"
         }""";
 
-    private final AiPort claudeHaiku;
-    private final AiPort claudeSonnet;
+    private static final AiOutputSchema REVIEW_SCHEMA = AiOutputSchema.of(
+        "submit_review",
+        "자소서 검토 결과(9개 항목 점수, 치명적 문제, 개선안, 총평)를 제출한다.",
+        """
+        {
+          "type": "object",
+          "properties": {
+            "scores": {
+              "type": "object",
+              "properties": {
+                "answerRelevance": {"type": "integer", "minimum": 0, "maximum": 100},
+                "jobFit": {"type": "integer", "minimum": 0, "maximum": 100},
+                "orgFit": {"type": "integer", "minimum": 0, "maximum": 100},
+                "specificity": {"type": "integer", "minimum": 0, "maximum": 100},
+                "authenticity": {"type": "integer", "minimum": 0, "maximum": 100},
+                "aiDetectionRisk": {"type": "integer", "minimum": 0, "maximum": 100},
+                "logicalStructure": {"type": "integer", "minimum": 0, "maximum": 100},
+                "keywordUsage": {"type": "integer", "minimum": 0, "maximum": 100},
+                "experienceConsistency": {"type": "integer", "minimum": 0, "maximum": 100}
+              },
+              "required": ["answerRelevance", "jobFit", "orgFit", "specificity", "authenticity",
+                           "aiDetectionRisk", "logicalStructure", "keywordUsage", "experienceConsistency"]
+            },
+            "violations": {"type": "array", "items": {"type": "string"}, "maxItems": 3},
+            "improvements": {"type": "array", "items": {"type": "string"}},
+            "overallComment": {"type": "string"}
+          },
+          "required": ["scores", "violations", "improvements", "overallComment"]
+        }
+        """);
+
+    private final AiRouter aiRouter;
     private final ObjectMapper objectMapper;
 
-    public ReviewAgent(@Qualifier("claudeHaiku") AiPort claudeHaiku,
-                       @Qualifier("claudeSonnet") AiPort claudeSonnet,
-                       ObjectMapper objectMapper) {
-        this.claudeHaiku = claudeHaiku;
-        this.claudeSonnet = claudeSonnet;
+    public ReviewAgent(AiRouter aiRouter, ObjectMapper objectMapper) {
+        this.aiRouter = aiRouter;
         this.objectMapper = objectMapper;
     }
 
@@ -98,13 +128,16 @@ public class ReviewAgent {
                                int charLimit) {
         String jobContext = buildJobContext(jobPosting);
         String userPrompt = buildReviewPrompt(draft, jobPosting, question, iterationNum, providedExperiences, charLimit);
-        // 1차 리뷰는 Sonnet (개선 방향 결정), 2차+ Haiku (확인 점검)
-        AiPort reviewer = (iterationNum == 1) ? claudeSonnet : claudeHaiku;
+        // 1차 리뷰는 개선 방향 결정(REVIEW), 2차+ 확인 점검(RECHECK) — 모델은 라우팅 규칙이 결정
+        AiPort reviewer = aiRouter.route(iterationNum == 1 ? AiTask.REVIEW : AiTask.RECHECK);
 
         log.info("[에이전트] {}차 검토 — 모델: {}", iterationNum, reviewer.getModelName());
         try {
-            String response = reviewer.generate(REVIEWER_SYSTEM_PROMPT, jobContext, userPrompt);
-            return parseReviewResponse(response);
+            JsonNode root = reviewer.generateStructured(REVIEWER_SYSTEM_PROMPT, jobContext, userPrompt, REVIEW_SCHEMA);
+            return parseReviewResponse(root);
+        } catch (AiResponseParseException e) {
+            log.warn("[에이전트] 검토 결과 JSON 파싱 실패, 폴백 적용: {}", e.getMessage());
+            return ReviewResult.fallback();
         } catch (Exception e) {
             throw new ReviewGenerationException(
                 "리뷰 생성 실패 (%d차, 모델: %s)".formatted(iterationNum, reviewer.getModelName()), e);
@@ -185,11 +218,8 @@ public class ReviewAgent {
             );
     }
 
-    private ReviewResult parseReviewResponse(String response) {
+    private ReviewResult parseReviewResponse(JsonNode root) {
         try {
-            String json = extractJson(response);
-            JsonNode root = objectMapper.readTree(json);
-
             JsonNode scoresNode = root.path("scores");
             if (scoresNode.isMissingNode() || !scoresNode.isObject()) {
                 log.warn("[에이전트] 검토 결과에 scores 객체 없음 — 폴백 적용");
@@ -215,38 +245,14 @@ public class ReviewAgent {
             int totalScore = ReviewResult.calculateTotalScore(scores);
             String grade = ReviewResult.resolveGrade(totalScore);
 
-            return new ReviewResult(scores, totalScore, grade, violations, improvements, overallComment, json);
+            return new ReviewResult(scores, totalScore, grade, violations, improvements, overallComment,
+                objectMapper.writeValueAsString(root));
         } catch (Exception e) {
             log.warn("[에이전트] 검토 결과 JSON 파싱 실패, 폴백 적용: {}", e.getMessage());
             return ReviewResult.fallback();
         }
     }
 
-    private String extractJson(String response) {
-        String cleaned = response.trim();
-
-        // 마크다운 코드 펜스 제거
-        if (cleaned.startsWith("```")) {
-            int firstNewline = cleaned.indexOf('\n');
-            if (firstNewline > 0) {
-                cleaned = cleaned.substring(firstNewline + 1);
-            }
-            if (cleaned.endsWith("```")) {
-                cleaned = cleaned.substring(0, cleaned.length() - 3);
-            }
-            cleaned = cleaned.trim();
-        }
-
-        // { ~ } 추출
-        int start = cleaned.indexOf('{');
-        int end = cleaned.lastIndexOf('}');
-        if (start >= 0 && end > start) {
-            return cleaned.substring(start, end + 1);
-        }
-
-        return cleaned;
-    }
-
     private List<String> parseStringArray(JsonNode node) {
         List<String> list = new ArrayList<>();
         if (node != null && node.isArray()) {
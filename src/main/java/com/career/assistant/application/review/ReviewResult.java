@@ -1,5 +1,7 @@
 package com.career.assistant.application.review;
 
+import com.career.assistant.domain.coverletter.ReviewScores;
+
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -78,6 +80,16 @@ public record ReviewResult(
         return map;
     }
 
+    /** 자소서 버전에 함께 저장할 항목별 점수 */
+    public ReviewScores toReviewScores() {
+        return ReviewScores.of(
+            scores.answerRelevance, scores.jobFit, scores.orgFit, scores.specificity,
+            scores.authenticity, scores.aiDetectionRisk, scores.logicalStructure,
+            scores.keywordUsage, scores.experienceConsistency,
+            grade, overallComment, improvements
+        );
+    }
+
     public static ReviewResult fallback() {
         Scores scores = new Scores(50, 50, 50, 50, 50, 50, 50, 50, 80);
         int total = calculateTotalScore(scores);
@@ -0,0 +1,82 @@
+package com.career.assistant.application.review;
+
+import com.career.assistant.domain.coverletter.CoverLetter;
+import com.career.assistant.domain.coverletter.CoverLetterRepository;
+import com.career.assistant.domain.coverletter.ReviewScores;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 항목별 점수 컬럼이 생기기 전에 저장된 검토 결과를 기동 시 한 번 채운다.
+ * 이후 점수 추이/비교 조회는 피드백 JSON을 읽지 않으므로, 채우지 않은 행은 항목 점수 없이 총점만 보인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewScoreBackfill {
+
+    private final CoverLetterRepository coverLetterRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<CoverLetter> pending = coverLetterRepository.findReviewedWithoutScores();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int filled = 0;
+        for (CoverLetter letter : pending) {
+            ReviewScores scores = parse(letter);
+            if (scores != null && letter.getReviewScore() != null) {
+                letter.addReview(letter.getFeedback(), letter.getReviewScore(), scores);
+                filled++;
+            } else {
+                // 다시 읽어도 결과가 같으므로 시도한 것으로 표시해 다음 기동부터 제외한다
+                letter.fillReviewScores(ReviewScores.unavailable(
+                    letter.getReviewScore() != null ? ReviewResult.resolveGrade(letter.getReviewScore()) : null));
+            }
+            coverLetterRepository.save(letter);
+        }
+        log.info("[점수 정규화] 기존 검토 결과 {}/{}건 항목별 점수 채움 (나머지는 복구 불가로 표시)", filled, pending.size());
+    }
+
+    private ReviewScores parse(CoverLetter letter) {
+        try {
+            JsonNode root = objectMapper.readTree(letter.getFeedback());
+            JsonNode scores = root.path("scores");
+            if (!scores.isObject()) {
+                return null;
+            }
+            List<String> improvements = new ArrayList<>();
+            for (JsonNode item : root.path("improvements")) {
+                improvements.add(item.asText());
+            }
+            return ReviewScores.of(
+                scores.path("answerRelevance").asInt(),
+                scores.path("jobFit").asInt(),
+                scores.path("orgFit").asInt(),
+                scores.path("specificity").asInt(),
+                scores.path("authenticity").asInt(),
+                scores.path("aiDetectionRisk").asInt(),
+                scores.path("logicalStructure").asInt(),
+                scores.path("keywordUsage").asInt(),
+                scores.path("experienceConsistency").asInt(),
+                letter.getReviewScore() != null ? ReviewResult.resolveGrade(letter.getReviewScore()) : null,
+                root.path("overallComment").asText(null),
+                improvements
+            );
+        } catch (Exception e) {
+            log.warn("피드백 JSON 파싱 실패 (coverletter id={}): {}", letter.getId(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.career.assistant.common;
+
+/** AI 응답을 받았지만 기대한 JSON 구조로 해석할 수 없을 때 발생 */
+public class AiResponseParseException extends RuntimeException {
+
+    public AiResponseParseException(String message) {
+        super(message);
+    }
+
+    public AiResponseParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
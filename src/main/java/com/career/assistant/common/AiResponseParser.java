@@ -1,7 +1,24 @@
 package com.career.assistant.common;
 
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * 자유 텍스트 AI 응답에서 JSON을 꺼내는 폴백 파서.
+ * 도구 호출(스키마 강제)을 지원하지 않는 AiPort 구현이나 tool_use 블록이 없는 응답에서만 사용한다.
+ */
 public final class AiResponseParser {
 
+    private static final ObjectMapper LENIENT_MAPPER = JsonMapper.builder()
+        .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+        .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+        .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+        .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+        .enable(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS)
+        .build();
+
     private AiResponseParser() {}
 
     /**
@@ -28,4 +45,74 @@ public final class AiResponseParser {
 
         return null;
     }
+
+    /**
+     * JSON 블록 추출 → 관용 파서 → 문자열 내부 제어문자 이스케이프 후 재시도 순으로 파싱한다.
+     * 모두 실패하면 AiResponseParseException.
+     */
+    public static JsonNode parseJson(String response) {
+        String json = extractJson(response);
+        if (json == null) {
+            String preview = response == null ? "" : response.substring(0, Math.min(300, response.length()));
+            throw new AiResponseParseException("AI 응답에서 JSON을 찾을 수 없습니다: " + preview);
+        }
+
+        try {
+            return LENIENT_MAPPER.readTree(json);
+        } catch (Exception first) {
+            try {
+                return LENIENT_MAPPER.readTree(escapeControlCharsInStrings(json));
+            } catch (Exception e) {
+                throw new AiResponseParseException("AI 응답 JSON 파싱 실패: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * JSON 문자열 값 내부의 제어문자(줄바꿈, 탭 등)를 이스케이프.
+     * trailing comma도 제거.
+     */
+    static String escapeControlCharsInStrings(String json) {
+        StringBuilder sb = new StringBuilder(json.length());
+        boolean inString = false;
+        boolean escaped = false;
+
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+
+            if (escaped) {
+                sb.append(c);
+                escaped = false;
+                continue;
+            }
+
+            if (c == '\\' && inString) {
+                sb.append(c);
+                escaped = true;
+                continue;
+            }
+
+            if (c == '"') {
+                inString = !inString;
+                sb.append(c);
+                continue;
+            }
+
+            if (inString) {
+                switch (c) {
+                    case '\n' -> sb.append("\\n");
+                    case '\r' -> sb.append("\\r");
+                    case '\t' -> sb.append("\\t");
+                    default -> { if (c >= 0x20) sb.append(c); }
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+
+        String result = sb.toString();
+        result = result.replaceAll(",\\s*}", "}");
+        result = result.replaceAll(",\\s*]", "]");
+        return result;
+    }
 }
@@ -1,18 +1,53 @@
 package com.career.assistant.common;
 
+import com.career.assistant.application.job.CoverLetterJobProperties;
+import com.career.assistant.application.jobcollector.PostingPreparationProperties;
+import com.career.assistant.infrastructure.ai.AiBatchPort;
+import com.career.assistant.infrastructure.ai.AiBatchProperties;
+import com.career.assistant.infrastructure.ai.AiCircuitBreaker;
+import com.career.assistant.infrastructure.ai.AiCircuitBreakerProperties;
+import com.career.assistant.infrastructure.ai.AiModelStats;
+import com.career.assistant.infrastructure.ai.AiPort;
+import com.career.assistant.infrastructure.ai.AiRoutingProperties;
+import com.career.assistant.infrastructure.ai.AiUsageRecorder;
+import com.career.assistant.infrastructure.ai.CircuitBreakingAiPort;
 import com.career.assistant.infrastructure.ai.ClaudeAdapter;
+import com.career.assistant.infrastructure.ai.ClaudeBatchAdapter;
+import com.career.assistant.infrastructure.ai.ClaudeHttpProperties;
+import com.career.assistant.infrastructure.ai.PromptBudgetProperties;
+import com.career.assistant.infrastructure.ai.SingleFlightAiPort;
+import com.career.assistant.infrastructure.crawling.CrawlerFetchProperties;
 import com.career.assistant.infrastructure.telegram.TelegramBotHandler;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Clock;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties({
+    ClaudeHttpProperties.class,
+    AiRoutingProperties.class,
+    AiCircuitBreakerProperties.class,
+    PromptBudgetProperties.class,
+    AiBatchProperties.class,
+    CoverLetterJobProperties.class,
+    PostingPreparationProperties.class,
+    CrawlerFetchProperties.class
+})
 public class AppConfig {
 
     @Bean
@@ -23,9 +58,33 @@ public class AppConfig {
         return api;
     }
 
-    @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    /** Claude API 전용 — 커넥션 풀/keep-alive/압축/타임아웃을 명시적으로 설정한 클라이언트 */
+    @Bean("claudeWebClient")
+    public WebClient claudeWebClient(ClaudeHttpProperties props) {
+        ConnectionProvider provider = ConnectionProvider.builder("claude-api")
+            .maxConnections(props.getMaxConnections())
+            .pendingAcquireMaxCount(props.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(props.getPendingAcquireTimeout())
+            .maxIdleTime(props.getMaxIdleTime())
+            .maxLifeTime(props.getMaxLifeTime())
+            .evictInBackground(props.getEvictInterval())
+            .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.getConnectTimeout().toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .keepAlive(true)
+            .compress(props.isCompress())
+            .responseTimeout(props.getReadTimeout());
+
+        log.info("Claude HTTP 클라이언트 설정 — maxConnections: {}, readTimeout: {}, maxInMemorySize: {}",
+            props.getMaxConnections(), props.getReadTimeout(), props.getMaxInMemorySize());
+
+        return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .codecs(codecs -> codecs.defaultCodecs()
+                .maxInMemorySize((int) props.getMaxInMemorySize().toBytes()))
+            .build();
     }
 
     @Bean("githubWebClient")
@@ -40,18 +99,61 @@ public class AppConfig {
     }
 
     @Bean("claudeSonnet")
-    public ClaudeAdapter claudeSonnet(
-        WebClient webClient,
-        @Value("${ai.claude.sonnet-model}") String model
+    public AiPort claudeSonnet(
+        @Qualifier("claudeWebClient") WebClient webClient,
+        @Value("${ai.claude.sonnet-model}") String model,
+        @Value("${ai.claude.base-url}") String messagesUrl,
+        @Value("${ai.claude.api-key}") String apiKey,
+        @Value("${ai.single-flight.enabled:true}") boolean singleFlight,
+        AiUsageRecorder usageRecorder,
+        AiModelStats modelStats,
+        ClaudeHttpProperties httpProperties,
+        AiCircuitBreakerProperties circuitBreakerProperties,
+        ApplicationEventPublisher eventPublisher
     ) {
-        return new ClaudeAdapter(webClient, model);
+        return decorate(new ClaudeAdapter(webClient, messagesUrl, apiKey, model, usageRecorder, modelStats,
+                httpProperties.getReadTimeout()),
+            circuitBreakerProperties, eventPublisher, singleFlight);
     }
 
     @Bean("claudeHaiku")
-    public ClaudeAdapter claudeHaiku(
-        WebClient webClient,
-        @Value("${ai.claude.haiku-model}") String model
+    public AiPort claudeHaiku(
+        @Qualifier("claudeWebClient") WebClient webClient,
+        @Value("${ai.claude.haiku-model}") String model,
+        @Value("${ai.claude.base-url}") String messagesUrl,
+        @Value("${ai.claude.api-key}") String apiKey,
+        @Value("${ai.single-flight.enabled:true}") boolean singleFlight,
+        AiUsageRecorder usageRecorder,
+        AiModelStats modelStats,
+        ClaudeHttpProperties httpProperties,
+        AiCircuitBreakerProperties circuitBreakerProperties,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        return decorate(new ClaudeAdapter(webClient, messagesUrl, apiKey, model, usageRecorder, modelStats,
+                httpProperties.getReadTimeout()),
+            circuitBreakerProperties, eventPublisher, singleFlight);
+    }
+
+    /** 야간 선생성 전용 — 대화형 호출과 분리된 Message Batches 엔드포인트 */
+    @Bean
+    public AiBatchPort claudeBatch(
+        @Qualifier("claudeWebClient") WebClient webClient,
+        @Value("${ai.claude.batches-url}") String batchesUrl,
+        @Value("${ai.claude.api-key}") String apiKey,
+        AiUsageRecorder usageRecorder
     ) {
-        return new ClaudeAdapter(webClient, model);
+        return new ClaudeBatchAdapter(webClient, batchesUrl, apiKey, usageRecorder);
+    }
+
+    /** 어댑터 → 서킷 브레이커 → 단일 비행 순으로 감싼다 (합쳐진 호출은 서킷에 한 번만 집계) */
+    private AiPort decorate(AiPort adapter, AiCircuitBreakerProperties props,
+                            ApplicationEventPublisher eventPublisher, boolean singleFlight) {
+        AiPort port = adapter;
+        if (props.isEnabled()) {
+            AiCircuitBreaker breaker = new AiCircuitBreaker(
+                adapter.getModelName(), props, Clock.systemUTC(), eventPublisher::publishEvent);
+            port = new CircuitBreakingAiPort(port, breaker);
+        }
+        return singleFlight ? new SingleFlightAiPort(port) : port;
     }
 }
@@ -0,0 +1,138 @@
+package com.career.assistant.domain.coverletter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 자소서 버전 본문 차분 코덱.
+ * 개선본은 대부분의 문장을 그대로 두고 일부만 고쳐 쓰므로, 기준본에서 그대로 가져올 구간(COPY)과 새로 쓴 구간(INSERT)만 남기고 deflate로 압축한다.
+ * 복원 결과가 원문과 다르면(기준본 손상 등) 해시 검증에서 실패한다.
+ */
+final class ContentDelta {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int OP_END = 0;
+    private static final int OP_COPY = 1;
+    private static final int OP_INSERT = 2;
+    /** 이보다 짧은 문장은 위치 정보가 본문보다 커지므로 그대로 넣는다 */
+    private static final int MIN_COPY_LENGTH = 8;
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?\\n])");
+
+    private ContentDelta() {
+    }
+
+    static byte[] encode(String base, String target) {
+        List<Op> ops = new ArrayList<>();
+        StringBuilder pending = new StringBuilder();
+        int searchFrom = 0;
+        for (String token : SENTENCE_END.split(target)) {
+            int at = token.length() >= MIN_COPY_LENGTH ? find(base, token, searchFrom) : -1;
+            if (at < 0) {
+                pending.append(token);
+                continue;
+            }
+            if (!pending.isEmpty()) {
+                ops.add(Op.insert(pending.toString()));
+                pending.setLength(0);
+            }
+            Op last = ops.isEmpty() ? null : ops.get(ops.size() - 1);
+            if (last != null && last.isCopy() && last.offset() + last.length() == at) {
+                ops.set(ops.size() - 1, Op.copy(last.offset(), last.length() + token.length()));
+            } else {
+                ops.add(Op.copy(at, token.length()));
+            }
+            searchFrom = at + token.length();
+        }
+        if (!pending.isEmpty()) {
+            ops.add(Op.insert(pending.toString()));
+        }
+        return write(ops, target.hashCode());
+    }
+
+    static String apply(String base, byte[] delta) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(delta)))) {
+            int format = in.readUnsignedByte();
+            if (format != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 차분 형식: " + format);
+            }
+            StringBuilder out = new StringBuilder();
+            for (int op = in.readUnsignedByte(); op != OP_END; op = in.readUnsignedByte()) {
+                if (op == OP_COPY) {
+                    int offset = in.readInt();
+                    int length = in.readInt();
+                    out.append(base, offset, offset + length);
+                } else if (op == OP_INSERT) {
+                    byte[] bytes = in.readNBytes(in.readInt());
+                    out.append(new String(bytes, StandardCharsets.UTF_8));
+                } else {
+                    throw new IllegalStateException("알 수 없는 차분 연산: " + op);
+                }
+            }
+            String restored = out.toString();
+            if (restored.hashCode() != in.readInt()) {
+                throw new IllegalStateException("차분 복원 결과가 원문과 다릅니다 (기준본 불일치)");
+            }
+            return restored;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException("차분 복원 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /** 직전 복사 위치 이후를 먼저 찾아 연속 구간이 하나의 COPY로 합쳐지게 한다 */
+    private static int find(String base, String token, int searchFrom) {
+        int at = base.indexOf(token, searchFrom);
+        return at >= 0 ? at : base.indexOf(token);
+    }
+
+    private static byte[] write(List<Op> ops, int checksum) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(buffer, deflater))) {
+            out.writeByte(FORMAT_VERSION);
+            for (Op op : ops) {
+                if (op.isCopy()) {
+                    out.writeByte(OP_COPY);
+                    out.writeInt(op.offset());
+                    out.writeInt(op.length());
+                } else {
+                    byte[] bytes = op.text().getBytes(StandardCharsets.UTF_8);
+                    out.writeByte(OP_INSERT);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+            out.writeByte(OP_END);
+            out.writeInt(checksum);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    private record Op(int offset, int length, String text) {
+        static Op copy(int offset, int length) {
+            return new Op(offset, length, null);
+        }
+
+        static Op insert(String text) {
+            return new Op(-1, text.length(), text);
+        }
+
+        boolean isCopy() {
+            return text == null;
+        }
+    }
+}
@@ -6,10 +6,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
+/**
+ * 자소서 버전.
+ * 개선 루프가 버전마다 새 행을 남기므로 본문은 기준본(키프레임)만 전문으로 저장하고, 이후 버전은 기준본 대비 압축 차분으로 저장한다.
+ * 기준본은 항상 전문을 가진 버전이라 복원은 한 단계이며, {@link #getContent()}가 투명하게 복원한다.
+ */
 @Entity
-@Table(name = "cover_letters")
+@Table(name = "cover_letters", indexes = @Index(
+    name = "idx_cover_letters_series", columnList = "job_posting_id, question_index, version"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CoverLetter {
@@ -25,9 +32,27 @@ public class CoverLetter {
     @Column(name = "ai_model")
     private String aiModel;
 
+    /** 차분 이득이 작을 때 새 기준본을 만드는 비율 — 차분이 원문 바이트의 이 비율 이상이면 전문 저장 */
+    private static final double MAX_DELTA_RATIO = 0.6;
+
+    /** 기준본만 채운다 — 차분 버전은 null */
+    @Getter(AccessLevel.NONE)
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Getter(AccessLevel.NONE)
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "base_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private CoverLetter base;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "content_delta", columnDefinition = "MEDIUMBLOB")
+    private byte[] contentDelta;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private String restoredContent;
+
     private int version;
 
     @Column(name = "question_index")
@@ -42,6 +67,9 @@ public class CoverLetter {
     @Column(name = "review_score")
     private Integer reviewScore;
 
+    @Embedded
+    private ReviewScores reviewScores;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -82,12 +110,68 @@ public class CoverLetter {
         return letter;
     }
 
+    /**
+     * 이전 버전의 기준본 대비 차분으로 새 버전을 만든다 (공고/문항 정보는 이전 버전에서 가져온다).
+     * 기준본이 아직 저장 전이거나 차분이 충분히 작지 않으면 전문으로 저장해 새 기준본이 된다.
+     */
+    public static CoverLetter nextVersionOf(CoverLetter previous, String aiModel, String content, int version) {
+        CoverLetter letter = ofVersion(previous.jobPosting, aiModel, content, version,
+            previous.questionIndex, previous.questionText);
+        letter.storeAsDeltaOf(previous.keyframe());
+        return letter;
+    }
+
+    public String getContent() {
+        if (contentDelta == null) {
+            return content;
+        }
+        if (restoredContent == null) {
+            restoredContent = ContentDelta.apply(base.getContent(), contentDelta);
+        }
+        return restoredContent;
+    }
+
+    public boolean isStoredAsDelta() {
+        return contentDelta != null;
+    }
+
+    private CoverLetter keyframe() {
+        return base != null ? base : this;
+    }
+
+    private void storeAsDeltaOf(CoverLetter keyframe) {
+        if (keyframe.id == null || keyframe.content == null || content == null) {
+            return;
+        }
+        byte[] delta = ContentDelta.encode(keyframe.content, content);
+        if (delta.length >= content.getBytes(StandardCharsets.UTF_8).length * MAX_DELTA_RATIO) {
+            return;
+        }
+        this.base = keyframe;
+        this.contentDelta = delta;
+        this.restoredContent = content;
+        this.content = null;
+    }
+
     public void addFeedback(String feedback) {
         this.feedback = feedback;
     }
 
-    public void addReview(String feedbackJson, int score) {
+    public void addReview(String feedbackJson, int score, ReviewScores scores) {
         this.feedback = feedbackJson;
         this.reviewScore = score;
+        this.reviewScores = scores;
+    }
+
+    /** 총점/피드백은 그대로 두고 항목별 점수만 채운다 */
+    public void fillReviewScores(ReviewScores scores) {
+        this.reviewScores = scores;
+    }
+
+    /** 같은 본문을 새 버전으로 확정할 때 원본 버전의 검토 결과를 그대로 옮긴다 */
+    public void copyReviewFrom(CoverLetter reviewed) {
+        this.feedback = reviewed.feedback;
+        this.reviewScore = reviewed.reviewScore;
+        this.reviewScores = reviewed.reviewScores != null ? reviewed.reviewScores.copy() : null;
     }
 }
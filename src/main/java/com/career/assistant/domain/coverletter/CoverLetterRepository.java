@@ -2,20 +2,37 @@ package com.career.assistant.domain.coverletter;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface CoverLetterRepository extends JpaRepository<CoverLetter, Long> {
 
-    @EntityGraph(attributePaths = {"jobPosting"})
+    @EntityGraph(attributePaths = {"jobPosting", "base"})
     List<CoverLetter> findByJobPostingId(Long jobPostingId);
 
-    @EntityGraph(attributePaths = {"jobPosting"})
+    @EntityGraph(attributePaths = {"jobPosting", "base"})
     List<CoverLetter> findByJobPostingIdIn(List<Long> jobPostingIds);
 
-    @EntityGraph(attributePaths = {"jobPosting"})
+    @EntityGraph(attributePaths = {"jobPosting", "base"})
     List<CoverLetter> findByJobPostingIdAndQuestionIndexOrderByVersionAsc(Long jobPostingId, Integer questionIndex);
 
     Optional<CoverLetter> findTopByJobPostingIdAndQuestionIndexOrderByVersionDesc(Long jobPostingId, Integer questionIndex);
+
+    /** 검토된 버전의 점수 추이 — (job_posting_id, question_index, version) 인덱스 한 번으로 끝나며 본문/피드백은 읽지 않는다 */
+    @Query("""
+        SELECT new com.career.assistant.domain.coverletter.ReviewTrendRow(cl.id, cl.version, cl.reviewScore, cl.reviewScores)
+        FROM CoverLetter cl
+        WHERE cl.jobPosting.id = :jobPostingId AND cl.questionIndex = :questionIndex AND cl.reviewScore IS NOT NULL
+        ORDER BY cl.version
+        """)
+    List<ReviewTrendRow> findReviewTrend(@Param("jobPostingId") Long jobPostingId,
+                                         @Param("questionIndex") Integer questionIndex);
+
+    /** 항목별 점수 컬럼이 생기기 전에 저장된 검토 결과 — 기동 시 한 번 채우고, 채울 수 없는 행은 등급만 남겨 제외한다 */
+    @Query("SELECT cl FROM CoverLetter cl WHERE cl.feedback IS NOT NULL "
+        + "AND cl.reviewScores.jobFit IS NULL AND cl.reviewScores.grade IS NULL")
+    List<CoverLetter> findReviewedWithoutScores();
 }
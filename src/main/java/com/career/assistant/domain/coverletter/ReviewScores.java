@@ -0,0 +1,132 @@
+package com.career.assistant.domain.coverletter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검토 결과 항목별 점수 — 피드백 JSON과 함께 저장해 점수 추이/비교 조회가 JSON을 다시 파싱하지 않게 한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewScores {
+
+    private static final String IMPROVEMENT_SEPARATOR = "\n";
+    /** 항목 점수를 복구할 수 없는 검토의 등급 자리 표시 */
+    private static final String UNAVAILABLE_GRADE = "-";
+
+    @Column(name = "score_answer_relevance")
+    private Integer answerRelevance;
+
+    @Column(name = "score_job_fit")
+    private Integer jobFit;
+
+    @Column(name = "score_org_fit")
+    private Integer orgFit;
+
+    @Column(name = "score_specificity")
+    private Integer specificity;
+
+    @Column(name = "score_authenticity")
+    private Integer authenticity;
+
+    @Column(name = "score_ai_detection_risk")
+    private Integer aiDetectionRisk;
+
+    @Column(name = "score_logical_structure")
+    private Integer logicalStructure;
+
+    @Column(name = "score_keyword_usage")
+    private Integer keywordUsage;
+
+    @Column(name = "score_experience_consistency")
+    private Integer experienceConsistency;
+
+    @Column(name = "review_grade", length = 2)
+    private String grade;
+
+    @Column(name = "review_comment", columnDefinition = "TEXT")
+    private String overallComment;
+
+    /** 개선 제안 — 한 줄에 하나 */
+    @Column(name = "review_improvements", columnDefinition = "TEXT")
+    private String improvements;
+
+    public static ReviewScores of(int answerRelevance, int jobFit, int orgFit, int specificity,
+                                  int authenticity, int aiDetectionRisk, int logicalStructure,
+                                  int keywordUsage, int experienceConsistency,
+                                  String grade, String overallComment, List<String> improvements) {
+        ReviewScores scores = new ReviewScores();
+        scores.answerRelevance = answerRelevance;
+        scores.jobFit = jobFit;
+        scores.orgFit = orgFit;
+        scores.specificity = specificity;
+        scores.authenticity = authenticity;
+        scores.aiDetectionRisk = aiDetectionRisk;
+        scores.logicalStructure = logicalStructure;
+        scores.keywordUsage = keywordUsage;
+        scores.experienceConsistency = experienceConsistency;
+        scores.grade = grade;
+        scores.overallComment = overallComment;
+        scores.improvements = improvements == null || improvements.isEmpty() ? null
+            : String.join(IMPROVEMENT_SEPARATOR, improvements.stream()
+                .map(item -> item.replace(IMPROVEMENT_SEPARATOR, " "))
+                .toList());
+        return scores;
+    }
+
+    /**
+     * 피드백 JSON에서 항목 점수를 읽을 수 없는 검토 — 항목 점수는 비워 두고 등급만 남긴다.
+     * 등급이 채워져 있으면 기동 시 백필 대상에서 빠지므로 같은 행을 매번 다시 읽지 않는다.
+     */
+    public static ReviewScores unavailable(String grade) {
+        ReviewScores scores = new ReviewScores();
+        scores.grade = grade != null ? grade : UNAVAILABLE_GRADE;
+        return scores;
+    }
+
+    /** 같은 값을 가진 새 인스턴스 — 임베디드 값은 엔티티끼리 공유하지 않는다 */
+    ReviewScores copy() {
+        ReviewScores copy = new ReviewScores();
+        copy.answerRelevance = answerRelevance;
+        copy.jobFit = jobFit;
+        copy.orgFit = orgFit;
+        copy.specificity = specificity;
+        copy.authenticity = authenticity;
+        copy.aiDetectionRisk = aiDetectionRisk;
+        copy.logicalStructure = logicalStructure;
+        copy.keywordUsage = keywordUsage;
+        copy.experienceConsistency = experienceConsistency;
+        copy.grade = grade;
+        copy.overallComment = overallComment;
+        copy.improvements = improvements;
+        return copy;
+    }
+
+    public List<String> improvementList() {
+        return improvements == null ? List.of() : Arrays.asList(improvements.split(IMPROVEMENT_SEPARATOR));
+    }
+
+    /** 점수 추이 응답에 쓰는 항목별 점수 (기존 응답과 같은 키/순서) — 항목 점수가 없는 검토는 빈 맵 */
+    public Map<String, Integer> dimensions() {
+        if (jobFit == null) return Map.of();
+        Map<String, Integer> dims = new LinkedHashMap<>();
+        dims.put("answerRelevance", answerRelevance);
+        dims.put("jobFit", jobFit);
+        dims.put("orgFit", orgFit);
+        dims.put("specificity", specificity);
+        dims.put("authenticity", authenticity);
+        dims.put("aiDetectionRisk", aiDetectionRisk);
+        dims.put("logicalStructure", logicalStructure);
+        dims.put("keywordUsage", keywordUsage);
+        return dims;
+    }
+}
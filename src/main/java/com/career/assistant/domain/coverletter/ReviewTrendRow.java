@@ -0,0 +1,9 @@
+package com.career.assistant.domain.coverletter;
+
+/** 리뷰 점수 추이 한 행 — 본문/피드백 JSON 없이 정규화된 점수 컬럼만 조회한 결과 */
+public record ReviewTrendRow(
+    Long id,
+    int version,
+    Integer totalScore,
+    ReviewScores scores
+) {}
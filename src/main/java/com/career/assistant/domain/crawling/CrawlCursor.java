@@ -0,0 +1,75 @@
+package com.career.assistant.domain.crawling;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사이트별 수집 위치.
+ * 다음 수집은 이 위치 이후만 확인하므로, 이미 본 구간을 다시 요청하지 않는다.
+ * 순번형 ID 사이트는 최고 ID를, 최신순 목록 사이트는 첫 페이지 상단 URL을 기준으로 쓴다.
+ */
+@Entity
+@Table(name = "crawl_cursors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrawlCursor {
+
+    @Id
+    @Column(name = "site_name", length = 30)
+    private String siteName;
+
+    /** 순번형 ID를 쓰는 사이트의 최고 수위(high-water mark) — 이 ID까지는 확인을 마쳤다 */
+    @Column(name = "last_id")
+    private Long lastId;
+
+    /** 최신순 목록의 첫 페이지 상단 URL — 다음 수집은 이 중 하나에 닿으면 페이지 넘김을 멈춘다 */
+    @Column(name = "last_urls", columnDefinition = "TEXT")
+    private String lastUrls;
+
+    /** 지난 수집이 기준 URL에 닿기 전에 페이지 한도가 끝났다 — 다음 수집은 더 깊이 읽어 빈 구간을 메운다 */
+    @Column(name = "catch_up", nullable = false)
+    private boolean catchUp;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static CrawlCursor of(String siteName) {
+        CrawlCursor cursor = new CrawlCursor();
+        cursor.siteName = siteName;
+        return cursor;
+    }
+
+    public Set<String> lastUrlSet() {
+        if (lastUrls == null || lastUrls.isBlank()) return Set.of();
+        return Arrays.stream(lastUrls.split("\n")).collect(Collectors.toSet());
+    }
+
+    /** 이전 구간까지 모두 확인했으므로 이번 수집의 상단 URL을 새 기준으로 삼는다 */
+    public void moveTo(List<String> urls) {
+        lastUrls = String.join("\n", new LinkedHashSet<>(urls));
+        catchUp = false;
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** 기준 URL은 그대로 두고 다음 수집에서 더 깊이 읽는다 */
+    public void startCatchUp() {
+        catchUp = true;
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(long id) {
+        if (lastId == null || id > lastId) {
+            lastId = id;
+        }
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package com.career.assistant.domain.crawling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CrawlCursorRepository extends JpaRepository<CrawlCursor, String> {
+}
@@ -0,0 +1,51 @@
+package com.career.assistant.domain.jobposting;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 하루 단위 공고 선분석 사용량.
+ * 재시작해도 그날 이미 쓴 공고 수/토큰이 상한에 반영되도록 메모리가 아닌 테이블에 누적한다.
+ */
+@Entity
+@Table(name = "posting_preparation_usage")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyPreparationUsage {
+
+    @Id
+    @Column(name = "usage_date")
+    private LocalDate usageDate;
+
+    /** 선분석을 시작한 공고 수 — 실패한 공고도 호출 비용이 들었으므로 센다 */
+    @Column(name = "prepared_count", nullable = false)
+    private int preparedCount;
+
+    /** 입력(캐시 생성 포함) + 출력 토큰 */
+    @Column(name = "tokens", nullable = false)
+    private long tokens;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static DailyPreparationUsage of(LocalDate usageDate) {
+        DailyPreparationUsage usage = new DailyPreparationUsage();
+        usage.usageDate = usageDate;
+        return usage;
+    }
+
+    public void addPosting() {
+        preparedCount++;
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void addTokens(long tokens) {
+        this.tokens += tokens;
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package com.career.assistant.domain.jobposting;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+
+public interface DailyPreparationUsageRepository extends JpaRepository<DailyPreparationUsage, LocalDate> {
+}
@@ -49,6 +49,14 @@ public class JobPosting {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    /** 백그라운드 선분석 실패 횟수 — 상한에 닿으면 대기열에서 빠지고 사용자 요청 시에만 처리된다 */
+    @Column(name = "preparation_attempts", nullable = false)
+    private int preparationAttempts;
+
+    /** 상태 변경 충돌 감지용 — 긴 AI 작업 중 다른 요청/스케줄러가 같은 공고를 갱신하면 저장 시 실패한다 */
+    @Version
+    private long version;
+
     public static JobPosting from(String url) {
         JobPosting posting = new JobPosting();
         posting.url = url;
@@ -121,6 +129,10 @@ public class JobPosting {
         this.status = PipelineStatus.FINALIZED;
     }
 
+    public void recordPreparationFailure() {
+        this.preparationAttempts++;
+    }
+
     public void markFailed() {
         this.status = PipelineStatus.FAILED;
     }
@@ -1,8 +1,11 @@
 package com.career.assistant.domain.jobposting;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +15,10 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
     List<JobPosting> findByCompanyNameContaining(String name);
     List<JobPosting> findByDeadlineBetween(LocalDate from, LocalDate to);
     List<JobPosting> findByDeadlineAfterOrDeadlineIsNullOrderByDeadlineAsc(LocalDate date);
+    List<JobPosting> findByStatus(PipelineStatus status);
+    List<JobPosting> findByStatusAndPreparationAttemptsLessThan(PipelineStatus status, int attempts);
+
+    /** urls 중 이미 저장된 URL — 목록 한 페이지를 쿼리 한 번으로 확인한다 */
+    @Query("SELECT jp.url FROM JobPosting jp WHERE jp.url IN :urls")
+    List<String> findExistingUrls(@Param("urls") Collection<String> urls);
 }
@@ -0,0 +1,84 @@
+package com.career.assistant.domain.pipeline;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자소서 파이프라인 단계별 체크포인트.
+ * 단계가 끝날 때마다 결과(필요하면 산출물)와 소요 시간을 남겨, 실패한 공고를 다시 요청하면 완료된 단계를 건너뛰고 이어서 수행한다.
+ */
+@Entity
+@Table(name = "pipeline_log")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PipelineLog {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private PipelineStage stage;
+
+    /** 문항별 단계(DRAFT, REVIEW)의 문항 번호 — 공고 단위 단계는 null */
+    @Column(name = "question_index")
+    private Integer questionIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private PipelineLogStatus status;
+
+    @Column(name = "error_msg", columnDefinition = "TEXT")
+    private String errorMsg;
+
+    /** 재개 시 다시 쓰는 산출물 (전략 본문, 저장된 자소서 ID 등) */
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String output;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public static PipelineLog succeeded(Long jobId, PipelineStage stage, Integer questionIndex,
+                                        String output, long durationMs) {
+        PipelineLog entry = of(jobId, stage, questionIndex, PipelineLogStatus.SUCCEEDED, durationMs);
+        entry.output = output;
+        return entry;
+    }
+
+    public static PipelineLog failed(Long jobId, PipelineStage stage, Integer questionIndex,
+                                     String errorMsg, long durationMs) {
+        PipelineLog entry = of(jobId, stage, questionIndex, PipelineLogStatus.FAILED, durationMs);
+        entry.errorMsg = errorMsg != null && errorMsg.length() > MAX_ERROR_LENGTH
+            ? errorMsg.substring(0, MAX_ERROR_LENGTH) : errorMsg;
+        return entry;
+    }
+
+    private static PipelineLog of(Long jobId, PipelineStage stage, Integer questionIndex,
+                                  PipelineLogStatus status, long durationMs) {
+        PipelineLog entry = new PipelineLog();
+        entry.jobId = jobId;
+        entry.stage = stage;
+        entry.questionIndex = questionIndex;
+        entry.status = status;
+        entry.durationMs = durationMs;
+        entry.createdAt = LocalDateTime.now();
+        return entry;
+    }
+
+    public boolean isSucceeded() {
+        return status == PipelineLogStatus.SUCCEEDED;
+    }
+}
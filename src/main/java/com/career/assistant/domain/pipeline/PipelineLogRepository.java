@@ -0,0 +1,12 @@
+package com.career.assistant.domain.pipeline;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PipelineLogRepository extends JpaRepository<PipelineLog, Long> {
+    Optional<PipelineLog> findTopByJobIdAndStageOrderByIdDesc(Long jobId, PipelineStage stage);
+    List<PipelineLog> findByJobIdAndIdGreaterThanEqualOrderByIdAsc(Long jobId, Long fromId);
+    List<PipelineLog> findByJobIdOrderByIdAsc(Long jobId);
+}
@@ -0,0 +1,6 @@
+package com.career.assistant.domain.pipeline;
+
+public enum PipelineLogStatus {
+    SUCCEEDED,
+    FAILED
+}
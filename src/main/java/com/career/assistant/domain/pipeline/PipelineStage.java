@@ -0,0 +1,10 @@
+package com.career.assistant.domain.pipeline;
+
+public enum PipelineStage {
+    CRAWL,
+    CLASSIFY,
+    ANALYZE,
+    STRATEGY,
+    DRAFT,
+    REVIEW
+}
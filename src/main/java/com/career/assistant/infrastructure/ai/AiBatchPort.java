@@ -0,0 +1,22 @@
+package com.career.assistant.infrastructure.ai;
+
+import java.util.List;
+
+/**
+ * 비동기 일괄 처리 포트 — 응답을 기다리지 않고 여러 요청을 제출한 뒤, 끝나면 결과를 한꺼번에 받는다.
+ * 대화형 호출(AiPort)과 처리 용량을 나누고 단가를 낮추기 위해 야간 선생성에만 쓴다.
+ */
+public interface AiBatchPort {
+
+    /** 요청을 제출하고 배치 ID를 반환한다 */
+    String submit(List<AiBatchRequest> requests);
+
+    /** 배치의 모든 요청이 처리(성공/실패/만료/취소)되었으면 true */
+    boolean isEnded(String batchId);
+
+    /** 끝난 배치의 결과 — 순서는 보장되지 않으므로 customId로 짝짓는다 */
+    List<AiBatchResult> results(String batchId);
+
+    /** 진행 중인 배치의 취소를 요청한다 — 아직 처리되지 않은 요청은 과금되지 않고 canceled로 끝난다 */
+    void cancel(String batchId);
+}
@@ -0,0 +1,24 @@
+package com.career.assistant.infrastructure.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 수집 공고(FETCHED) 야간 배치 선생성 설정.
+ * 분석 → 전략 → 초안을 단계별 Message Batches로 제출하고, 검토/개선은 사용자가 공고를 요청할 때 이어서 수행한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.batch")
+public class AiBatchProperties {
+    private boolean enabled = false;
+    private String cron = "0 0 1 * * *";
+    /** 한 번에 선생성할 최대 공고 수 (마감 임박 순) */
+    private int maxPostings = 20;
+    private Duration pollInterval = Duration.ofMinutes(1);
+    /** 배치 한 단계의 최대 대기 시간 — 초과하면 해당 단계 결과 없이 진행 */
+    private Duration maxWait = Duration.ofHours(6);
+}
@@ -0,0 +1,31 @@
+package com.career.assistant.infrastructure.ai;
+
+/**
+ * Message Batches에 실을 단일 턴 요청. customId로 결과를 다시 짝짓는다 (영문/숫자/-/_ 64자 이내).
+ * systemPrompt가 null이면 자소서 작성용 기본 시스템 프롬프트, schema가 있으면 구조화 출력을 강제한다.
+ */
+public record AiBatchRequest(
+    String customId,
+    String model,
+    String systemPrompt,
+    String cachedContext,
+    String userPrompt,
+    int maxTokens,
+    AiOutputSchema schema
+) {
+
+    public static AiBatchRequest text(String customId, String model, String systemPrompt, String userPrompt) {
+        return text(customId, model, systemPrompt, null, userPrompt, ClaudeAdapter.DEFAULT_MAX_TOKENS);
+    }
+
+    public static AiBatchRequest text(String customId, String model, String systemPrompt,
+                                      String cachedContext, String userPrompt, int maxTokens) {
+        return new AiBatchRequest(customId, model, systemPrompt, cachedContext, userPrompt, maxTokens, null);
+    }
+
+    public static AiBatchRequest structured(String customId, String model, String systemPrompt,
+                                            String cachedContext, String userPrompt, AiOutputSchema schema) {
+        return new AiBatchRequest(customId, model, systemPrompt, cachedContext, userPrompt,
+            ClaudeAdapter.DEFAULT_MAX_TOKENS, schema);
+    }
+}
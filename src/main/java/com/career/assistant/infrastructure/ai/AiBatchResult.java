@@ -0,0 +1,39 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * 배치 결과 한 건 — 성공이면 message(Messages API 응답과 같은 형식), 아니면 error에 사유가 담긴다.
+ */
+public record AiBatchResult(String customId, Map<String, Object> message, String error) {
+
+    /** 텍스트가 max_tokens에서 잘린 응답은 쓸 수 없으므로 실패로 본다 */
+    public static AiBatchResult succeeded(String customId, Map<String, Object> message) {
+        if (ClaudeAdapter.isTextTruncated(message)) {
+            return failed(customId, "출력이 max_tokens에서 잘림");
+        }
+        return new AiBatchResult(customId, message, null);
+    }
+
+    public static AiBatchResult failed(String customId, String error) {
+        return new AiBatchResult(customId, null, error);
+    }
+
+    public boolean isSucceeded() {
+        return message != null;
+    }
+
+    public String model() {
+        return (String) message.get("model");
+    }
+
+    public String text() {
+        return ClaudeAdapter.readText(message);
+    }
+
+    public JsonNode structured(AiOutputSchema schema) {
+        return ClaudeAdapter.readStructured(message, schema);
+    }
+}
@@ -0,0 +1,169 @@
+package com.career.assistant.infrastructure.ai;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * 최근 N회 호출의 실패율 기반 서킷 브레이커.
+ * CLOSED → (실패율 초과) → OPEN → (openDuration 경과) → HALF_OPEN → (시험 호출 성공) → CLOSED
+ * HALF_OPEN에서 한 번이라도 실패하면 다시 OPEN.
+ */
+@Slf4j
+public class AiCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final AiCircuitBreakerProperties properties;
+    private final Clock clock;
+    private final Consumer<AiCircuitStateChangedEvent> listener;
+
+    private final boolean[] outcomes;
+    private int next;
+    private int size;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public AiCircuitBreaker(String name, AiCircuitBreakerProperties properties,
+                            Clock clock, Consumer<AiCircuitStateChangedEvent> listener) {
+        this.name = name;
+        this.properties = properties;
+        this.clock = clock;
+        this.listener = listener;
+        this.outcomes = new boolean[Math.max(1, properties.getWindowSize())];
+    }
+
+    /** 호출 허용 여부. true를 받은 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 끝내야 한다. */
+    public boolean tryAcquire() {
+        AiCircuitStateChangedEvent event;
+        synchronized (this) {
+            event = null;
+            switch (state) {
+                case CLOSED -> {
+                    return true;
+                }
+                case OPEN -> {
+                    if (clock.instant().isBefore(openedAt.plus(properties.getOpenDuration()))) {
+                        return false;
+                    }
+                    event = transition(State.HALF_OPEN);
+                    halfOpenInFlight = 1;
+                }
+                case HALF_OPEN -> {
+                    if (halfOpenInFlight >= properties.getHalfOpenPermittedCalls()) {
+                        return false;
+                    }
+                    halfOpenInFlight++;
+                }
+            }
+        }
+        publish(event);
+        return true;
+    }
+
+    /** 지금 호출하면 허용될지 여부 — 상태는 바꾸지 않는다. OPEN이라도 openDuration이 지났으면 시험 호출 대상이다. */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> !clock.instant().isBefore(openedAt.plus(properties.getOpenDuration()));
+            case HALF_OPEN -> halfOpenInFlight < properties.getHalfOpenPermittedCalls();
+        };
+    }
+
+    public void onSuccess() {
+        AiCircuitStateChangedEvent event = null;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+                halfOpenSuccesses++;
+                if (halfOpenSuccesses >= properties.getHalfOpenPermittedCalls()) {
+                    resetWindow();
+                    event = transition(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                recordOutcome(true);
+            }
+        }
+        publish(event);
+    }
+
+    public void onFailure() {
+        AiCircuitStateChangedEvent event = null;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                event = transition(State.OPEN);
+            } else if (state == State.CLOSED) {
+                recordOutcome(false);
+                if (size >= properties.getMinimumCalls()
+                    && failureRate() >= properties.getFailureRateThreshold()) {
+                    event = transition(State.OPEN);
+                }
+            }
+        }
+        publish(event);
+    }
+
+    /** 호출자 잘못(4xx 등)으로 실패한 호출 — 서킷 판단에 반영하지 않는다 */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return size == 0 ? 0.0 : (double) failures / size;
+    }
+
+    private void recordOutcome(boolean success) {
+        if (size == outcomes.length && !outcomes[next]) {
+            failures--;
+        }
+        outcomes[next] = success;
+        if (!success) failures++;
+        next = (next + 1) % outcomes.length;
+        if (size < outcomes.length) size++;
+    }
+
+    private void resetWindow() {
+        next = 0;
+        size = 0;
+        failures = 0;
+    }
+
+    private AiCircuitStateChangedEvent transition(State to) {
+        State from = state;
+        state = to;
+        if (to == State.OPEN) {
+            openedAt = clock.instant();
+        }
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        return new AiCircuitStateChangedEvent(name, from, to, failureRate());
+    }
+
+    private void publish(AiCircuitStateChangedEvent event) {
+        if (event == null) return;
+        log.warn("[서킷] {} {} → {} (실패율 {}%)", name, event.from(), event.to(),
+            Math.round(event.failureRate() * 100));
+        try {
+            listener.accept(event);
+        } catch (Exception e) {
+            log.warn("[서킷] 상태 변경 알림 실패: {}", e.getMessage());
+        }
+    }
+}
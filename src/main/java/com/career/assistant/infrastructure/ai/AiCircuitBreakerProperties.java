@@ -0,0 +1,19 @@
+package com.career.assistant.infrastructure.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.circuit-breaker")
+public class AiCircuitBreakerProperties {
+    private boolean enabled = true;
+    private int windowSize = 20;
+    private int minimumCalls = 5;
+    private double failureRateThreshold = 0.5;
+    private Duration openDuration = Duration.ofSeconds(60);
+    private int halfOpenPermittedCalls = 2;
+}
@@ -0,0 +1,8 @@
+package com.career.assistant.infrastructure.ai;
+
+public record AiCircuitStateChangedEvent(
+    String model,
+    AiCircuitBreaker.State from,
+    AiCircuitBreaker.State to,
+    double failureRate
+) {}
@@ -0,0 +1,60 @@
+package com.career.assistant.infrastructure.ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 문항 하나의 작성 → 검토 → 개선 대화 이력.
+ * 이전 턴을 그대로 다시 보내고 앞부분을 캐시에서 읽게 해서, 이후 반복에서는 새로 추가된 지시만 입력 비용을 낸다.
+ * 한 문항의 루프 안에서만 쓰므로 스레드 안전하지 않다.
+ */
+public class AiConversation {
+
+    public record Turn(String userPrompt, String reply) {}
+
+    private final String cachedContext;
+    private final List<Turn> turns = new ArrayList<>();
+
+    private AiConversation(String cachedContext) {
+        this.cachedContext = cachedContext;
+    }
+
+    public static AiConversation withContext(String cachedContext) {
+        return new AiConversation(cachedContext);
+    }
+
+    public String cachedContext() {
+        return cachedContext;
+    }
+
+    public List<Turn> turns() {
+        return Collections.unmodifiableList(turns);
+    }
+
+    public boolean isEmpty() {
+        return turns.isEmpty();
+    }
+
+    public void append(String userPrompt, String reply) {
+        turns.add(new Turn(userPrompt, reply));
+    }
+
+    /** 글자수 보정 등으로 최종 채택된 본문이 달라졌을 때 마지막 응답을 교체 */
+    public void replaceLastReply(String reply) {
+        if (turns.isEmpty()) return;
+        Turn last = turns.remove(turns.size() - 1);
+        turns.add(new Turn(last.userPrompt(), reply));
+    }
+
+    /** 대화 이력을 지원하지 않는 구현용 — 이전 턴을 하나의 프롬프트로 펼친다 */
+    public String flatten(String nextUserPrompt) {
+        StringBuilder sb = new StringBuilder();
+        for (Turn turn : turns) {
+            sb.append("[이전 요청]\n").append(turn.userPrompt()).append("\n\n");
+            sb.append("[이전 응답]\n").append(turn.reply()).append("\n\n");
+        }
+        sb.append(nextUserPrompt);
+        return sb.toString();
+    }
+}
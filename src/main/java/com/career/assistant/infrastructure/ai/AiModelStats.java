@@ -0,0 +1,103 @@
+package com.career.assistant.infrastructure.ai;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모델별 최근 호출의 지연시간/실패 여부를 고정 크기 윈도우로 보관한다.
+ * AiRouter가 p95 지연과 오류율로 성능 저하 여부를 판단하는 데 사용한다.
+ * windowDuration보다 오래된 표본은 집계에서 빠지므로, 폴백으로 호출이 끊긴 모델도 시간이 지나면 다시 선택된다.
+ */
+@Component
+public class AiModelStats {
+
+    private final AiRoutingProperties properties;
+    private final Clock clock;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AiModelStats(AiRoutingProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    AiModelStats(AiRoutingProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public void record(String model, Duration latency, boolean success) {
+        windows.computeIfAbsent(model, k -> new Window(properties.getWindowSize()))
+            .add(latency.toMillis(), success, clock.millis());
+    }
+
+    public boolean isDegraded(String model) {
+        return snapshot(model).degraded();
+    }
+
+    public Snapshot snapshot(String model) {
+        Window window = windows.get(model);
+        if (window == null) {
+            return new Snapshot(model, 0, 0, 0.0, false);
+        }
+        return window.snapshot(model, clock.millis() - properties.getWindowDuration().toMillis());
+    }
+
+    public List<Snapshot> snapshots() {
+        return windows.keySet().stream().sorted().map(this::snapshot).toList();
+    }
+
+    public record Snapshot(String model, int samples, long p95Millis, double errorRate, boolean degraded) {}
+
+    private final class Window {
+
+        private final long[] latencies;
+        private final boolean[] successes;
+        private final long[] recordedAt;
+        private int next;
+        private int size;
+
+        private Window(int capacity) {
+            this.latencies = new long[Math.max(1, capacity)];
+            this.successes = new boolean[latencies.length];
+            this.recordedAt = new long[latencies.length];
+        }
+
+        private synchronized void add(long latencyMillis, boolean success, long nowMillis) {
+            latencies[next] = latencyMillis;
+            successes[next] = success;
+            recordedAt[next] = nowMillis;
+            next = (next + 1) % latencies.length;
+            if (size < latencies.length) size++;
+        }
+
+        private synchronized Snapshot snapshot(String model, long cutoffMillis) {
+            long[] recent = new long[size];
+            int count = 0;
+            int failures = 0;
+            for (int i = 0; i < size; i++) {
+                if (recordedAt[i] < cutoffMillis) continue;
+                recent[count++] = latencies[i];
+                if (!successes[i]) failures++;
+            }
+            if (count == 0) {
+                return new Snapshot(model, 0, 0, 0.0, false);
+            }
+            long[] sorted = Arrays.copyOf(recent, count);
+            Arrays.sort(sorted);
+            long p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+            double errorRate = (double) failures / count;
+
+            boolean degraded = count >= properties.getMinSamples()
+                && (errorRate > properties.getMaxErrorRate()
+                    || p95 > properties.getP95LatencyThreshold().toMillis());
+            return new Snapshot(model, count, p95, errorRate, degraded);
+        }
+    }
+}
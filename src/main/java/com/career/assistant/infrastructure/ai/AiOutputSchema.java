@@ -0,0 +1,30 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
+/**
+ * 구조화 출력용 도구 정의 — Messages API의 tools[].input_schema로 그대로 전달된다.
+ * 호출 시 tool_choice로 이 도구를 강제하면 응답이 스키마에 맞는 JSON 객체(tool_use.input)로 돌아온다.
+ */
+public record AiOutputSchema(String name, String description, Map<String, Object> inputSchema) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** JSON Schema 문자열로 정의 — 분석기마다 텍스트 블록으로 스키마를 선언하기 위함 */
+    public static AiOutputSchema of(String name, String description, String jsonSchema) {
+        try {
+            return new AiOutputSchema(name, description,
+                MAPPER.readValue(jsonSchema, new TypeReference<Map<String, Object>>() {}));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("출력 스키마 정의 오류: " + name, e);
+        }
+    }
+
+    public Map<String, Object> toTool() {
+        return Map.of("name", name, "description", description, "input_schema", inputSchema);
+    }
+}
@@ -0,0 +1,11 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.career.assistant.common.AiResponseParseException;
+
+/** 텍스트 응답이 max_tokens에서 잘려 끝까지 오지 않았을 때 발생 — API 가용성과 무관하므로 서킷에 반영하지 않는다 */
+public class AiOutputTruncatedException extends AiResponseParseException {
+
+    public AiOutputTruncatedException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,8 @@
 package com.career.assistant.infrastructure.ai;
 
+import com.career.assistant.common.AiResponseParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
 public interface AiPort {
     String generate(String prompt);
 
@@ -17,5 +20,37 @@ public interface AiPort {
         return generate(cachedContext + "\n\n" + userPrompt);
     }
 
+    /** 출력 길이를 알고 있을 때 max_tokens를 지정 — 미지원 구현은 무시한다 */
+    default String generateWithContext(String cachedContext, String userPrompt, int maxTokens) {
+        return generateWithContext(cachedContext, userPrompt);
+    }
+
+    /**
+     * 대화 이력에 이어서 호출하고, 성공하면 이번 턴(요청/응답)을 이력에 추가한다.
+     * 기본 구현은 이력을 한 프롬프트로 펼쳐 보낸다.
+     */
+    default String continueConversation(AiConversation conversation, String userPrompt, int maxTokens) {
+        String reply = generateWithContext(conversation.cachedContext(), conversation.flatten(userPrompt), maxTokens);
+        conversation.append(userPrompt, reply);
+        return reply;
+    }
+
+    /**
+     * 스키마를 강제한 구조화 출력 — 파싱된 JSON 객체를 반환한다.
+     * 기본 구현은 텍스트 응답에서 JSON을 추출해 관용 파싱하며, 실패하면 AiResponseParseException.
+     */
+    default JsonNode generateStructured(String systemPrompt, String cachedContext, String userPrompt,
+                                        AiOutputSchema schema) {
+        String response = cachedContext == null
+            ? generate(systemPrompt, userPrompt)
+            : generate(systemPrompt, cachedContext, userPrompt);
+        return AiResponseParser.parseJson(response);
+    }
+
     String getModelName();
+
+    /** 서킷이 열려 있는 등 지금 호출해도 즉시 실패할 상태이면 false */
+    default boolean isAvailable() {
+        return true;
+    }
 }
@@ -1,22 +1,55 @@
 package com.career.assistant.infrastructure.ai;
 
-import com.career.assistant.domain.jobposting.CompanyType;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+/**
+ * 작업 유형별 규칙(ai.routing.rules)으로 모델을 고르고,
+ * 선택된 모델이 p95 지연/오류율 기준으로 저하 상태이거나 서킷이 열려 있으면 다른 모델로 폴백한다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class AiRouter {
 
-    @Qualifier("claudeSonnet")
     private final AiPort claudeSonnet;
-
-    @Qualifier("claudeHaiku")
     private final AiPort claudeHaiku;
+    private final AiModelStats modelStats;
+    private final AiRoutingProperties properties;
+
+    public AiRouter(@Qualifier("claudeSonnet") AiPort claudeSonnet,
+                    @Qualifier("claudeHaiku") AiPort claudeHaiku,
+                    AiModelStats modelStats,
+                    AiRoutingProperties properties) {
+        this.claudeSonnet = claudeSonnet;
+        this.claudeHaiku = claudeHaiku;
+        this.modelStats = modelStats;
+        this.properties = properties;
+    }
+
+    public AiPort route(AiTask task) {
+        AiPort primary = portFor(properties.tierFor(task));
+        if (properties.getPinnedTasks().contains(task)) {
+            return primary;
+        }
+
+        AiPort secondary = primary == claudeSonnet ? claudeHaiku : claudeSonnet;
+        if (isDegraded(primary) && !isDegraded(secondary)) {
+            AiModelStats.Snapshot stats = modelStats.snapshot(primary.getModelName());
+            log.warn("[라우팅] {} 저하 감지 (서킷: {}, p95: {}ms, 오류율: {}%) — {} 작업을 {}로 폴백",
+                primary.getModelName(), primary.isAvailable() ? "CLOSED" : "OPEN",
+                stats.p95Millis(), Math.round(stats.errorRate() * 100),
+                task, secondary.getModelName());
+            return secondary;
+        }
+        return primary;
+    }
+
+    private boolean isDegraded(AiPort port) {
+        return !port.isAvailable() || modelStats.isDegraded(port.getModelName());
+    }
 
-    public AiPort route(CompanyType companyType) {
-        // 자소서 생성은 항상 Sonnet — 품질이 최우선
-        return claudeSonnet;
+    private AiPort portFor(ModelTier tier) {
+        return tier == ModelTier.HAIKU ? claudeHaiku : claudeSonnet;
     }
 }
@@ -0,0 +1,43 @@
+package com.career.assistant.infrastructure.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 작업 유형별 모델 선택 규칙과 성능 저하 판정 기준.
+ * 기본 모델이 저하 상태이면 다른 모델로 자동 폴백한다 (pinnedTasks 제외).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.routing")
+public class AiRoutingProperties {
+
+    private Map<AiTask, ModelTier> rules = defaultRules();
+    private Set<AiTask> pinnedTasks = EnumSet.noneOf(AiTask.class);
+    private int windowSize = 50;
+    private Duration windowDuration = Duration.ofMinutes(5);
+    private int minSamples = 5;
+    private double maxErrorRate = 0.5;
+    private Duration p95LatencyThreshold = Duration.ofSeconds(90);
+
+    public ModelTier tierFor(AiTask task) {
+        return rules.getOrDefault(task, ModelTier.SONNET);
+    }
+
+    private static Map<AiTask, ModelTier> defaultRules() {
+        Map<AiTask, ModelTier> rules = new EnumMap<>(AiTask.class);
+        rules.put(AiTask.DRAFT, ModelTier.SONNET);
+        rules.put(AiTask.REVIEW, ModelTier.SONNET);
+        rules.put(AiTask.RECHECK, ModelTier.HAIKU);
+        rules.put(AiTask.REWRITE, ModelTier.SONNET);
+        rules.put(AiTask.ANALYSIS, ModelTier.HAIKU);
+        return rules;
+    }
+}
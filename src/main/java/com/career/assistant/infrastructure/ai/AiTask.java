@@ -0,0 +1,10 @@
+package com.career.assistant.infrastructure.ai;
+
+/** 라우팅 단위가 되는 AI 작업 유형 */
+public enum AiTask {
+    DRAFT,      // 자소서 초안 작성
+    REVIEW,     // 1차 검토 (개선 방향 결정)
+    RECHECK,    // 2차 이후 확인 검토
+    REWRITE,    // 피드백 반영 개선, 글자수 재작성
+    ANALYSIS    // 회사 분석, 문항 전략 수립
+}
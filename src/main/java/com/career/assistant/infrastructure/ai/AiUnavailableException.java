@@ -0,0 +1,9 @@
+package com.career.assistant.infrastructure.ai;
+
+/** 서킷이 열려 AI 호출을 시도하지 않고 즉시 실패할 때 발생 */
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,202 @@
+package com.career.assistant.infrastructure.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Claude 응답의 usage를 Micrometer 카운터(ai.claude.tokens)로 발행하고,
+ * 실행 단위(Run) 요약을 최근 N건 보관한다. 최근 실행 목록은 잘리므로 전체 합계는 따로 누적한다.
+ *
+ * 태그: model, callSite(호출한 애플리케이션 클래스), type(input/output/cache_creation/cache_read)
+ */
+@Slf4j
+@Component
+public class AiUsageRecorder {
+
+    private static final String METRIC_TOKENS = "ai.claude.tokens";
+    private static final String METRIC_CALLS = "ai.claude.calls";
+    private static final String AI_PACKAGE = AiUsageRecorder.class.getPackageName();
+    private static final String APP_PACKAGE = "com.career.assistant";
+    private static final int MAX_RECENT_RUNS = 50;
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Run> currentRun = new ThreadLocal<>();
+    private final Deque<AiUsageSummary> recentRuns = new ArrayDeque<>();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final AtomicInteger totalCalls = new AtomicInteger();
+    private final AtomicReference<ClaudeUsage> totalUsage = new AtomicReference<>(ClaudeUsage.EMPTY);
+
+    public AiUsageRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String model, ClaudeUsage usage) {
+        String callSite = resolveCallSite();
+        increment(model, callSite, "input", usage.inputTokens());
+        increment(model, callSite, "output", usage.outputTokens());
+        increment(model, callSite, "cache_creation", usage.cacheCreationInputTokens());
+        increment(model, callSite, "cache_read", usage.cacheReadInputTokens());
+        Counter.builder(METRIC_CALLS)
+            .tag("model", model)
+            .tag("callSite", callSite)
+            .register(meterRegistry)
+            .increment();
+        totalCalls.incrementAndGet();
+        totalUsage.accumulateAndGet(usage, ClaudeUsage::plus);
+
+        Run run = currentRun.get();
+        if (run != null) {
+            run.add(usage);
+        }
+
+        log.debug("[토큰] {} @ {} — input: {}, output: {}, cache_creation: {}, cache_read: {}",
+            model, callSite, usage.inputTokens(), usage.outputTokens(),
+            usage.cacheCreationInputTokens(), usage.cacheReadInputTokens());
+    }
+
+    /**
+     * 현재 스레드에 실행 단위를 연결한다. try-with-resources로 닫으면 요약이 기록된다.
+     * 이미 진행 중인 실행이 있으면 그대로 이어서 누적한다 (중첩 호출 시 이중 집계 방지).
+     */
+    public Run startRun(String label) {
+        Run existing = currentRun.get();
+        if (existing != null) {
+            return existing.nested();
+        }
+        Run run = new Run(label, this);
+        currentRun.set(run);
+        return run;
+    }
+
+    /** 현재 스레드의 실행 단위 (없으면 null) — 작업을 다른 스레드로 넘길 때 {@link #bind(Run)}와 함께 사용 */
+    public Run currentRun() {
+        return currentRun.get();
+    }
+
+    /** 다른 스레드에서 동일 실행 단위로 누적하도록 연결한다. 반환된 Scope를 닫으면 연결이 해제된다. */
+    public Scope bind(Run run) {
+        Run previous = currentRun.get();
+        if (run != null) {
+            currentRun.set(run);
+        }
+        return () -> {
+            if (previous != null) {
+                currentRun.set(previous);
+            } else {
+                currentRun.remove();
+            }
+        };
+    }
+
+    public List<AiUsageSummary> recentRuns() {
+        synchronized (recentRuns) {
+            return List.copyOf(recentRuns);
+        }
+    }
+
+    /** 기동 이후 모든 호출의 누적 사용량 — 실행 단위 밖의 호출도 포함한다 */
+    public AiUsageSummary totals() {
+        return AiUsageSummary.of("전체", startedAt,
+            Duration.ofNanos(System.nanoTime() - startNanos), totalCalls.get(), totalUsage.get());
+    }
+
+    private void finish(Run run) {
+        currentRun.remove();
+        AiUsageSummary summary = run.summarize();
+        synchronized (recentRuns) {
+            recentRuns.addFirst(summary);
+            while (recentRuns.size() > MAX_RECENT_RUNS) {
+                recentRuns.removeLast();
+            }
+        }
+        log.info("[토큰] {} 완료 — 호출 {}회, input: {}, output: {}, cache_creation: {}, cache_read: {}, 캐시 적중률: {}%",
+            summary.label(), summary.calls(), summary.inputTokens(), summary.outputTokens(),
+            summary.cacheCreationInputTokens(), summary.cacheReadInputTokens(),
+            Math.round(summary.cacheHitRate() * 100));
+    }
+
+    private void increment(String model, String callSite, String type, long amount) {
+        if (amount <= 0) return;
+        Counter.builder(METRIC_TOKENS)
+            .tag("model", model)
+            .tag("callSite", callSite)
+            .tag("type", type)
+            .register(meterRegistry)
+            .increment(amount);
+    }
+
+    /** AI 인프라 패키지 밖에서 처음 만나는 애플리케이션 클래스를 호출 지점으로 본다 */
+    private String resolveCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .map(StackWalker.StackFrame::getClassName)
+            .filter(name -> name.startsWith(APP_PACKAGE) && !name.startsWith(AI_PACKAGE))
+            .map(name -> {
+                String simple = name.substring(name.lastIndexOf('.') + 1);
+                int proxyIdx = simple.indexOf('$');
+                return proxyIdx > 0 ? simple.substring(0, proxyIdx) : simple;
+            })
+            .findFirst()
+            .orElse("unknown"));
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static final class Run implements AutoCloseable {
+
+        private final String label;
+        private final AiUsageRecorder recorder;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicReference<ClaudeUsage> total = new AtomicReference<>(ClaudeUsage.EMPTY);
+        private final boolean owner;
+
+        private Run(String label, AiUsageRecorder recorder) {
+            this(label, recorder, true);
+        }
+
+        private Run(String label, AiUsageRecorder recorder, boolean owner) {
+            this.label = label;
+            this.recorder = recorder;
+            this.owner = owner;
+        }
+
+        /** 중첩 실행은 바깥 실행에 누적되며, 닫아도 요약을 남기지 않는다 */
+        private Run nested() {
+            return new Run(label, recorder, false);
+        }
+
+        void add(ClaudeUsage usage) {
+            calls.incrementAndGet();
+            total.accumulateAndGet(usage, ClaudeUsage::plus);
+        }
+
+        /** 지금까지 누적된 사용량 — 실행 도중 비용 상한을 확인할 때 쓴다 */
+        public AiUsageSummary summarize() {
+            return AiUsageSummary.of(label, startedAt,
+                Duration.ofNanos(System.nanoTime() - startNanos), calls.get(), total.get());
+        }
+
+        @Override
+        public void close() {
+            if (owner) {
+                recorder.finish(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.career.assistant.infrastructure.ai;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 한 번의 실행(자소서 생성, 개선, 검토 등) 동안 누적된 토큰 사용량 요약.
+ * cacheHitRate = cache_read / (input + cache_creation + cache_read)
+ */
+public record AiUsageSummary(
+    String label,
+    LocalDateTime startedAt,
+    Duration elapsed,
+    int calls,
+    long inputTokens,
+    long outputTokens,
+    long cacheCreationInputTokens,
+    long cacheReadInputTokens,
+    double cacheHitRate
+) {
+
+    static AiUsageSummary of(String label, LocalDateTime startedAt, Duration elapsed,
+                             int calls, ClaudeUsage usage) {
+        long totalInput = usage.totalInputTokens();
+        double hitRate = totalInput == 0 ? 0.0 : (double) usage.cacheReadInputTokens() / totalInput;
+        return new AiUsageSummary(
+            label, startedAt, elapsed, calls,
+            usage.inputTokens(), usage.outputTokens(),
+            usage.cacheCreationInputTokens(), usage.cacheReadInputTokens(),
+            Math.round(hitRate * 1000) / 1000.0
+        );
+    }
+}
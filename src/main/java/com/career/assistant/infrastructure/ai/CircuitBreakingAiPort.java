@@ -0,0 +1,102 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.career.assistant.common.AiResponseParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Supplier;
+
+/**
+ * AiPort 데코레이터 — 서킷이 열려 있으면 API를 호출하지 않고 AiUnavailableException으로 즉시 실패한다.
+ * 4xx(429 제외) 응답과 응답 JSON 파싱 실패는 API 가용성과 무관하므로 실패율에 반영하지 않는다.
+ */
+public class CircuitBreakingAiPort implements AiPort {
+
+    private final AiPort delegate;
+    private final AiCircuitBreaker circuitBreaker;
+
+    public CircuitBreakingAiPort(AiPort delegate, AiCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String generate(String prompt) {
+        return execute(() -> delegate.generate(prompt));
+    }
+
+    @Override
+    public String generate(String systemPrompt, String userPrompt) {
+        return execute(() -> delegate.generate(systemPrompt, userPrompt));
+    }
+
+    @Override
+    public String generate(String systemPrompt, String cachedContext, String userPrompt) {
+        return execute(() -> delegate.generate(systemPrompt, cachedContext, userPrompt));
+    }
+
+    @Override
+    public String generateWithContext(String cachedContext, String userPrompt) {
+        return execute(() -> delegate.generateWithContext(cachedContext, userPrompt));
+    }
+
+    @Override
+    public String generateWithContext(String cachedContext, String userPrompt, int maxTokens) {
+        return execute(() -> delegate.generateWithContext(cachedContext, userPrompt, maxTokens));
+    }
+
+    @Override
+    public String continueConversation(AiConversation conversation, String userPrompt, int maxTokens) {
+        return execute(() -> delegate.continueConversation(conversation, userPrompt, maxTokens));
+    }
+
+    @Override
+    public JsonNode generateStructured(String systemPrompt, String cachedContext, String userPrompt,
+                                       AiOutputSchema schema) {
+        return execute(() -> delegate.generateStructured(systemPrompt, cachedContext, userPrompt, schema));
+    }
+
+    @Override
+    public String getModelName() {
+        return delegate.getModelName();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return circuitBreaker.isCallPermitted() && delegate.isAvailable();
+    }
+
+    public AiCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new AiUnavailableException(
+                "AI 서킷 OPEN — %s 호출을 일시 차단합니다".formatted(delegate.getModelName()));
+        }
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (isClientError(e)) {
+                circuitBreaker.onIgnored();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isClientError(Throwable e) {
+        if (e instanceof AiResponseParseException) return true;
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException wre) {
+                int status = wre.getStatusCode().value();
+                return status >= 400 && status < 500 && status != 429;
+            }
+        }
+        return false;
+    }
+}
@@ -1,12 +1,16 @@
 package com.career.assistant.infrastructure.ai;
 
+import com.career.assistant.common.AiResponseParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -89,67 +93,200 @@ public class ClaudeAdapter implements AiPort {
 
         위 지침을 항상 준수하세요. 각 요청의 본문에는 회사별 동적 정보가 포함됩니다.""";
 
+    static final int DEFAULT_MAX_TOKENS = 4096;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private final WebClient webClient;
+    private final String messagesUrl;
+    private final String apiKey;
     private final String modelName;
+    private final AiUsageRecorder usageRecorder;
+    private final AiModelStats modelStats;
+    private final Duration readTimeout;
 
-    @Value("${ai.claude.api-key}")
-    private String apiKey;
-
-    public ClaudeAdapter(WebClient webClient, String modelName) {
+    public ClaudeAdapter(WebClient webClient, String messagesUrl, String apiKey, String modelName,
+                         AiUsageRecorder usageRecorder, AiModelStats modelStats, Duration readTimeout) {
         this.webClient = webClient;
+        this.messagesUrl = messagesUrl;
+        this.apiKey = apiKey;
         this.modelName = modelName;
+        this.usageRecorder = usageRecorder;
+        this.modelStats = modelStats;
+        this.readTimeout = readTimeout;
     }
 
     @Override
     public String generate(String prompt) {
-        return callClaude(DEFAULT_SYSTEM_PROMPT, null, prompt);
+        return callClaude(DEFAULT_SYSTEM_PROMPT, null, prompt, DEFAULT_MAX_TOKENS);
     }
 
     @Override
     public String generateWithContext(String cachedContext, String userPrompt) {
-        return callClaude(DEFAULT_SYSTEM_PROMPT, cachedContext, userPrompt);
+        return callClaude(DEFAULT_SYSTEM_PROMPT, cachedContext, userPrompt, DEFAULT_MAX_TOKENS);
+    }
+
+    @Override
+    public String generateWithContext(String cachedContext, String userPrompt, int maxTokens) {
+        return callClaude(DEFAULT_SYSTEM_PROMPT, cachedContext, userPrompt, maxTokens);
     }
 
     @Override
     public String generate(String systemPrompt, String userPrompt) {
-        return callClaude(systemPrompt, null, userPrompt);
+        return callClaude(systemPrompt, null, userPrompt, DEFAULT_MAX_TOKENS);
     }
 
     @Override
     public String generate(String systemPrompt, String cachedContext, String userPrompt) {
-        return callClaude(systemPrompt, cachedContext, userPrompt);
+        return callClaude(systemPrompt, cachedContext, userPrompt, DEFAULT_MAX_TOKENS);
     }
 
-    private String callClaude(String systemPrompt, String cachedContext, String userPrompt) {
-        Map<String, Object> systemBlock = Map.of(
-            "type", "text",
-            "text", systemPrompt,
-            "cache_control", Map.of("type", "ephemeral")
-        );
+    /**
+     * 캐시 브레이크포인트: 시스템 프롬프트 / 공고 컨텍스트 / 마지막 user 메시지 (최대 4개 중 3개 사용).
+     * 마지막 user 메시지에 브레이크포인트를 두면 다음 턴에서 이번 턴까지의 이력이 캐시로 읽힌다.
+     */
+    @Override
+    public String continueConversation(AiConversation conversation, String userPrompt, int maxTokens) {
+        List<Map<String, Object>> messages = new ArrayList<>();
+        boolean first = true;
+        for (AiConversation.Turn turn : conversation.turns()) {
+            messages.add(Map.of("role", "user",
+                "content", userContent(first ? conversation.cachedContext() : null, turn.userPrompt(), false)));
+            messages.add(Map.of("role", "assistant", "content", turn.reply()));
+            first = false;
+        }
+        messages.add(Map.of("role", "user",
+            "content", userContent(first ? conversation.cachedContext() : null, userPrompt, !first)));
+
+        String reply = callClaude(DEFAULT_SYSTEM_PROMPT, messages, maxTokens);
+        conversation.append(userPrompt, reply);
+        return reply;
+    }
+
+    private String callClaude(String systemPrompt, String cachedContext, String userPrompt, int maxTokens) {
+        try {
+            return readText(sendMessages(
+                singleTurnBody(modelName, systemPrompt, cachedContext, userPrompt, maxTokens, null)));
+        } catch (AiOutputTruncatedException e) {
+            if (maxTokens >= DEFAULT_MAX_TOKENS) throw e;
+            log.warn("[AI] 출력이 max_tokens({})에서 잘림 — 기본 한도({})로 한 번 다시 요청", maxTokens, DEFAULT_MAX_TOKENS);
+            return readText(sendMessages(
+                singleTurnBody(modelName, systemPrompt, cachedContext, userPrompt, DEFAULT_MAX_TOKENS, null)));
+        }
+    }
+
+    /**
+     * 도구 하나를 정의하고 tool_choice로 강제해, 응답을 tool_use 블록의 input(JSON 객체)으로 받는다.
+     * 텍스트를 중괄호로 잘라내고 제어문자를 복구하는 후처리가 필요 없다.
+     */
+    @Override
+    public JsonNode generateStructured(String systemPrompt, String cachedContext, String userPrompt,
+                                       AiOutputSchema schema) {
+        return readStructured(sendMessages(
+            singleTurnBody(modelName, systemPrompt, cachedContext, userPrompt, DEFAULT_MAX_TOKENS, schema)), schema);
+    }
+
+    private String callClaude(String systemPrompt, List<Map<String, Object>> messages, int maxTokens) {
+        try {
+            return readText(sendMessages(requestBody(modelName, systemPrompt, messages, maxTokens)));
+        } catch (AiOutputTruncatedException e) {
+            if (maxTokens >= DEFAULT_MAX_TOKENS) throw e;
+            log.warn("[AI] 출력이 max_tokens({})에서 잘림 — 기본 한도({})로 한 번 다시 요청", maxTokens, DEFAULT_MAX_TOKENS);
+            return readText(sendMessages(requestBody(modelName, systemPrompt, messages, DEFAULT_MAX_TOKENS)));
+        }
+    }
+
+    /**
+     * 단일 턴 요청 본문 — 동기 호출과 Message Batches의 params가 같은 형식을 쓴다.
+     * systemPrompt가 null이면 자소서 작성용 기본 시스템 프롬프트, schema가 있으면 해당 도구를 강제한다.
+     */
+    static Map<String, Object> singleTurnBody(String model, String systemPrompt, String cachedContext,
+                                              String userPrompt, int maxTokens, AiOutputSchema schema) {
+        Map<String, Object> requestBody = requestBody(model,
+            systemPrompt != null ? systemPrompt : DEFAULT_SYSTEM_PROMPT,
+            List.of(Map.of("role", "user", "content", userContent(cachedContext, userPrompt, false))),
+            maxTokens);
+        if (schema != null) {
+            requestBody.put("tools", List.of(schema.toTool()));
+            requestBody.put("tool_choice", Map.of("type", "tool", "name", schema.name()));
+        }
+        return requestBody;
+    }
+
+    /** 캐시 컨텍스트가 있으면 user message를 2블록으로 분리 (컨텍스트 캐시 + 질문) */
+    private static Object userContent(String cachedContext, String userPrompt, boolean cacheBreakpoint) {
+        Map<String, Object> promptBlock = cacheBreakpoint
+            ? Map.of("type", "text", "text", userPrompt, "cache_control", Map.of("type", "ephemeral"))
+            : Map.of("type", "text", "text", userPrompt);
 
-        // 캐시 컨텍스트가 있으면 user message를 2블록으로 분리 (컨텍스트 캐시 + 질문)
-        Object userContent;
         if (cachedContext != null && !cachedContext.isBlank()) {
-            userContent = List.of(
+            return List.of(
                 Map.of("type", "text", "text", cachedContext,
                         "cache_control", Map.of("type", "ephemeral")),
-                Map.of("type", "text", "text", userPrompt)
+                promptBlock
             );
-        } else {
-            userContent = userPrompt;
         }
+        return cacheBreakpoint ? List.of(promptBlock) : userPrompt;
+    }
 
-        Map<String, Object> requestBody = Map.of(
-            "model", modelName,
-            "max_tokens", 4096,
-            "system", List.of(systemBlock),
-            "messages", List.of(Map.of("role", "user", "content", userContent))
+    private static Map<String, Object> requestBody(String model, String systemPrompt,
+                                                   List<Map<String, Object>> messages, int maxTokens) {
+        Map<String, Object> systemBlock = Map.of(
+            "type", "text",
+            "text", systemPrompt,
+            "cache_control", Map.of("type", "ephemeral")
         );
 
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("max_tokens", maxTokens);
+        requestBody.put("system", List.of(systemBlock));
+        requestBody.put("messages", messages);
+        return requestBody;
+    }
+
+    /** 잘린 텍스트를 그대로 돌려주면 미완성 자소서가 저장되므로, max_tokens로 끝난 응답은 예외로 처리한다 */
+    static String readText(Map<String, Object> response) {
+        if (isTextTruncated(response)) {
+            throw new AiOutputTruncatedException(
+                "AI 응답이 max_tokens에서 잘림 (%s)".formatted(response.get("model")));
+        }
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> content = (List<Map<String, Object>>) response.get("content");
+        return (String) content.get(0).get("text");
+    }
+
+    /** 텍스트 응답이 max_tokens에서 끊겼는지 — 구조화 출력(tool_use)은 readStructured에서 따로 다룬다 */
+    static boolean isTextTruncated(Map<String, Object> response) {
+        if (!"max_tokens".equals(response.get("stop_reason"))) return false;
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> content = (List<Map<String, Object>>) response.get("content");
+        return content == null || content.stream().noneMatch(block -> "tool_use".equals(block.get("type")));
+    }
+
+    static JsonNode readStructured(Map<String, Object> response, AiOutputSchema schema) {
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> content = (List<Map<String, Object>>) response.get("content");
+        for (Map<String, Object> block : content) {
+            if ("tool_use".equals(block.get("type")) && schema.name().equals(block.get("name"))) {
+                if ("max_tokens".equals(response.get("stop_reason"))) {
+                    log.warn("[AI] 구조화 출력이 max_tokens에서 잘림 — 일부 필드가 누락될 수 있음 ({})", schema.name());
+                }
+                return MAPPER.valueToTree(block.get("input"));
+            }
+        }
+
+        log.warn("[AI] tool_use 블록 없음 — 텍스트 응답에서 JSON 추출로 폴백 ({})", schema.name());
+        return AiResponseParser.parseJson(content.isEmpty() ? null : (String) content.get(0).get("text"));
+    }
+
+    /** Messages API 호출 — 지연/성공 여부는 라우팅 통계로, usage는 토큰 텔레메트리로 기록 */
+    private Map<String, Object> sendMessages(Map<String, Object> requestBody) {
+        long start = System.nanoTime();
+        boolean success = false;
         try {
             @SuppressWarnings("unchecked")
             Map<String, Object> response = (Map<String, Object>) webClient.post()
-                .uri("https://api.anthropic.com/v1/messages")
+                .uri(messagesUrl)
                 .header("x-api-key", apiKey)
                 .header("anthropic-version", "2023-06-01")
                 .header("anthropic-beta", "prompt-caching-2024-07-31")
@@ -157,15 +294,19 @@ public class ClaudeAdapter implements AiPort {
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(Map.class)
-                .timeout(Duration.ofSeconds(120))
+                .timeout(readTimeout)
                 .block();
 
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> content = (List<Map<String, Object>>) response.get("content");
-            return (String) content.get(0).get("text");
+            Map<String, Object> usage = (Map<String, Object>) response.get("usage");
+            usageRecorder.record(modelName, ClaudeUsage.from(usage));
+            success = true;
+            return response;
         } catch (WebClientResponseException e) {
             log.error("Claude API 호출 실패 [{}] - 응답: {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("Claude API 호출 실패: " + e.getResponseBodyAsString(), e);
+        } finally {
+            modelStats.record(modelName, Duration.ofNanos(System.nanoTime() - start), success);
         }
     }
 
@@ -0,0 +1,133 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Anthropic Message Batches API 어댑터.
+ * 요청 본문(params)은 ClaudeAdapter와 같은 형식이라 프롬프트 캐시 블록도 그대로 적용된다.
+ */
+@Slf4j
+public class ClaudeBatchAdapter implements AiBatchPort {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final WebClient webClient;
+    private final String batchesUrl;
+    private final String apiKey;
+    private final AiUsageRecorder usageRecorder;
+
+    public ClaudeBatchAdapter(WebClient webClient, String batchesUrl, String apiKey, AiUsageRecorder usageRecorder) {
+        this.webClient = webClient;
+        this.batchesUrl = batchesUrl;
+        this.apiKey = apiKey;
+        this.usageRecorder = usageRecorder;
+    }
+
+    @Override
+    public String submit(List<AiBatchRequest> requests) {
+        List<Map<String, Object>> entries = requests.stream()
+            .map(r -> Map.<String, Object>of(
+                "custom_id", r.customId(),
+                "params", ClaudeAdapter.singleTurnBody(r.model(), r.systemPrompt(), r.cachedContext(),
+                    r.userPrompt(), r.maxTokens(), r.schema())))
+            .toList();
+
+        Map<String, Object> batch = exchange(webClient.post()
+            .uri(batchesUrl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("requests", entries)));
+        String batchId = (String) batch.get("id");
+        log.info("[배치] 제출 완료 — {} ({}건)", batchId, requests.size());
+        return batchId;
+    }
+
+    @Override
+    public boolean isEnded(String batchId) {
+        Map<String, Object> batch = exchange(webClient.get().uri(batchesUrl + "/" + batchId));
+        return "ended".equals(batch.get("processing_status"));
+    }
+
+    @Override
+    public List<AiBatchResult> results(String batchId) {
+        Map<String, Object> batch = exchange(webClient.get().uri(batchesUrl + "/" + batchId));
+        String resultsUrl = (String) batch.get("results_url");
+        if (resultsUrl == null) {
+            throw new IllegalStateException("배치가 아직 끝나지 않았습니다: " + batchId);
+        }
+
+        String jsonl = headers(webClient.get().uri(resultsUrl))
+            .retrieve()
+            .bodyToMono(String.class)
+            .timeout(Duration.ofMinutes(5))
+            .block();
+
+        List<AiBatchResult> results = new ArrayList<>();
+        if (jsonl == null) return results;
+        for (String line : jsonl.split("\n")) {
+            if (!line.isBlank()) {
+                results.add(toResult(line));
+            }
+        }
+        log.info("[배치] 결과 수신 — {} (성공 {}건 / 전체 {}건)", batchId,
+            results.stream().filter(AiBatchResult::isSucceeded).count(), results.size());
+        return results;
+    }
+
+    @Override
+    public void cancel(String batchId) {
+        Map<String, Object> batch = exchange(webClient.post().uri(batchesUrl + "/" + batchId + "/cancel"));
+        log.info("[배치] 취소 요청 — {} ({})", batchId, batch.get("processing_status"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private AiBatchResult toResult(String line) {
+        try {
+            Map<String, Object> entry = MAPPER.readValue(line, MAP_TYPE);
+            String customId = (String) entry.get("custom_id");
+            Map<String, Object> result = (Map<String, Object>) entry.get("result");
+            String type = (String) result.get("type");
+            if (!"succeeded".equals(type)) {
+                return AiBatchResult.failed(customId, type + ": " + result.get("error"));
+            }
+
+            Map<String, Object> message = (Map<String, Object>) result.get("message");
+            usageRecorder.record((String) message.get("model"),
+                ClaudeUsage.from((Map<String, Object>) message.get("usage")));
+            return AiBatchResult.succeeded(customId, message);
+        } catch (Exception e) {
+            throw new IllegalStateException("배치 결과 파싱 실패: " + line.substring(0, Math.min(200, line.length())), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> exchange(WebClient.RequestHeadersSpec<?> request) {
+        try {
+            return (Map<String, Object>) headers(request)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .timeout(Duration.ofSeconds(60))
+                .block();
+        } catch (WebClientResponseException e) {
+            log.error("Claude 배치 API 호출 실패 [{}] - 응답: {}", e.getStatusCode(), e.getResponseBodyAsString());
+            throw new RuntimeException("Claude 배치 API 호출 실패: " + e.getResponseBodyAsString(), e);
+        }
+    }
+
+    private WebClient.RequestHeadersSpec<?> headers(WebClient.RequestHeadersSpec<?> request) {
+        return request
+            .header("x-api-key", apiKey)
+            .header("anthropic-version", "2023-06-01")
+            .header("anthropic-beta", "prompt-caching-2024-07-31");
+    }
+}
@@ -0,0 +1,28 @@
+package com.career.assistant.infrastructure.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Claude API 전용 HTTP 클라이언트 설정.
+ * 커넥션 풀을 명시적으로 관리하여 호출마다 TLS 핸드셰이크가 반복되지 않도록 한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.claude.http")
+public class ClaudeHttpProperties {
+    private int maxConnections = 20;
+    private int pendingAcquireMaxCount = 200;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(30);
+    private Duration maxIdleTime = Duration.ofSeconds(50);
+    private Duration maxLifeTime = Duration.ofMinutes(10);
+    private Duration evictInterval = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(10);
+    private Duration readTimeout = Duration.ofSeconds(120);
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(4);
+    private boolean compress = true;
+}
@@ -0,0 +1,45 @@
+package com.career.assistant.infrastructure.ai;
+
+import java.util.Map;
+
+/**
+ * Claude Messages API 응답의 usage 블록.
+ * cache_creation/cache_read 값으로 프롬프트 캐시 적중 여부를 판단한다.
+ */
+public record ClaudeUsage(
+    long inputTokens,
+    long outputTokens,
+    long cacheCreationInputTokens,
+    long cacheReadInputTokens
+) {
+
+    public static final ClaudeUsage EMPTY = new ClaudeUsage(0, 0, 0, 0);
+
+    public static ClaudeUsage from(Map<String, Object> usage) {
+        if (usage == null || usage.isEmpty()) return EMPTY;
+        return new ClaudeUsage(
+            asLong(usage.get("input_tokens")),
+            asLong(usage.get("output_tokens")),
+            asLong(usage.get("cache_creation_input_tokens")),
+            asLong(usage.get("cache_read_input_tokens"))
+        );
+    }
+
+    /** 캐시 포함 전체 입력 토큰 */
+    public long totalInputTokens() {
+        return inputTokens + cacheCreationInputTokens + cacheReadInputTokens;
+    }
+
+    public ClaudeUsage plus(ClaudeUsage other) {
+        return new ClaudeUsage(
+            inputTokens + other.inputTokens,
+            outputTokens + other.outputTokens,
+            cacheCreationInputTokens + other.cacheCreationInputTokens,
+            cacheReadInputTokens + other.cacheReadInputTokens
+        );
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number n ? n.longValue() : 0L;
+    }
+}
@@ -0,0 +1,6 @@
+package com.career.assistant.infrastructure.ai;
+
+public enum ModelTier {
+    SONNET,
+    HAIKU
+}
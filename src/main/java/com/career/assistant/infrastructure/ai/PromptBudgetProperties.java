@@ -0,0 +1,25 @@
+package com.career.assistant.infrastructure.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 프롬프트 입력 토큰 예산과 출력 max_tokens 산정 기준.
+ * 예산을 넘으면 우선순위가 낮은 섹션부터 잘라낸다 — 공고 컨텍스트는 직무설명 원문 → 기업 분석 → 자격요건,
+ * 문항 작성은 전체 전략 → 문항 가이드 → 경험(보조 경험부터), 개선은 경험 → 검토 피드백 순서다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.prompt-budget")
+public class PromptBudgetProperties {
+    private boolean enabled = true;
+    /** 공고 단위로 캐시되는 컨텍스트(기업 분석 + 채용공고) 예산 */
+    private int jobContextMaxTokens = 6000;
+    /** 문항별 작성/개선 프롬프트 예산 */
+    private int promptMaxTokens = 5000;
+    /** 글자수 제한 대비 출력 토큰 여유 배수 — 잘린 자소서가 나오지 않도록 넉넉히 */
+    private double outputHeadroom = 1.6;
+    private int minOutputTokens = 1024;
+    private int maxOutputTokens = 4096;
+}
@@ -0,0 +1,130 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * AiPort 데코레이터 — 동일한 프롬프트로 동시에 들어온 호출을 하나로 합친다.
+ * 먼저 도착한 호출만 실제 API를 호출하고, 나머지는 같은 결과(또는 예외)를 공유한다.
+ * 완료 즉시 키를 제거하므로 결과 캐시가 아니라 진행 중인 호출만 공유한다.
+ */
+@Slf4j
+public class SingleFlightAiPort implements AiPort {
+
+    private final AiPort delegate;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightAiPort(AiPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String generate(String prompt) {
+        return coalesce(fingerprint("p", prompt), () -> delegate.generate(prompt));
+    }
+
+    @Override
+    public String generate(String systemPrompt, String userPrompt) {
+        return coalesce(fingerprint("su", systemPrompt, userPrompt),
+            () -> delegate.generate(systemPrompt, userPrompt));
+    }
+
+    @Override
+    public String generate(String systemPrompt, String cachedContext, String userPrompt) {
+        return coalesce(fingerprint("scu", systemPrompt, cachedContext, userPrompt),
+            () -> delegate.generate(systemPrompt, cachedContext, userPrompt));
+    }
+
+    @Override
+    public String generateWithContext(String cachedContext, String userPrompt) {
+        return coalesce(fingerprint("cu", cachedContext, userPrompt),
+            () -> delegate.generateWithContext(cachedContext, userPrompt));
+    }
+
+    @Override
+    public String generateWithContext(String cachedContext, String userPrompt, int maxTokens) {
+        return coalesce(fingerprint("cum", cachedContext, userPrompt, String.valueOf(maxTokens)),
+            () -> delegate.generateWithContext(cachedContext, userPrompt, maxTokens));
+    }
+
+    /** 결과 JsonNode는 대기자들과 공유되므로 호출부는 읽기 전용으로 다룬다 */
+    @Override
+    public JsonNode generateStructured(String systemPrompt, String cachedContext, String userPrompt,
+                                       AiOutputSchema schema) {
+        return coalesce(fingerprint("json", schema.name(), systemPrompt, cachedContext, userPrompt),
+            () -> delegate.generateStructured(systemPrompt, cachedContext, userPrompt, schema));
+    }
+
+    /** 대화는 문항별로 고유하고 호출 시 이력이 바뀌므로 합치지 않는다 */
+    @Override
+    public String continueConversation(AiConversation conversation, String userPrompt, int maxTokens) {
+        return delegate.continueConversation(conversation, userPrompt, maxTokens);
+    }
+
+    @Override
+    public String getModelName() {
+        return delegate.getModelName();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return delegate.isAvailable();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(String key, Supplier<T> call) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            log.info("[AI] 동일 요청 진행 중 — 결과 공유 대기 ({})", delegate.getModelName());
+            return (T) await(existing);
+        }
+
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    private String fingerprint(String kind, String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(kind.getBytes(StandardCharsets.UTF_8));
+            for (String part : parts) {
+                digest.update((byte) 0);
+                if (part != null) digest.update(part.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.career.assistant.infrastructure.ai;
+
+/**
+ * 토크나이저 없이 쓰는 한국어 친화 토큰 수 추정기.
+ * - 한글/한자/가나: 글자당 약 0.8 토큰 (음절 단위로 잘 쪼개지는 특성 반영)
+ * - 영문/숫자: 연속 구간 4글자당 1 토큰
+ * - 공백: 앞뒤 토큰에 흡수되어 0
+ * - 그 외 기호: 글자당 0.5 토큰
+ * 예산 판단용 근사치이므로 실제 usage와 ±20% 정도 차이가 날 수 있다.
+ * 출력 한도는 모자라면 응답이 잘리므로 입력 추정과 따로, 실제 출력 usage에 맞춘 보수적인 비율을 쓴다.
+ */
+public final class TokenEstimator {
+
+    static final double CJK_TOKENS_PER_CHAR = 0.8;
+    static final int ASCII_CHARS_PER_TOKEN = 4;
+    static final double SYMBOL_TOKENS_PER_CHAR = 0.5;
+    /** 한국어 자소서 출력의 글자당 토큰 — 기록된 output_tokens 기준 글자당 1토큰을 넘으므로 여유를 둔 값 */
+    static final double KOREAN_OUTPUT_TOKENS_PER_CHAR = 1.5;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) return 0;
+
+        double tokens = 0;
+        int asciiRun = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && Character.isLetterOrDigit(c)) {
+                asciiRun++;
+                continue;
+            }
+            tokens += Math.ceil((double) asciiRun / ASCII_CHARS_PER_TOKEN);
+            asciiRun = 0;
+
+            if (Character.isWhitespace(c)) continue;
+            tokens += isCjk(c) ? CJK_TOKENS_PER_CHAR : SYMBOL_TOKENS_PER_CHAR;
+        }
+        tokens += Math.ceil((double) asciiRun / ASCII_CHARS_PER_TOKEN);
+        return (int) Math.ceil(tokens);
+    }
+
+    /** 한국어 본문 chars 글자(공백·문장부호 포함)를 출력하는 데 필요한 토큰 수 추정 */
+    public static int estimateForKoreanChars(int chars) {
+        return (int) Math.ceil(chars * KOREAN_OUTPUT_TOKENS_PER_CHAR);
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+            || block == Character.UnicodeBlock.HANGUL_JAMO
+            || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO
+            || block == Character.UnicodeBlock.CJK_UNIFIED_IDEOGRAPHS
+            || block == Character.UnicodeBlock.HIRAGANA
+            || block == Character.UnicodeBlock.KATAKANA;
+    }
+}
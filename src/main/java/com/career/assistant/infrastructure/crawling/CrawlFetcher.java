@@ -0,0 +1,241 @@
+package com.career.assistant.infrastructure.crawling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 리스팅 크롤러 공용 페치 엔진.
+ * 여러 URL을 가상 스레드로 동시에 요청하되, 호스트별 동시 요청 수와 요청 간 최소 간격을 지킨다.
+ * 429/5xx 응답은 Retry-After(없으면 지수 백오프)만큼 해당 호스트 전체를 늦춘 뒤 재시도한다.
+ * 응답은 {@link HttpPageCache}에 저장해 다음 요청부터 조건부 GET으로 재검증한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlFetcher {
+
+    static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
+
+    private static final Pattern CHARSET_PATTERN = Pattern.compile("(?i)charset=([^;]+)");
+
+    private final CrawlerFetchProperties properties;
+    private final HttpPageCache pageCache;
+    private final ConcurrentMap<String, HostGate> gates = new ConcurrentHashMap<>();
+
+    /**
+     * 페치 결과. 실패해도 예외 대신 결과로 돌려주며, {@link #document()}/{@link #body()}가
+     * 기존 Jsoup 호출과 같은 예외(HttpStatusException 등)를 던지므로 호출부의 예외 처리를 그대로 쓸 수 있다.
+     * 304로 캐시 본문을 쓴 경우 상태 코드는 200, {@code fromCache}는 true다.
+     */
+    public record FetchResult(String url, int statusCode, byte[] bodyBytes, String contentType,
+                              boolean fromCache, IOException error) {
+
+        static FetchResult failed(String url, IOException error) {
+            return new FetchResult(url, 0, null, null, false, error);
+        }
+
+        public boolean isOk() {
+            return error == null && statusCode >= 200 && statusCode < 300;
+        }
+
+        public Document document() throws IOException {
+            byte[] bytes = checked();
+            return Jsoup.parse(new ByteArrayInputStream(bytes), charsetOf(contentType), url);
+        }
+
+        public String body() throws IOException {
+            byte[] bytes = checked();
+            String charset = charsetOf(contentType);
+            return new String(bytes, charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8);
+        }
+
+        private byte[] checked() throws IOException {
+            if (error != null) throw error;
+            if (!isOk()) throw new HttpStatusException("HTTP error fetching URL", statusCode, url);
+            return bodyBytes != null ? bodyBytes : new byte[0];
+        }
+
+        private static String charsetOf(String contentType) {
+            if (contentType == null) return null;
+            Matcher m = CHARSET_PATTERN.matcher(contentType);
+            if (!m.find()) return null;
+            String charset = m.group(1).replace("\"", "").trim();
+            return Charset.isSupported(charset) ? charset : null;
+        }
+    }
+
+    /**
+     * GET 요청 하나. 디스크 캐시에 검증자가 있으면 조건부 요청을 보내고, 304면 캐시 본문으로 응답한다.
+     */
+    public FetchResult fetch(String url, UnaryOperator<Connection> options) {
+        HostGate gate = gates.computeIfAbsent(hostOf(url), host -> new HostGate());
+        int maxRetries = Math.max(0, properties.getMaxRetries());
+        Optional<HttpPageCache.Entry> cached = pageCache.get(url);
+
+        for (int attempt = 0; ; attempt++) {
+            Connection.Response response;
+            try {
+                response = gate.execute(() -> {
+                    Connection connection = options.apply(Jsoup.connect(url).userAgent(USER_AGENT))
+                        .ignoreHttpErrors(true);
+                    cached.ifPresent(entry -> {
+                        if (entry.etag() != null) connection.header("If-None-Match", entry.etag());
+                        if (entry.lastModified() != null) connection.header("If-Modified-Since", entry.lastModified());
+                    });
+                    return connection.execute();
+                });
+            } catch (IOException e) {
+                return FetchResult.failed(url, e);
+            }
+
+            int status = response.statusCode();
+            if (status == 304 && cached.isPresent()) {
+                pageCache.touch(url);
+                log.debug("[크롤링] {} 변경 없음 — 캐시 사용", url);
+                return new FetchResult(url, 200, cached.get().body(), cached.get().contentType(), true, null);
+            }
+            if (!isRetryable(status) || attempt >= maxRetries) {
+                byte[] body = response.bodyAsBytes();
+                if (status == 200) {
+                    pageCache.put(url, new HttpPageCache.Entry(
+                        response.header("ETag"), response.header("Last-Modified"), response.contentType(), body));
+                }
+                return new FetchResult(url, status, body, response.contentType(), false, null);
+            }
+
+            Duration wait = retryAfter(response).orElse(properties.getRetryBackoff().multipliedBy(1L << attempt));
+            if (wait.compareTo(properties.getMaxRetryAfter()) > 0) {
+                wait = properties.getMaxRetryAfter();
+            }
+            log.debug("[크롤링] {} 응답 {} — {}ms 후 재시도 ({}/{})", url, status, wait.toMillis(), attempt + 1, maxRetries);
+            gate.backOff(wait);
+        }
+    }
+
+    /** 입력 순서대로 결과를 돌려준다. 호스트별 제한은 다른 크롤러의 요청과도 공유된다. */
+    public List<FetchResult> fetchAll(List<String> urls, UnaryOperator<Connection> options) {
+        List<FetchResult> results = new ArrayList<>(urls.size());
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("crawl-fetch-", 1).factory())) {
+            List<Future<FetchResult>> futures = urls.stream()
+                .map(url -> executor.submit(() -> fetch(url, options)))
+                .toList();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    for (int j = i; j < futures.size(); j++) {
+                        results.add(FetchResult.failed(urls.get(j), new InterruptedIOException("페치 중단")));
+                    }
+                    break;
+                } catch (ExecutionException e) {
+                    results.add(FetchResult.failed(urls.get(i), new IOException(e.getCause())));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    /** Retry-After: 초 단위 숫자 또는 HTTP-date */
+    private static Optional<Duration> retryAfter(Connection.Response response) {
+        String value = response.header("Retry-After");
+        if (value == null || value.isBlank()) return Optional.empty();
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration wait = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return Optional.of(wait.isNegative() ? Duration.ZERO : wait);
+        } catch (Exception ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase() : "";
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        Connection.Response execute() throws IOException;
+    }
+
+    /** 호스트 하나의 동시 요청 수와 다음 요청 가능 시각 */
+    private final class HostGate {
+        private final Semaphore permits = new Semaphore(Math.max(1, properties.getMaxConcurrencyPerHost()), true);
+        private long nextSlotNanos = System.nanoTime();
+
+        Connection.Response execute(Request request) throws IOException {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("호스트 대기 중 인터럽트");
+            }
+            try {
+                long waitNanos = reserveSlot();
+                if (waitNanos > 0) {
+                    Thread.sleep(Duration.ofNanos(waitNanos));
+                }
+                return request.execute();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("호스트 대기 중 인터럽트");
+            } finally {
+                permits.release();
+            }
+        }
+
+        private synchronized long reserveSlot() {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotNanos);
+            nextSlotNanos = slot + properties.getMinDelay().toNanos();
+            return slot - now;
+        }
+
+        synchronized void backOff(Duration wait) {
+            nextSlotNanos = Math.max(nextSlotNanos, System.nanoTime() + wait.toNanos());
+        }
+    }
+}
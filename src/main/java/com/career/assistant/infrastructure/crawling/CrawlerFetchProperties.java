@@ -0,0 +1,22 @@
+package com.career.assistant.infrastructure.crawling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 리스팅 크롤러 공용 페치 설정.
+ * 요청은 병렬로 보내되 호스트마다 동시 요청 수와 요청 간 최소 간격을 지켜 한 사이트에 몰리지 않게 한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crawler.fetch")
+public class CrawlerFetchProperties {
+    private int maxConcurrencyPerHost = 2;
+    private Duration minDelay = Duration.ofMillis(500);
+    private int maxRetries = 3;
+    private Duration retryBackoff = Duration.ofSeconds(1);
+    private Duration maxRetryAfter = Duration.ofSeconds(30);
+}
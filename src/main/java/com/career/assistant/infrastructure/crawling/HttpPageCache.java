@@ -0,0 +1,153 @@
+package com.career.assistant.infrastructure.crawling;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 크롤링 페이지 디스크 캐시 — 조건부 GET(If-None-Match / If-Modified-Since)용.
+ * ETag나 Last-Modified가 있는 응답만 gzip 본문과 함께 저장하고, 서버가 304를 주면 저장된 본문을 그대로 쓴다.
+ * URL마다 파일 하나(SHA-256 파일명)이며, 보관 기간이 지난 파일은 기동 시 정리하고 조회에서도 무시한다.
+ */
+@Slf4j
+@Component
+public class HttpPageCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    public record Entry(String etag, String lastModified, String contentType, byte[] body) {}
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration maxAge;
+
+    public HttpPageCache(@Value("${crawler.cache.enabled:true}") boolean enabled,
+                         @Value("${crawler.cache.path:./data/http-cache}") String directory,
+                         @Value("${crawler.cache.max-age-days:14}") int maxAgeDays) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.maxAge = Duration.ofDays(maxAgeDays);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled || !Files.isDirectory(directory)) return;
+        Instant cutoff = Instant.now().minus(maxAge);
+        int purged = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                if (isExpired(file, cutoff)) {
+                    Files.deleteIfExists(file);
+                    purged++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[HTTP 캐시] 만료 파일 정리 실패: {}", e.getMessage());
+        }
+        if (purged > 0) {
+            log.info("[HTTP 캐시] 만료된 캐시 {}건 정리", purged);
+        }
+    }
+
+    public Optional<Entry> get(String url) {
+        if (!enabled) return Optional.empty();
+        Path file = fileFor(url);
+        if (!Files.exists(file) || isExpired(file, Instant.now().minus(maxAge))) return Optional.empty();
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != FORMAT_VERSION || !url.equals(in.readUTF())) return Optional.empty();
+            String etag = emptyToNull(in.readUTF());
+            String lastModified = emptyToNull(in.readUTF());
+            String contentType = emptyToNull(in.readUTF());
+            byte[] compressed = in.readNBytes(in.readInt());
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                return Optional.of(new Entry(etag, lastModified, contentType, gzip.readAllBytes()));
+            }
+        } catch (IOException e) {
+            log.debug("[HTTP 캐시] 읽기 실패 — 캐시 없이 진행: {} ({})", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** 검증자(ETag/Last-Modified)가 없으면 조건부 요청을 보낼 수 없으므로 저장하지 않는다 */
+    public void put(String url, Entry entry) {
+        if (!enabled || (entry.etag() == null && entry.lastModified() == null)) return;
+        Path file = fileFor(url);
+        try {
+            Files.createDirectories(directory);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(entry.body());
+            }
+            Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tempFile))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(url);
+                out.writeUTF(nullToEmpty(entry.etag()));
+                out.writeUTF(nullToEmpty(entry.lastModified()));
+                out.writeUTF(nullToEmpty(entry.contentType()));
+                out.writeInt(compressed.size());
+                compressed.writeTo(out);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("[HTTP 캐시] 저장 실패: {} ({})", url, e.getMessage());
+        }
+    }
+
+    /** 304로 재검증된 항목의 보관 기간을 연장한다 */
+    public void touch(String url) {
+        if (!enabled) return;
+        try {
+            Files.setLastModifiedTime(fileFor(url), FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("[HTTP 캐시] 갱신 실패: {} ({})", url, e.getMessage());
+        }
+    }
+
+    private Path fileFor(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isExpired(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
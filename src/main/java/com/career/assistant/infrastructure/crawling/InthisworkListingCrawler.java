@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -23,7 +22,6 @@ import java.util.regex.Pattern;
 public class InthisworkListingCrawler implements JobSiteCrawler {
 
     private static final String API_URL = "https://inthiswork.com/wp-json/wp/v2/posts?per_page=20&page=%d&orderby=date&order=desc";
-    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
     private static final Pattern DEADLINE_PATTERN = Pattern.compile(
         "접수기한\\s*(\\d{4}[./-]\\d{1,2}[./-]\\d{1,2})"
     );
@@ -32,6 +30,7 @@ public class InthisworkListingCrawler implements JobSiteCrawler {
     );
 
     private final ObjectMapper objectMapper;
+    private final CrawlFetcher fetcher;
 
     @Override
     public String getSiteName() {
@@ -40,20 +39,28 @@ public class InthisworkListingCrawler implements JobSiteCrawler {
 
     @Override
     public List<JobListingItem> fetchListings(int maxPages) {
+        return fetchListings(maxPages, PageStop.NONE);
+    }
+
+    @Override
+    public boolean supportsIncremental() {
+        return true;
+    }
+
+    @Override
+    public List<JobListingItem> fetchListings(int maxPages, PageStop stop) {
         List<JobListingItem> items = new ArrayList<>();
 
         for (int page = 1; page <= maxPages; page++) {
             try {
-                String json = Jsoup.connect(String.format(API_URL, page))
-                    .ignoreContentType(true)
-                    .userAgent(USER_AGENT)
-                    .timeout(10_000)
-                    .execute()
+                String json = fetcher.fetch(String.format(API_URL, page),
+                        c -> c.ignoreContentType(true).timeout(10_000))
                     .body();
 
                 JsonNode posts = objectMapper.readTree(json);
                 if (!posts.isArray() || posts.isEmpty()) break;
 
+                List<JobListingItem> pageItems = new ArrayList<>();
                 for (JsonNode post : posts) {
                     String title = stripHtml(post.path("title").path("rendered").asText(""));
                     String link = post.path("link").asText("");
@@ -65,10 +72,15 @@ public class InthisworkListingCrawler implements JobSiteCrawler {
                     String positionTitle = extractPositionTitle(title);
                     String deadline = extractDeadline(excerpt);
 
-                    items.add(new JobListingItem(link, companyName, positionTitle, deadline, getSiteName()));
+                    pageItems.add(new JobListingItem(link, companyName, positionTitle, deadline, getSiteName()));
                 }
+                items.addAll(pageItems);
 
                 log.debug("[인디스워크] page {} → {}건 수집", page, posts.size());
+                if (stop.reached(page, pageItems)) {
+                    log.debug("[인디스워크] page {}에서 이전 수집 구간 도달 — 중단", page);
+                    break;
+                }
             } catch (Exception e) {
                 log.warn("[인디스워크] page {} 크롤링 실패: {}", page, e.getMessage());
                 break;
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -17,9 +16,9 @@ public class JasoseolListingCrawler implements JobSiteCrawler {
 
     private static final String API_URL = "https://jasoseol.com/api/v1/employment_companies?page=%d";
     private static final String DETAIL_URL = "https://jasoseol.com/recruit/%d";
-    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
 
     private final ObjectMapper objectMapper;
+    private final CrawlFetcher fetcher;
 
     @Override
     public String getSiteName() {
@@ -32,11 +31,8 @@ public class JasoseolListingCrawler implements JobSiteCrawler {
 
         for (int page = 1; page <= maxPages; page++) {
             try {
-                String json = Jsoup.connect(String.format(API_URL, page))
-                    .ignoreContentType(true)
-                    .userAgent(USER_AGENT)
-                    .timeout(10_000)
-                    .execute()
+                String json = fetcher.fetch(String.format(API_URL, page),
+                        c -> c.ignoreContentType(true).timeout(10_000))
                     .body();
 
                 JsonNode root = objectMapper.readTree(json);
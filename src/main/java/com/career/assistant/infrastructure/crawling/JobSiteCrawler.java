@@ -1,8 +1,34 @@
 package com.career.assistant.infrastructure.crawling;
 
+import com.career.assistant.domain.crawling.CrawlCursor;
+
 import java.util.List;
 
 public interface JobSiteCrawler {
     String getSiteName();
     List<JobListingItem> fetchListings(int maxPages);
+
+    /**
+     * 증분 수집. 최신순으로 정렬된 목록을 주는 크롤러만 재정의하며, stop이 true를 돌려준 페이지에서 멈춘다.
+     * 기본 구현은 순서를 보장할 수 없으므로 maxPages까지 모두 가져온다.
+     */
+    default List<JobListingItem> fetchListings(int maxPages, PageStop stop) {
+        return fetchListings(maxPages);
+    }
+
+    default boolean supportsIncremental() {
+        return false;
+    }
+
+    /**
+     * 순번형 ID 증분 수집. cursor의 최고 수위 위만 확인하고, 빈 구간 없이 확인을 마친 ID까지만 cursor를 옮긴다.
+     * cursor 저장은 호출자가 수집 결과를 저장한 뒤에 한다.
+     */
+    default List<JobListingItem> fetchListingsAfter(int maxPages, CrawlCursor cursor) {
+        return fetchListings(maxPages);
+    }
+
+    default boolean supportsIdCursor() {
+        return false;
+    }
 }
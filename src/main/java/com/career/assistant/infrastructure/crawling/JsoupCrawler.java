@@ -2,6 +2,7 @@ package com.career.assistant.infrastructure.crawling;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Connection;
 import org.jsoup.Jsoup;
@@ -18,6 +19,7 @@ import java.util.regex.Pattern;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JsoupCrawler {
 
     private static final String USER_AGENT =
@@ -27,16 +29,14 @@ public class JsoupCrawler {
         Pattern.compile("(\\d+)\\.\\s*(.+?)\\s*[\\(（](\\d+)자[\\)）]");
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CrawlFetcher fetcher;
 
     @Value("${jasoseol.user-token:}")
     private String jasoseolUserToken;
 
     public CrawledJobInfo crawl(String url) {
         try {
-            Document doc = Jsoup.connect(url)
-                .userAgent(USER_AGENT)
-                .timeout(10_000)
-                .get();
+            Document doc = fetcher.fetch(url, c -> c.timeout(10_000)).document();
 
             if (url.contains("wanted.co.kr")) {
                 return crawlWanted(doc);
@@ -667,14 +667,13 @@ public class JsoupCrawler {
 
         try {
             String apiUrl = "https://jasoseol.com/api/v1/employment_companies/" + recruitId;
-            Document apiDoc = Jsoup.connect(apiUrl)
-                .userAgent(USER_AGENT)
-                .header("Accept", "application/json")
-                .ignoreContentType(true)
-                .timeout(5_000)
-                .get();
+            String apiJson = fetcher.fetch(apiUrl, c -> c
+                    .header("Accept", "application/json")
+                    .ignoreContentType(true)
+                    .timeout(5_000))
+                .body();
 
-            JsonNode apiData = objectMapper.readTree(apiDoc.body().text());
+            JsonNode apiData = objectMapper.readTree(apiJson);
             JsonNode employments = apiData.path("employments");
             if (employments.isArray()) {
                 for (JsonNode emp : employments) {
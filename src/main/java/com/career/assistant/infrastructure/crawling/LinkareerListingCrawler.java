@@ -1,7 +1,8 @@
 package com.career.assistant.infrastructure.crawling;
 
+import com.career.assistant.domain.crawling.CrawlCursor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -9,22 +10,32 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.LongStream;
 
 /**
  * 링커리어(linkareer.com) 채용공고 리스팅 크롤러.
  * 링커리어는 SPA(Next.js)로 메인 리스트가 클라이언트 렌더링되지만,
  * 개별 activity 페이지의 og: 메타태그에서 제목/회사 정보를 추출할 수 있음.
  * 최신 activity ID 범위를 순회하며 채용 관련 공고를 수집.
+ * 지난 실행에서 빈 구간 없이 확인한 최고 ID(최고 수위)부터 오름차순으로 새 ID만 확인한다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LinkareerListingCrawler implements JobSiteCrawler {
 
     private static final String ACTIVITY_URL = "https://linkareer.com/activity/%d";
-    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
     private static final int ITEMS_PER_PAGE = 20;
+    private static final int PROBE_BATCH = 10;
+    /** sitemap에서 확인된 최근 ID — 최고 수위가 없는 첫 실행의 탐색 시작점 */
+    private static final long SEED_ACTIVITY_ID = 306000;
+    private static final long INITIAL_STEP = 64;
+    private static final int EXISTENCE_WINDOW = 5;
+    private static final int MAX_PROBE_ROUNDS = 16;
     private static final String[] RECRUIT_KEYWORDS = {"채용", "신입", "인턴", "경력", "모집", "recruit"};
 
+    private final CrawlFetcher fetcher;
+
     @Override
     public String getSiteName() {
         return "링커리어";
@@ -32,91 +43,159 @@ public class LinkareerListingCrawler implements JobSiteCrawler {
 
     @Override
     public List<JobListingItem> fetchListings(int maxPages) {
+        return fetchListingsAfter(maxPages, CrawlCursor.of(getSiteName()));
+    }
+
+    @Override
+    public boolean supportsIdCursor() {
+        return true;
+    }
+
+    @Override
+    public List<JobListingItem> fetchListingsAfter(int maxPages, CrawlCursor cursor) {
         List<JobListingItem> items = new ArrayList<>();
         int maxItems = maxPages * ITEMS_PER_PAGE;
+        int maxChecks = maxItems * 3; // 너무 많이 탐색하지 않기
 
-        // 최신 activity ID를 추정하여 역순 탐색
-        long latestId = findLatestActivityId();
+        // 지난 실행의 최고 수위부터 최신 activity ID를 찾고, 그 사이를 오름차순으로 탐색
+        Long mark = cursor.getLastId();
+        long latestId = findLatestActivityId(mark != null ? mark : SEED_ACTIVITY_ID);
         if (latestId <= 0) {
             log.warn("[링커리어] 최신 activity ID를 찾을 수 없습니다");
             return items;
         }
+        if (mark != null && latestId <= mark) {
+            log.info("[링커리어] 새 activity 없음 (최고 수위 {})", mark);
+            return items;
+        }
+        // 최고 수위가 없는 첫 실행은 최근 탐색 한도만큼만 확인한다
+        long floor = mark != null ? mark : Math.max(0, latestId - maxChecks);
 
         int checked = 0;
-        int notFound = 0;
-
-        for (long id = latestId; id > 0 && items.size() < maxItems; id--) {
-            if (notFound >= 10) break; // 연속 10개 404이면 중단
-            checked++;
-            if (checked > maxItems * 3) break; // 너무 많이 탐색하지 않기
-
-            try {
-                Document doc = Jsoup.connect(String.format(ACTIVITY_URL, id))
-                    .userAgent(USER_AGENT)
-                    .timeout(5_000)
-                    .followRedirects(true)
-                    .get();
-
-                String ogTitle = getMetaContent(doc, "og:title");
-                if (ogTitle == null || ogTitle.isBlank()) {
-                    notFound++;
-                    continue;
+        long nextId = floor + 1;
+        long checkedUpTo = floor;
+
+        // 한 묶음씩 병렬 요청하고, 판정은 ID 오름차순으로 한다 — 중간에 멈추면 거기까지만 확인한 것으로 본다
+        probe:
+        while (nextId <= latestId) {
+            List<Long> ids = LongStream.rangeClosed(nextId, Math.min(latestId, nextId + PROBE_BATCH - 1))
+                .boxed()
+                .toList();
+            nextId += ids.size();
+            List<CrawlFetcher.FetchResult> results = fetcher.fetchAll(
+                ids.stream().map(id -> String.format(ACTIVITY_URL, id)).toList(),
+                c -> c.timeout(5_000).followRedirects(true));
+
+            for (int i = 0; i < ids.size(); i++) {
+                if (items.size() >= maxItems || checked >= maxChecks) break probe;
+                checked++;
+
+                long id = ids.get(i);
+                CrawlFetcher.FetchResult result = results.get(i);
+                // 타임아웃/연결 오류/5xx/429는 다음 실행에서 다시 확인해야 하므로 수위를 그 앞에서 멈춘다
+                if (isTransientFailure(result)) {
+                    log.info("[링커리어] activity {} 일시적 접근 실패 ({}) — 다음 수집에서 여기부터 다시 확인", id,
+                        result.error() != null ? result.error().getMessage() : result.statusCode());
+                    break probe;
                 }
-                notFound = 0;
-
-                // 채용 관련 공고만 필터링
-                if (!isRecruitPosting(ogTitle, doc)) continue;
-
-                String companyName = extractCompanyName(ogTitle);
-                String title = extractTitle(ogTitle);
-                String deadline = extractDeadline(doc);
-                String url = String.format(ACTIVITY_URL, id);
-
-                items.add(new JobListingItem(url, companyName, title, deadline, getSiteName()));
-            } catch (org.jsoup.HttpStatusException e) {
-                if (e.getStatusCode() == 404) {
-                    notFound++;
-                } else {
-                    log.debug("[링커리어] activity {} 접근 실패: {}", id, e.getStatusCode());
+                checkedUpTo = id;
+
+                // 404 등 삭제/비공개로 비어 있는 ID는 건너뛴다 — 끝 ID를 알고 있으므로 멈추지 않는다
+                if (!result.isOk()) continue;
+                try {
+                    Document doc = result.document();
+
+                    String ogTitle = getMetaContent(doc, "og:title");
+                    if (ogTitle == null || ogTitle.isBlank()) continue;
+
+                    // 채용 관련 공고만 필터링
+                    if (!isRecruitPosting(ogTitle, doc)) continue;
+
+                    String companyName = extractCompanyName(ogTitle);
+                    String title = extractTitle(ogTitle);
+                    String deadline = extractDeadline(doc);
+                    String url = String.format(ACTIVITY_URL, id);
+
+                    items.add(new JobListingItem(url, companyName, title, deadline, getSiteName()));
+                } catch (Exception e) {
+                    log.debug("[링커리어] activity {} 크롤링 실패: {}", id, e.getMessage());
                 }
-            } catch (Exception e) {
-                log.debug("[링커리어] activity {} 크롤링 실패: {}", id, e.getMessage());
             }
         }
 
-        log.info("[링커리어] 총 {}건 수집 완료 ({}건 탐색)", items.size(), checked);
+        if (checkedUpTo < latestId) {
+            log.info("[링커리어] 탐색 중단 — activity {}~{} 구간은 다음 수집에서 이어서 확인", checkedUpTo + 1, latestId);
+        }
+        // 확인을 마친 구간까지만 수위를 올린다 (저장은 수집 결과 저장 후 JobCollectorService가 한다)
+        cursor.advanceTo(checkedUpTo);
+
+        log.info("[링커리어] 총 {}건 수집 완료 ({}건 탐색, activity {} → {})", items.size(), checked, floor, checkedUpTo);
         return items;
     }
 
-    private long findLatestActivityId() {
-        // sitemap에서 확인된 최근 범위(305000~306000)를 기반으로 최신 ID 탐색
-        for (long id = 310000; id >= 300000; id -= 100) {
-            try {
-                int status = Jsoup.connect(String.format(ACTIVITY_URL, id))
-                    .userAgent(USER_AGENT)
-                    .timeout(3_000)
-                    .followRedirects(true)
-                    .execute()
-                    .statusCode();
-                if (status == 200) {
-                    // 더 정밀하게 최신 ID 탐색
-                    for (long fineId = id + 99; fineId >= id; fineId--) {
-                        try {
-                            int fineStatus = Jsoup.connect(String.format(ACTIVITY_URL, fineId))
-                                .userAgent(USER_AGENT)
-                                .timeout(3_000)
-                                .execute()
-                                .statusCode();
-                            if (fineStatus == 200) return fineId;
-                        } catch (Exception ignored) {
-                        }
-                    }
-                    return id;
-                }
-            } catch (Exception ignored) {
+    /**
+     * from(지난 실행의 최고 수위) 위로 간격을 두 배씩 늘려 비어 있는 지점을 찾고(지수 탐색),
+     * 그 사이를 이분 탐색해 가장 최근 activity ID를 찾는다. 새 ID가 n개면 O(log n)회의 확인으로 끝난다.
+     * 삭제/비공개로 비어 있는 ID가 있어 한 ID 대신 EXISTENCE_WINDOW개 구간 중 하나라도 있으면 존재로 본다.
+     * 지수 탐색은 MAX_PROBE_ROUNDS회까지만 하고, 그래도 끝이 보이지 않으면 마지막으로 확인된 지점까지만 수집한다.
+     */
+    /** 다시 요청하면 결과가 달라질 수 있는 실패 — 404 같은 4xx는 영구적인 결과로 본다 */
+    private static boolean isTransientFailure(CrawlFetcher.FetchResult result) {
+        return result.error() != null || result.statusCode() >= 500 || result.statusCode() == 429;
+    }
+
+    private long findLatestActivityId(long from) {
+        long lo = from;
+        long step = INITIAL_STEP;
+        int rounds = 0;
+        while (windowExists(lo + step)) {
+            lo += step;
+            step *= 2;
+            if (++rounds >= MAX_PROBE_ROUNDS) {
+                log.warn("[링커리어] 최신 ID 탐색 상한({}회) 도달 — activity {}까지만 수집", MAX_PROBE_ROUNDS, lo);
+                return lo;
+            }
+        }
+        long hi = lo + step;
+
+        while (hi - lo > EXISTENCE_WINDOW) {
+            long mid = lo + (hi - lo) / 2;
+            if (windowExists(mid)) {
+                lo = mid;
+            } else {
+                hi = mid;
             }
         }
-        return 306000; // 폴백
+
+        // 남은 구간 [lo, hi)에서 실제로 존재하는 가장 큰 ID
+        long bottom = lo;
+        List<Long> candidates = LongStream.iterate(hi - 1, id -> id > bottom, id -> id - 1).boxed().toList();
+        List<CrawlFetcher.FetchResult> results = fetcher.fetchAll(
+            candidates.stream().map(id -> String.format(ACTIVITY_URL, id)).toList(),
+            c -> c.timeout(3_000).followRedirects(true));
+        for (int i = 0; i < candidates.size(); i++) {
+            if (exists(results.get(i))) return candidates.get(i);
+        }
+        return lo;
+    }
+
+    /** [start, start + EXISTENCE_WINDOW) 중 하나라도 존재하는지 — 구간을 병렬로 확인한다 */
+    private boolean windowExists(long start) {
+        List<String> urls = LongStream.range(start, start + EXISTENCE_WINDOW)
+            .mapToObj(id -> String.format(ACTIVITY_URL, id))
+            .toList();
+        return fetcher.fetchAll(urls, c -> c.timeout(3_000).followRedirects(true)).stream()
+            .anyMatch(this::exists);
+    }
+
+    private boolean exists(CrawlFetcher.FetchResult result) {
+        if (!result.isOk()) return false;
+        try {
+            String ogTitle = getMetaContent(result.document(), "og:title");
+            return ogTitle != null && !ogTitle.isBlank();
+        } catch (Exception e) {
+            return false;
+        }
     }
 
     private boolean isRecruitPosting(String ogTitle, Document doc) {
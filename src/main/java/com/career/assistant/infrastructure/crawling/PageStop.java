@@ -0,0 +1,16 @@
+package com.career.assistant.infrastructure.crawling;
+
+import java.util.List;
+
+/**
+ * 증분 수집 중단 조건. 최신순 목록의 한 페이지를 읽을 때마다 호출되며,
+ * 이미 수집한 구간에 닿았다고 판단하면 true를 돌려 다음 페이지 요청을 막는다.
+ */
+@FunctionalInterface
+public interface PageStop {
+
+    PageStop NONE = (page, pageItems) -> false;
+
+    /** page는 목록별 1부터 시작 (사람인처럼 키워드별 목록이 여럿이면 목록마다 따로 센다) */
+    boolean reached(int page, List<JobListingItem> pageItems);
+}
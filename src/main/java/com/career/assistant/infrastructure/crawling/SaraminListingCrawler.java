@@ -1,7 +1,7 @@
 package com.career.assistant.infrastructure.crawling;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -14,14 +14,16 @@ import java.util.List;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SaraminListingCrawler implements JobSiteCrawler {
 
     private static final String SEARCH_URL =
-        "https://www.saramin.co.kr/zf_user/search/recruit?searchword=%s&recruitPage=%d";
+        "https://www.saramin.co.kr/zf_user/search/recruit?searchword=%s&recruitPage=%d&recruitSort=reg_dt";
     private static final String BASE_URL = "https://www.saramin.co.kr";
-    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
     private static final String[] KEYWORDS = {"백엔드", "Java Spring", "서버개발", "금융 IT", "핀테크"};
 
+    private final CrawlFetcher fetcher;
+
     @Override
     public String getSiteName() {
         return "사람인";
@@ -29,20 +31,43 @@ public class SaraminListingCrawler implements JobSiteCrawler {
 
     @Override
     public List<JobListingItem> fetchListings(int maxPages) {
+        return fetchListings(maxPages, PageStop.NONE);
+    }
+
+    @Override
+    public boolean supportsIncremental() {
+        return true;
+    }
+
+    /**
+     * 페이지 단위로 라운드를 돈다 — 아직 끝나지 않은 키워드들의 같은 페이지를 한 번에 제출하고
+     * (동시성/간격 제한은 CrawlFetcher가 호스트 단위로 지킨다), 빈 페이지나 이전 수집 구간에 닿은 키워드는 다음 라운드에서 뺀다.
+     */
+    @Override
+    public List<JobListingItem> fetchListings(int maxPages, PageStop stop) {
         List<JobListingItem> items = new ArrayList<>();
+        List<String> active = new ArrayList<>(List.of(KEYWORDS));
+
+        for (int page = 1; page <= maxPages && !active.isEmpty(); page++) {
+            int currentPage = page;
+            List<String> urls = active.stream()
+                .map(keyword -> String.format(SEARCH_URL, URLEncoder.encode(keyword, StandardCharsets.UTF_8), currentPage))
+                .toList();
+            List<CrawlFetcher.FetchResult> results = fetcher.fetchAll(urls, c -> c.timeout(10_000));
 
-        for (String keyword : KEYWORDS) {
-            for (int page = 1; page <= maxPages; page++) {
+            List<String> finished = new ArrayList<>();
+            for (int k = 0; k < active.size(); k++) {
+                String keyword = active.get(k);
                 try {
-                    String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
-                    Document doc = Jsoup.connect(String.format(SEARCH_URL, encodedKeyword, page))
-                        .userAgent(USER_AGENT)
-                        .timeout(10_000)
-                        .get();
+                    Document doc = results.get(k).document();
 
                     Elements recruitItems = doc.select(".item_recruit");
-                    if (recruitItems.isEmpty()) break;
+                    if (recruitItems.isEmpty()) {
+                        finished.add(keyword);
+                        continue;
+                    }
 
+                    List<JobListingItem> pageItems = new ArrayList<>();
                     for (Element item : recruitItems) {
                         Element companyEl = item.selectFirst(".corp_name a");
                         Element titleEl = item.selectFirst(".job_tit a");
@@ -56,15 +81,21 @@ public class SaraminListingCrawler implements JobSiteCrawler {
                         String href = titleEl.attr("href");
                         String url = href.startsWith("http") ? href : BASE_URL + href;
 
-                        items.add(new JobListingItem(url, companyName, title, deadline, getSiteName()));
+                        pageItems.add(new JobListingItem(url, companyName, title, deadline, getSiteName()));
                     }
+                    items.addAll(pageItems);
 
                     log.debug("[사람인] keyword='{}' page {} → {}건", keyword, page, recruitItems.size());
+                    if (stop.reached(page, pageItems)) {
+                        log.debug("[사람인] keyword='{}' page {}에서 이전 수집 구간 도달 — 중단", keyword, page);
+                        finished.add(keyword);
+                    }
                 } catch (Exception e) {
                     log.warn("[사람인] keyword='{}' page {} 크롤링 실패: {}", keyword, page, e.getMessage());
-                    break;
+                    finished.add(keyword);
                 }
             }
+            active.removeAll(finished);
         }
 
         log.info("[사람인] 총 {}건 수집 완료", items.size());
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -16,11 +15,11 @@ import java.util.List;
 public class WantedListingCrawler implements JobSiteCrawler {
 
     private static final String API_URL =
-        "https://www.wanted.co.kr/api/v4/jobs?country=kr&tag_type_ids=518&locations=all&years=-1&limit=20&offset=%d";
+        "https://www.wanted.co.kr/api/v4/jobs?country=kr&tag_type_ids=518&locations=all&years=-1&limit=20&offset=%d&job_sort=job.latest_order";
     private static final String DETAIL_URL = "https://www.wanted.co.kr/wd/%d";
-    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36";
 
     private final ObjectMapper objectMapper;
+    private final CrawlFetcher fetcher;
 
     @Override
     public String getSiteName() {
@@ -29,21 +28,29 @@ public class WantedListingCrawler implements JobSiteCrawler {
 
     @Override
     public List<JobListingItem> fetchListings(int maxPages) {
+        return fetchListings(maxPages, PageStop.NONE);
+    }
+
+    @Override
+    public boolean supportsIncremental() {
+        return true;
+    }
+
+    @Override
+    public List<JobListingItem> fetchListings(int maxPages, PageStop stop) {
         List<JobListingItem> items = new ArrayList<>();
 
         for (int page = 0; page < maxPages; page++) {
             try {
-                String json = Jsoup.connect(String.format(API_URL, page * 20))
-                    .ignoreContentType(true)
-                    .userAgent(USER_AGENT)
-                    .timeout(10_000)
-                    .execute()
+                String json = fetcher.fetch(String.format(API_URL, page * 20),
+                        c -> c.ignoreContentType(true).timeout(10_000))
                     .body();
 
                 JsonNode root = objectMapper.readTree(json);
                 JsonNode data = root.path("data");
                 if (!data.isArray() || data.isEmpty()) break;
 
+                List<JobListingItem> pageItems = new ArrayList<>();
                 for (JsonNode node : data) {
                     long id = node.path("id").asLong(0);
                     String position = node.path("position").asText("");
@@ -51,7 +58,7 @@ public class WantedListingCrawler implements JobSiteCrawler {
                     String dueTime = node.path("due_time").asText(null);
                     if (id == 0 || companyName.isBlank()) continue;
 
-                    items.add(new JobListingItem(
+                    pageItems.add(new JobListingItem(
                         String.format(DETAIL_URL, id),
                         companyName,
                         position,
@@ -59,8 +66,13 @@ public class WantedListingCrawler implements JobSiteCrawler {
                         getSiteName()
                     ));
                 }
+                items.addAll(pageItems);
 
                 log.debug("[원티드] page {} → {}건 수집", page, data.size());
+                if (stop.reached(page + 1, pageItems)) {
+                    log.debug("[원티드] page {}에서 이전 수집 구간 도달 — 중단", page);
+                    break;
+                }
             } catch (Exception e) {
                 log.warn("[원티드] page {} 크롤링 실패: {}", page, e.getMessage());
                 break;
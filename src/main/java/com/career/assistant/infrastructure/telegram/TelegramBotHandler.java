@@ -2,18 +2,21 @@ package com.career.assistant.infrastructure.telegram;
 
 import com.career.assistant.application.CoverLetterFacade;
 import com.career.assistant.application.interview.InterviewPrepAnalyzer;
+import com.career.assistant.application.job.CoverLetterJob;
+import com.career.assistant.application.job.CoverLetterJobService;
+import com.career.assistant.application.job.CoverLetterProgressEvent;
 import com.career.assistant.application.interview.InterviewPrepMessageFormatter;
 import com.career.assistant.application.interview.InterviewPrepResult;
 import com.career.assistant.application.jobcollector.JobCollectorService;
 import com.career.assistant.application.kpt.KptMessageFormatter;
 import com.career.assistant.domain.coverletter.CoverLetter;
 import com.career.assistant.domain.coverletter.CoverLetterRepository;
+import com.career.assistant.domain.coverletter.ReviewScores;
+import com.career.assistant.domain.coverletter.ReviewTrendRow;
 import com.career.assistant.domain.jobposting.JobPosting;
 import com.career.assistant.domain.jobposting.JobPostingRepository;
 import com.career.assistant.domain.kpt.KptRecord;
 import com.career.assistant.domain.kpt.KptRecordRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -39,6 +42,7 @@ import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 public class TelegramBotHandler extends TelegramLongPollingBot {
 
     private final CoverLetterFacade coverLetterFacade;
+    private final CoverLetterJobService coverLetterJobService;
     private final CoverLetterRepository coverLetterRepository;
     private final JobPostingRepository jobPostingRepository;
     private final JobCollectorService jobCollectorService;
@@ -46,13 +50,13 @@ public class TelegramBotHandler extends TelegramLongPollingBot {
     private final KptRecordRepository kptRecordRepository;
     private final InterviewPrepAnalyzer interviewPrepAnalyzer;
     private final InterviewPrepMessageFormatter interviewPrepMessageFormatter;
-    private final ObjectMapper objectMapper;
     private final String chatId;
     private final ExecutorService telegramSendExecutor = Executors.newSingleThreadExecutor(
         r -> { Thread t = new Thread(r, "telegram-send"); t.setDaemon(true); return t; });
 
     public TelegramBotHandler(
         CoverLetterFacade coverLetterFacade,
+        CoverLetterJobService coverLetterJobService,
         CoverLetterRepository coverLetterRepository,
         JobPostingRepository jobPostingRepository,
         JobCollectorService jobCollectorService,
@@ -60,12 +64,12 @@ public class TelegramBotHandler extends TelegramLongPollingBot {
         KptRecordRepository kptRecordRepository,
         InterviewPrepAnalyzer interviewPrepAnalyzer,
         InterviewPrepMessageFormatter interviewPrepMessageFormatter,
-        ObjectMapper objectMapper,
         @Value("${telegram.bot-token}") String botToken,
         @Value("${telegram.chat-id}") String chatId
     ) {
         super(botToken);
         this.coverLetterFacade = coverLetterFacade;
+        this.coverLetterJobService = coverLetterJobService;
         this.coverLetterRepository = coverLetterRepository;
         this.jobPostingRepository = jobPostingRepository;
         this.jobCollectorService = jobCollectorService;
@@ -73,7 +77,6 @@ public class TelegramBotHandler extends TelegramLongPollingBot {
         this.kptRecordRepository = kptRecordRepository;
         this.interviewPrepAnalyzer = interviewPrepAnalyzer;
         this.interviewPrepMessageFormatter = interviewPrepMessageFormatter;
-        this.objectMapper = objectMapper;
         this.chatId = chatId;
     }
 
@@ -242,38 +245,49 @@ public class TelegramBotHandler extends TelegramLongPollingBot {
         }
 
         if (companyName == null) {
-            sendMessage("공고를 크롤링 중입니다...");
-            sendMessage("회사를 AI로 심층 분석 중입니다... (경쟁사, 채용 배경, 문항별 작성 전략 등)");
-            sendMessage("분석 완료 후 자소서를 생성합니다. AI 에이전트가 생성 → 검토 → 개선을 반복합니다. 잠시만 기다려주세요.");
+            sendMessage("자소서 생성을 시작합니다. AI 에이전트가 크롤링 → 회사 분석 → 생성 → 검토 → 개선을 진행하며 단계별로 알려드릴게요.");
         }
 
-        try {
-            List<CoverLetter> coverLetters = coverLetterFacade.generateFromUrl(url);
-            if (coverLetters.size() == 1) {
-                CoverLetter cl = coverLetters.get(0);
-                String scoreInfo = formatScoreInfo(cl);
-                sendMessage("자소서가 완성됐습니다!" + scoreInfo + "\n\n" + cl.getContent());
-            } else {
-                StringBuilder sb = new StringBuilder("자소서가 완성됐습니다! (문항 %d개)\n".formatted(coverLetters.size()));
-                for (CoverLetter cl : coverLetters) {
-                    if (cl.getQuestionIndex() != null) {
-                        sb.append("\n--- 문항 %d ---\n".formatted(cl.getQuestionIndex()));
-                        sb.append("[%s]\n".formatted(cl.getQuestionText()));
-                    }
-                    String scoreInfo = formatScoreInfo(cl);
-                    sb.append(scoreInfo).append("\n\n");
-                    sb.append(cl.getContent()).append("\n");
-                }
-                sendMessage(sb.toString());
+        // 업데이트 스레드를 붙잡지 않도록 작업으로 넘기고, 진행/결과는 작업 스레드에서 전송
+        String existingCompany = companyName;
+        CoverLetterJob job = coverLetterJobService.submit(url, null,
+            existingCompany == null ? this::sendProgress : null);
+        job.getCompletion().whenComplete((coverLetters, e) -> {
+            if (e != null) {
+                sendMessage("공고 분석에 실패했습니다. URL을 확인해주세요.\n" + e.getMessage());
+                return;
+            }
+            sendCoverLetters(coverLetters);
+            if (existingCompany != null) {
+                sendMessage("이미 생성된 자소서입니다. 추가 개선을 원하시면 /개선 %s 을 입력하세요.".formatted(existingCompany));
             }
+        });
+    }
+
+    /** 문항별 진행 단계를 그대로 알린다 — 완료/실패는 결과 메시지로 따로 보낸다 */
+    private void sendProgress(CoverLetterProgressEvent event) {
+        if (event.isTerminal()) return;
+        sendMessage("[진행] " + event.message());
+    }
 
-            if (companyName != null) {
-                sendMessage("이미 생성된 자소서입니다. 추가 개선을 원하시면 /개선 %s 을 입력하세요.".formatted(companyName));
+    private void sendCoverLetters(List<CoverLetter> coverLetters) {
+        if (coverLetters.size() == 1) {
+            CoverLetter cl = coverLetters.get(0);
+            String scoreInfo = formatScoreInfo(cl);
+            sendMessage("자소서가 완성됐습니다!" + scoreInfo + "\n\n" + cl.getContent());
+            return;
+        }
+        StringBuilder sb = new StringBuilder("자소서가 완성됐습니다! (문항 %d개)\n".formatted(coverLetters.size()));
+        for (CoverLetter cl : coverLetters) {
+            if (cl.getQuestionIndex() != null) {
+                sb.append("\n--- 문항 %d ---\n".formatted(cl.getQuestionIndex()));
+                sb.append("[%s]\n".formatted(cl.getQuestionText()));
             }
-        } catch (Exception e) {
-            log.error("자소서 생성 실패", e);
-            sendMessage("공고 분석에 실패했습니다. URL을 확인해주세요.\n" + e.getMessage());
+            String scoreInfo = formatScoreInfo(cl);
+            sb.append(scoreInfo).append("\n\n");
+            sb.append(cl.getContent()).append("\n");
         }
+        sendMessage(sb.toString());
     }
 
     private void handleImproveCommand(String text) {
@@ -447,45 +461,35 @@ public class TelegramBotHandler extends TelegramLongPollingBot {
         }
 
         JobPosting jp = matched.get(0);
-        List<CoverLetter> versions = coverLetterRepository
-            .findByJobPostingIdAndQuestionIndexOrderByVersionAsc(jp.getId(), questionIndex);
+        List<ReviewTrendRow> versions = coverLetterRepository.findReviewTrend(jp.getId(), questionIndex);
 
         if (versions.isEmpty()) {
-            sendMessage("'%s' 문항 %d번의 자소서를 찾을 수 없습니다.".formatted(jp.getCompanyName(), questionIndex));
+            sendMessage("'%s' 문항 %d번의 검토된 자소서를 찾을 수 없습니다.".formatted(jp.getCompanyName(), questionIndex));
             return;
         }
 
         StringBuilder sb = new StringBuilder("%s — 문항 %d 버전 비교\n\n".formatted(jp.getCompanyName(), questionIndex));
 
-        for (CoverLetter v : versions) {
-            int score = v.getReviewScore() != null ? v.getReviewScore() : 0;
-            sb.append("v%d: %d점 (%s)".formatted(v.getVersion(), score, resolveGrade(score)));
-
-            if (v.getFeedback() != null && !v.getFeedback().isBlank()) {
-                try {
-                    JsonNode root = objectMapper.readTree(v.getFeedback());
-                    JsonNode scores = root.get("scores");
-                    if (scores != null) {
-                        sb.append("\n  직무적합도:%d 구체성:%d 조직적합도:%d".formatted(
-                            scores.path("jobFit").asInt(),
-                            scores.path("specificity").asInt(),
-                            scores.path("orgFit").asInt()
-                        ));
-                    }
-                } catch (Exception e) {
-                    // 파싱 실패시 무시
-                }
+        for (ReviewTrendRow v : versions) {
+            int score = v.totalScore();
+            sb.append("v%d: %d점 (%s)".formatted(v.version(), score, resolveGrade(score)));
+
+            ReviewScores scores = v.scores();
+            if (scores != null && scores.getJobFit() != null) {
+                sb.append("\n  직무적합도:%d 구체성:%d 조직적합도:%d".formatted(
+                    scores.getJobFit(), scores.getSpecificity(), scores.getOrgFit()
+                ));
             }
             sb.append("\n");
         }
 
-        CoverLetter first = versions.get(0);
-        CoverLetter last = versions.get(versions.size() - 1);
-        int firstScore = first.getReviewScore() != null ? first.getReviewScore() : 0;
-        int lastScore = last.getReviewScore() != null ? last.getReviewScore() : 0;
+        ReviewTrendRow first = versions.get(0);
+        ReviewTrendRow last = versions.get(versions.size() - 1);
+        int firstScore = first.totalScore();
+        int lastScore = last.totalScore();
         int diff = lastScore - firstScore;
         String arrow = diff > 0 ? "+" + diff : String.valueOf(diff);
-        sb.append("\nv%d→v%d: %d점 → %d점 (%s)".formatted(first.getVersion(), last.getVersion(), firstScore, lastScore, arrow));
+        sb.append("\nv%d→v%d: %d점 → %d점 (%s)".formatted(first.version(), last.version(), firstScore, lastScore, arrow));
 
         sendMessage(sb.toString());
     }
@@ -0,0 +1,41 @@
+package com.career.assistant.scheduler;
+
+import com.career.assistant.application.CoverLetterBatchService;
+import com.career.assistant.infrastructure.telegram.TelegramBotHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ai.batch.enabled", havingValue = "true")
+public class BatchDraftScheduler {
+
+    private static final String TASK_NAME = "야간 배치 선생성";
+
+    private final CoverLetterBatchService batchService;
+    private final TelegramBotHandler telegramBotHandler;
+    private final SchedulerHealthMonitor healthMonitor;
+
+    @Scheduled(cron = "${ai.batch.cron:0 0 1 * * *}", zone = "Asia/Seoul")
+    public void draftFetchedPostings() {
+        log.info("야간 배치 선생성 스케줄러 시작");
+
+        try {
+            CoverLetterBatchService.Summary summary = batchService.runOvernight();
+            if (summary.drafted() > 0) {
+                telegramBotHandler.sendMessage(
+                    "[야간 선생성] 수집 공고 %d건 중 %d건 초안 준비 완료 (분석 %d건, 크롤링 실패 %d건)\n공고 URL을 보내면 검토/개선부터 이어서 진행합니다."
+                        .formatted(summary.candidates(), summary.drafted(), summary.analyzed(), summary.failed()));
+            }
+            healthMonitor.recordSuccess(TASK_NAME);
+        } catch (Exception e) {
+            log.error("야간 배치 선생성 실패", e);
+            telegramBotHandler.sendMessage("야간 배치 선생성에 실패했습니다. 로그를 확인해주세요.");
+            healthMonitor.recordFailure(TASK_NAME, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.career.assistant.scheduler;
+
+import com.career.assistant.application.jobcollector.PostingPreparationService;
+import com.career.assistant.infrastructure.telegram.TelegramBotHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "posting-preparation.enabled", havingValue = "true")
+public class PostingPreparationScheduler {
+
+    private static final String TASK_NAME = "수집 공고 선분석";
+
+    private final PostingPreparationService preparationService;
+    private final TelegramBotHandler telegramBotHandler;
+    private final SchedulerHealthMonitor healthMonitor;
+
+    @Scheduled(cron = "${posting-preparation.cron:0 */30 8-23 * * *}", zone = "Asia/Seoul")
+    public void prepareCollectedPostings() {
+        try {
+            PostingPreparationService.Summary summary = preparationService.runOnce();
+            if (summary.prepared() > 0) {
+                log.info("수집 공고 선분석 — {}건 준비 완료", summary.prepared());
+            }
+            healthMonitor.recordSuccess(TASK_NAME);
+        } catch (Exception e) {
+            log.error("수집 공고 선분석 실패", e);
+            telegramBotHandler.sendMessage("수집 공고 선분석에 실패했습니다. 로그를 확인해주세요.");
+            healthMonitor.recordFailure(TASK_NAME, e);
+        }
+    }
+}
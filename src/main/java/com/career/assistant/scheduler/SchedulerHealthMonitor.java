@@ -1,8 +1,12 @@
 package com.career.assistant.scheduler;
 
+import com.career.assistant.infrastructure.ai.AiCircuitBreaker;
+import com.career.assistant.infrastructure.ai.AiCircuitStateChangedEvent;
+import com.career.assistant.infrastructure.ai.AiUnavailableException;
 import com.career.assistant.infrastructure.telegram.TelegramBotHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -27,6 +31,12 @@ public class SchedulerHealthMonitor {
     }
 
     public void recordFailure(String taskName, Exception e) {
+        if (isAiCircuitOpen(e)) {
+            // AI 장애는 서킷 상태 변경 시점에 한 번만 알린다 — 스케줄러별 연속 실패로 중복 집계하지 않음
+            log.warn("[헬스] {} 건너뜀 — {}", taskName, e.getMessage());
+            return;
+        }
+
         int count = failureCounts
             .computeIfAbsent(taskName, k -> new AtomicInteger(0))
             .incrementAndGet();
@@ -39,4 +49,22 @@ public class SchedulerHealthMonitor {
             telegramBotHandler.sendMessage(message);
         }
     }
+
+    @EventListener
+    public void onAiCircuitStateChanged(AiCircuitStateChangedEvent event) {
+        if (event.to() == AiCircuitBreaker.State.OPEN && event.from() == AiCircuitBreaker.State.CLOSED) {
+            telegramBotHandler.sendMessage(
+                "[AI 경고] %s 호출 실패율 %d%% — 서킷을 열고 일시 차단합니다."
+                    .formatted(event.model(), Math.round(event.failureRate() * 100)));
+        } else if (event.to() == AiCircuitBreaker.State.CLOSED) {
+            telegramBotHandler.sendMessage("[AI 복구] %s 호출이 정상화되었습니다.".formatted(event.model()));
+        }
+    }
+
+    private boolean isAiCircuitOpen(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof AiUnavailableException) return true;
+        }
+        return false;
+    }
 }
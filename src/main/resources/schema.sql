@@ -9,6 +9,8 @@ CREATE TABLE job_postings (
     company_analysis TEXT,
     status          VARCHAR(30) DEFAULT 'FETCHED',
     created_at      DATETIME DEFAULT CURRENT_TIMESTAMP,
+    preparation_attempts INT NOT NULL DEFAULT 0,
+    version         BIGINT NOT NULL DEFAULT 0,
     UNIQUE KEY uk_url (url(500))
 );
 
@@ -17,11 +19,25 @@ CREATE TABLE cover_letters (
     job_posting_id BIGINT NOT NULL,
     ai_model       VARCHAR(50),
     content        TEXT,
+    base_id        BIGINT,
+    content_delta  MEDIUMBLOB,
     version        INT DEFAULT 1,
     question_index INT NOT NULL DEFAULT 0,
     question_text  TEXT,
     feedback       TEXT,
     review_score   INT,
+    score_answer_relevance       INT,
+    score_job_fit                INT,
+    score_org_fit                INT,
+    score_specificity            INT,
+    score_authenticity           INT,
+    score_ai_detection_risk      INT,
+    score_logical_structure      INT,
+    score_keyword_usage          INT,
+    score_experience_consistency INT,
+    review_grade        VARCHAR(2),
+    review_comment      TEXT,
+    review_improvements TEXT,
     created_at     DATETIME DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (job_posting_id) REFERENCES job_postings(id),
     UNIQUE KEY uk_job_question_version (job_posting_id, question_index, version)
@@ -49,11 +65,30 @@ CREATE TABLE github_activities (
 );
 
 CREATE TABLE pipeline_log (
-    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
-    job_id     BIGINT,
-    stage      VARCHAR(20),
-    status     VARCHAR(20),
-    error_msg  TEXT,
-    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (job_id) REFERENCES job_postings(id)
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id         BIGINT,
+    stage          VARCHAR(20),
+    question_index INT,
+    status         VARCHAR(20),
+    error_msg      TEXT,
+    output         MEDIUMTEXT,
+    duration_ms    BIGINT,
+    created_at     DATETIME DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (job_id) REFERENCES job_postings(id),
+    INDEX idx_pipeline_log_job (job_id, stage)
+);
+
+CREATE TABLE crawl_cursors (
+    site_name  VARCHAR(30) PRIMARY KEY,
+    last_id    BIGINT,
+    last_urls  TEXT,
+    catch_up   BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at DATETIME
+);
+
+CREATE TABLE posting_preparation_usage (
+    usage_date     DATE PRIMARY KEY,
+    prepared_count INT NOT NULL DEFAULT 0,
+    tokens         BIGINT NOT NULL DEFAULT 0,
+    updated_at     DATETIME
 );
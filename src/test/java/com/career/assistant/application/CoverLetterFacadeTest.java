@@ -0,0 +1,156 @@
+package com.career.assistant.application;
+
+import com.career.assistant.application.job.CoverLetterProgress;
+import com.career.assistant.application.review.DraftLinter;
+import com.career.assistant.application.review.ReviewAgent;
+import com.career.assistant.domain.coverletter.CoverLetter;
+import com.career.assistant.domain.coverletter.CoverLetterRepository;
+import com.career.assistant.domain.experience.UserExperienceRepository;
+import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.domain.jobposting.JobPostingRepository;
+import com.career.assistant.domain.jobposting.PipelineStatus;
+import com.career.assistant.domain.pipeline.PipelineLogRepository;
+import com.career.assistant.infrastructure.ai.AiBatchResult;
+import com.career.assistant.infrastructure.ai.AiPort;
+import com.career.assistant.infrastructure.ai.AiRouter;
+import com.career.assistant.infrastructure.ai.AiTask;
+import com.career.assistant.infrastructure.ai.AiUsageRecorder;
+import com.career.assistant.infrastructure.ai.PromptBudgetProperties;
+import com.career.assistant.infrastructure.crawling.EssayQuestion;
+import com.career.assistant.infrastructure.crawling.JsoupCrawler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CoverLetterFacadeTest {
+
+    private static final String IMPROVED = "정산 배치를 재설계해 처리 지연을 2.3초에서 0.4초로 줄였습니다.";
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private CoverLetterRepository coverLetterRepository;
+
+    @Mock
+    private ExperienceEmbeddingService experienceEmbeddingService;
+
+    @Mock
+    private CompanyAnalyzer companyAnalyzer;
+
+    @Mock
+    private AiRouter aiRouter;
+
+    @Mock
+    private AiPort writer;
+
+    @Mock
+    private ReviewAgent reviewAgent;
+
+    private JobPosting posting;
+    private CoverLetterFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        posting = JobPosting.fromCollected("https://fake.jobs/1", "가상페이", "백엔드 개발자", null);
+        ReflectionTestUtils.setField(posting, "id", 1L);
+        when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(posting));
+        when(aiRouter.route(any(AiTask.class))).thenReturn(writer);
+        when(writer.getModelName()).thenReturn("fake-sonnet");
+
+        facade = new CoverLetterFacade(
+            jobPostingRepository,
+            coverLetterRepository,
+            mock(UserExperienceRepository.class),
+            experienceEmbeddingService,
+            mock(JsoupCrawler.class),
+            new CompanyClassifier(),
+            companyAnalyzer,
+            new CoverLetterPromptBuilder(new PromptBudgetProperties()),
+            mock(CoverLetterStrategyPlanner.class),
+            aiRouter,
+            new ObjectMapper(),
+            reviewAgent,
+            new AiUsageRecorder(new SimpleMeterRegistry()),
+            new CoverLetterProgress(),
+            new ReviewPipelineGate(1, 1, 1),
+            new DraftLinter(),
+            new PipelineCheckpoints(mock(PipelineLogRepository.class))
+        );
+    }
+
+    @Test
+    void 자동_점검_탈락_후_검토가_실패하면_마지막_개선본을_돌려준다() {
+        // 금지 표현 + 수치 없음 → 1차는 LLM 검토 없이 바로 개선
+        CoverLetter v1 = CoverLetter.ofVersion(posting, "fake-sonnet", "무엇보다 열심히 노력했습니다.", 1, 0, null);
+        when(coverLetterRepository.findByJobPostingId(1L)).thenReturn(List.of(v1));
+        when(writer.generateWithContext(anyString(), anyString(), anyInt())).thenReturn(IMPROVED);
+        when(reviewAgent.review(anyString(), any(), any(), anyInt(), any(), anyInt()))
+            .thenThrow(new RuntimeException("529 overloaded"));
+
+        List<CoverLetter> results = facade.improveExisting(1L);
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getVersion()).isEqualTo(2);
+        assertThat(results.get(0).getContent()).isEqualTo(IMPROVED);
+    }
+
+    @Test
+    void 배치_초안이_일부_문항만_있으면_저장하지_않고_상태도_그대로_둔다() {
+        List<EssayQuestion> questions = List.of(
+            new EssayQuestion(1, "지원 동기", 700), new EssayQuestion(2, "협업 경험", 700));
+        Map<String, AiBatchResult> results = Map.of(
+            "draft-1-1", AiBatchResult.succeeded("draft-1-1", textMessage(IMPROVED)),
+            "draft-1-2", AiBatchResult.failed("draft-1-2", "overloaded_error"));
+
+        List<CoverLetter> saved = facade.saveBatchDrafts(posting, questions, results);
+
+        assertThat(saved).isEmpty();
+        assertThat(posting.getStatus()).isEqualTo(PipelineStatus.FETCHED);
+        verify(coverLetterRepository, never()).save(any());
+    }
+
+    @Test
+    void 배치_초안이_모든_문항에_있으면_저장하고_DRAFTED로_전환한다() {
+        List<EssayQuestion> questions = List.of(
+            new EssayQuestion(1, "지원 동기", 700), new EssayQuestion(2, "협업 경험", 700));
+        Map<String, AiBatchResult> results = Map.of(
+            "draft-1-1", AiBatchResult.succeeded("draft-1-1", textMessage(IMPROVED)),
+            "draft-1-2", AiBatchResult.succeeded("draft-1-2", textMessage(IMPROVED)));
+        when(coverLetterRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<CoverLetter> saved = facade.saveBatchDrafts(posting, questions, results);
+
+        assertThat(saved).extracting(CoverLetter::getQuestionIndex).containsExactly(1, 2);
+        assertThat(posting.getStatus()).isEqualTo(PipelineStatus.DRAFTED);
+    }
+
+    private static Map<String, Object> textMessage(String text) {
+        return Map.of(
+            "model", "fake-sonnet",
+            "stop_reason", "end_turn",
+            "content", List.of(Map.of("type", "text", "text", text)));
+    }
+}
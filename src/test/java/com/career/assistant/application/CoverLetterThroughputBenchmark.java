@@ -0,0 +1,260 @@
+package com.career.assistant.application;
+
+import com.career.assistant.application.job.CoverLetterProgress;
+import com.career.assistant.application.review.DraftLinter;
+import com.career.assistant.application.review.ReviewAgent;
+import com.career.assistant.domain.coverletter.CoverLetter;
+import com.career.assistant.domain.coverletter.CoverLetterRepository;
+import com.career.assistant.domain.experience.ExperienceCategory;
+import com.career.assistant.domain.experience.UserExperience;
+import com.career.assistant.domain.experience.UserExperienceRepository;
+import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.domain.jobposting.JobPostingRepository;
+import com.career.assistant.domain.pipeline.PipelineLogRepository;
+import com.career.assistant.infrastructure.ai.AiCircuitBreaker;
+import com.career.assistant.infrastructure.ai.AiCircuitBreakerProperties;
+import com.career.assistant.infrastructure.ai.AiModelStats;
+import com.career.assistant.infrastructure.ai.AiPort;
+import com.career.assistant.infrastructure.ai.AiRouter;
+import com.career.assistant.infrastructure.ai.AiRoutingProperties;
+import com.career.assistant.infrastructure.ai.AiUsageRecorder;
+import com.career.assistant.infrastructure.ai.AiUsageSummary;
+import com.career.assistant.infrastructure.ai.CircuitBreakingAiPort;
+import com.career.assistant.infrastructure.ai.ClaudeAdapter;
+import com.career.assistant.infrastructure.ai.ClaudeHttpProperties;
+import com.career.assistant.infrastructure.ai.FakeAnthropicServer;
+import com.career.assistant.infrastructure.ai.FakeAnthropicServer.LatencyDistribution;
+import com.career.assistant.infrastructure.ai.PromptBudgetProperties;
+import com.career.assistant.infrastructure.ai.SingleFlightAiPort;
+import com.career.assistant.infrastructure.crawling.CrawledJobInfo;
+import com.career.assistant.infrastructure.crawling.EssayQuestion;
+import com.career.assistant.infrastructure.crawling.JsoupCrawler;
+import com.career.assistant.infrastructure.dart.DartClient;
+import com.career.assistant.infrastructure.dart.DartCorpCodeCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가짜 Anthropic 서버를 상대로 자소서 생성 파이프라인(generateFromUrl)의 처리량과 단계별 지연을 측정한다.
+ * 크롤링/DB/임베딩은 목으로 대체하고, AI 호출 경로(ClaudeAdapter → 서킷 → 단일 비행 → 라우터)는 실제 구현을 쓴다.
+ *
+ * 실행: ./gradlew benchmark -Dbenchmark.postings=16 -Dbenchmark.concurrency=8
+ * 옵션: benchmark.latency.median-ms, benchmark.latency.p95-ms, benchmark.error-rate, benchmark.questions,
+ *       benchmark.conversation-mode, benchmark.question-parallelism,
+ *       benchmark.stage.draft, benchmark.stage.review, benchmark.stage.improve, benchmark.best-of-n
+ */
+@Tag("benchmark")
+class CoverLetterThroughputBenchmark {
+
+    private FakeAnthropicServer server;
+    private AiUsageRecorder usageRecorder;
+    private CoverLetterFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakeAnthropicServer()
+            .latency(LatencyDistribution.logNormal(
+                Duration.ofMillis(intProperty("benchmark.latency.median-ms", 300)),
+                Duration.ofMillis(intProperty("benchmark.latency.p95-ms", 1200))))
+            .overloadRate(doubleProperty("benchmark.error-rate", 0.0));
+
+        usageRecorder = new AiUsageRecorder(new SimpleMeterRegistry());
+        AiRoutingProperties routing = new AiRoutingProperties();
+        AiModelStats modelStats = new AiModelStats(routing);
+        WebClient webClient = WebClient.builder().build();
+        Duration readTimeout = new ClaudeHttpProperties().getReadTimeout();
+        AiRouter aiRouter = new AiRouter(
+            decorate(new ClaudeAdapter(webClient, server.messagesUrl(), "fake-key", "fake-sonnet",
+                usageRecorder, modelStats, readTimeout)),
+            decorate(new ClaudeAdapter(webClient, server.messagesUrl(), "fake-key", "fake-haiku",
+                usageRecorder, modelStats, readTimeout)),
+            modelStats, routing);
+
+        facade = new CoverLetterFacade(
+            stubJobPostingRepository(),
+            mock(CoverLetterRepository.class),
+            stubExperienceRepository(),
+            stubEmbeddingService(),
+            stubCrawler(intProperty("benchmark.questions", 3)),
+            new CompanyClassifier(),
+            new CompanyAnalyzer(aiRouter, mock(DartClient.class), mock(DartCorpCodeCache.class)),
+            new CoverLetterPromptBuilder(new PromptBudgetProperties()),
+            new CoverLetterStrategyPlanner(aiRouter),
+            aiRouter,
+            new ObjectMapper(),
+            new ReviewAgent(aiRouter, new ObjectMapper()),
+            usageRecorder,
+            new CoverLetterProgress(),
+            new ReviewPipelineGate(
+                intProperty("benchmark.stage.draft", 2),
+                intProperty("benchmark.stage.review", 3),
+                intProperty("benchmark.stage.improve", 2)),
+            new DraftLinter(),
+            new PipelineCheckpoints(mock(PipelineLogRepository.class))
+        );
+        ReflectionTestUtils.setField(facade, "conversationMode",
+            Boolean.parseBoolean(System.getProperty("benchmark.conversation-mode", "true")));
+        ReflectionTestUtils.setField(facade, "questionParallelism",
+            intProperty("benchmark.question-parallelism", 4));
+        ReflectionTestUtils.setField(facade, "bestOfN", intProperty("benchmark.best-of-n", 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void 동시_공고_처리량_측정() throws Exception {
+        int postings = intProperty("benchmark.postings", 8);
+        int concurrency = intProperty("benchmark.concurrency", 4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<Long>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < postings; i++) {
+            String url = "https://fake.jobs/postings/" + i;
+            futures.add(executor.submit(() -> {
+                long postingStart = System.nanoTime();
+                List<CoverLetter> letters = facade.generateFromUrl(url);
+                assertThat(letters).isNotEmpty();
+                return (System.nanoTime() - postingStart) / 1_000_000;
+            }));
+        }
+
+        List<Long> postingLatencies = new ArrayList<>();
+        int failures = 0;
+        for (Future<Long> future : futures) {
+            try {
+                postingLatencies.add(future.get());
+            } catch (Exception e) {
+                failures++;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdown();
+
+        report(postings, concurrency, elapsedMillis, postingLatencies, failures);
+        if (doubleProperty("benchmark.error-rate", 0.0) == 0.0) {
+            assertThat(failures).isZero();
+        }
+    }
+
+    private void report(int postings, int concurrency, long elapsedMillis,
+                        List<Long> postingLatencies, int failures) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== 자소서 파이프라인 처리량 ===\n");
+        sb.append("공고 %d건 / 동시성 %d / 총 %dms / 실패 %d건\n"
+            .formatted(postings, concurrency, elapsedMillis, failures));
+        sb.append("처리량: %.2f 공고/분\n".formatted(postings * 60_000.0 / Math.max(1, elapsedMillis)));
+        sb.append("공고당 지연: %s\n".formatted(percentiles(postingLatencies)));
+
+        sb.append("\n--- 단계별 API 지연 (서버 측) ---\n");
+        for (Map.Entry<FakeAnthropicServer.Stage, List<Long>> entry : server.stageLatencies().entrySet()) {
+            sb.append("%-9s 호출 %4d회  %s\n".formatted(
+                entry.getKey(), entry.getValue().size(), percentiles(entry.getValue())));
+        }
+
+        // 최근 실행 목록은 50건에서 잘리므로 레코더의 누적 합계로 집계한다
+        AiUsageSummary totals = usageRecorder.totals();
+        long totalInput = totals.inputTokens() + totals.cacheReadInputTokens() + totals.cacheCreationInputTokens();
+        sb.append("\n--- 토큰 ---\n");
+        sb.append("호출 %d회, 입력 %d (캐시 읽기 %d, 캐시 생성 %d), 출력 %d, 캐시 적중률 %.1f%%\n".formatted(
+            totals.calls(), totalInput, totals.cacheReadInputTokens(), totals.cacheCreationInputTokens(),
+            totals.outputTokens(), totals.cacheHitRate() * 100));
+        System.out.println(sb);
+    }
+
+    private String percentiles(List<Long> values) {
+        if (values.isEmpty()) return "-";
+        List<Long> sorted = values.stream().sorted().toList();
+        return "p50 %dms, p95 %dms, max %dms".formatted(
+            sorted.get((int) Math.floor((sorted.size() - 1) * 0.5)),
+            sorted.get((int) Math.ceil((sorted.size() - 1) * 0.95)),
+            sorted.get(sorted.size() - 1));
+    }
+
+    private AiPort decorate(AiPort adapter) {
+        AiCircuitBreaker breaker = new AiCircuitBreaker(
+            adapter.getModelName(), new AiCircuitBreakerProperties(), Clock.systemUTC(), event -> { });
+        return new SingleFlightAiPort(new CircuitBreakingAiPort(adapter, breaker));
+    }
+
+    private JsoupCrawler stubCrawler(int questionCount) {
+        List<EssayQuestion> questions = new ArrayList<>();
+        String[] texts = {"지원 동기와 입사 후 포부를 작성해주세요.",
+            "문제를 해결했던 경험을 작성해주세요.",
+            "협업 과정에서 갈등을 조율한 경험을 작성해주세요.",
+            "본인의 핵심 역량을 작성해주세요."};
+        for (int i = 0; i < questionCount; i++) {
+            questions.add(new EssayQuestion(i + 1, texts[i % texts.length], 800));
+        }
+
+        JsoupCrawler crawler = mock(JsoupCrawler.class);
+        when(crawler.crawl(anyString())).thenAnswer(invocation -> CrawledJobInfo.of(
+            "가상페이 " + invocation.getArgument(0, String.class).hashCode(),
+            "[회사 소개] 결제 플랫폼 PayCore를 운영하는 핀테크 기업\n[직무 분야] 백엔드 개발",
+            "Java, Spring Boot, Kafka 경험 3년 이상",
+            "2026-12-31", true, questions));
+        return crawler;
+    }
+
+    private JobPostingRepository stubJobPostingRepository() {
+        JobPostingRepository repository = mock(JobPostingRepository.class);
+        when(repository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return repository;
+    }
+
+    private UserExperienceRepository stubExperienceRepository() {
+        UserExperienceRepository repository = mock(UserExperienceRepository.class);
+        when(repository.findAll()).thenReturn(experiences());
+        when(repository.existsAny()).thenReturn(true);
+        return repository;
+    }
+
+    private ExperienceEmbeddingService stubEmbeddingService() {
+        ExperienceEmbeddingService service = mock(ExperienceEmbeddingService.class);
+        when(service.retrieveRelevant(anyString(), anyInt(), anySet())).thenReturn(experiences());
+        return service;
+    }
+
+    private List<UserExperience> experiences() {
+        return List.of(
+            UserExperience.of(ExperienceCategory.WORK, "정산 파이프라인 재설계",
+                "일 50만 건 정산 배치를 스트리밍으로 전환해 지연 2.3초→0.4초", "Java, Spring, Kafka", "2023.01~2024.06"),
+            UserExperience.of(ExperienceCategory.PROJECT, "결제 API 성능 개선",
+                "쿼리 실행계획 분석 후 인덱스 재설계로 p95 40% 단축", "MySQL, JPA", "2022.03~2022.09")
+        );
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        return Double.parseDouble(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
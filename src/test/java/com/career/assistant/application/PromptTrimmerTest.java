@@ -0,0 +1,56 @@
+package com.career.assistant.application;
+
+import com.career.assistant.infrastructure.ai.TokenEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptTrimmerTest {
+
+    @Test
+    void 한글은_영문보다_글자당_토큰이_많게_추정() {
+        int korean = TokenEstimator.estimate("정산 파이프라인을 재설계했습니다");
+        int english = TokenEstimator.estimate("redesigned the settlement pipeline");
+
+        assertThat(korean).isGreaterThan(english);
+        assertThat(TokenEstimator.estimate("")).isZero();
+        assertThat(TokenEstimator.estimate(null)).isZero();
+    }
+
+    @Test
+    void 우선순위_낮은_섹션부터_잘라냄() {
+        String low = "채용공고 원문 문장입니다. ".repeat(200);
+        String high = "주력 경험 문장입니다. ".repeat(20);
+        int overflow = TokenEstimator.estimate(low) / 2;
+
+        List<String> trimmed = PromptTrimmer.trim(List.of(
+            PromptTrimmer.Section.of(high, 5),
+            PromptTrimmer.Section.of(low, 1)
+        ), overflow);
+
+        assertThat(trimmed.get(0)).isEqualTo(high);
+        assertThat(trimmed.get(1)).endsWith(PromptTrimmer.OMITTED);
+        assertThat(TokenEstimator.estimate(low) - TokenEstimator.estimate(trimmed.get(1)))
+            .isGreaterThanOrEqualTo(overflow - 10);
+    }
+
+    @Test
+    void 최소_길이_아래로는_자르지_않음() {
+        String experiences = "경험 설명입니다. ".repeat(100);
+
+        List<String> trimmed = PromptTrimmer.trim(List.of(
+            new PromptTrimmer.Section(experiences, 1, 300)
+        ), 10_000);
+
+        assertThat(trimmed.get(0).length()).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void 문장_경계에서_자름() {
+        String cut = PromptTrimmer.cutAtBoundary("첫 문장입니다. 둘째 문장입니다. 셋째 문장", 20);
+
+        assertThat(cut).isEqualTo("첫 문장입니다. 둘째 문장입니다." + PromptTrimmer.OMITTED);
+    }
+}
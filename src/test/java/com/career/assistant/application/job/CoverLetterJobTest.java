@@ -0,0 +1,113 @@
+package com.career.assistant.application.job;
+
+import com.career.assistant.application.job.CoverLetterProgressEvent.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoverLetterJobTest {
+
+    @Test
+    void 늦게_구독해도_지난_이벤트를_순서대로_받고_이후_이벤트가_이어진다() {
+        CoverLetterJob job = new CoverLetterJob("https://fake.jobs/1", null);
+        job.publish(CoverLetterProgressEvent.of(Stage.CRAWLING, "크롤링"));
+        job.publish(CoverLetterProgressEvent.of(Stage.ANALYZING, "분석"));
+
+        List<Stage> received = new CopyOnWriteArrayList<>();
+        job.subscribe(event -> received.add(event.stage()));
+        job.publish(CoverLetterProgressEvent.of(Stage.PLANNING, "전략"));
+        job.succeed(List.of());
+
+        assertThat(received).containsExactly(Stage.CRAWLING, Stage.ANALYZING, Stage.PLANNING, Stage.COMPLETED);
+    }
+
+    @Test
+    void 끝난_작업을_구독하면_재생만_하고_등록하지_않는다() {
+        CoverLetterJob job = new CoverLetterJob("https://fake.jobs/1", null);
+        job.publish(CoverLetterProgressEvent.of(Stage.CRAWLING, "크롤링"));
+        job.fail(new IllegalStateException("boom"));
+
+        List<Stage> received = new CopyOnWriteArrayList<>();
+        job.subscribe(event -> received.add(event.stage()));
+        job.publish(CoverLetterProgressEvent.of(Stage.PLANNING, "늦은 이벤트"));
+
+        assertThat(received).containsExactly(Stage.CRAWLING, Stage.FAILED);
+    }
+
+    @Test
+    void 예외를_던진_수신자는_구독이_해제되고_다른_수신자는_계속_받는다() {
+        CoverLetterJob job = new CoverLetterJob("https://fake.jobs/1", null);
+        AtomicInteger brokenCalls = new AtomicInteger();
+        List<Stage> received = new CopyOnWriteArrayList<>();
+        job.subscribe(event -> {
+            brokenCalls.incrementAndGet();
+            throw new IllegalStateException("SSE 연결 끊김");
+        });
+        job.subscribe(event -> received.add(event.stage()));
+
+        job.publish(CoverLetterProgressEvent.of(Stage.CRAWLING, "크롤링"));
+        job.publish(CoverLetterProgressEvent.of(Stage.ANALYZING, "분석"));
+
+        assertThat(brokenCalls.get()).isEqualTo(1);
+        assertThat(received).containsExactly(Stage.CRAWLING, Stage.ANALYZING);
+    }
+
+    @Test
+    void 느린_수신자가_다른_스레드의_발행을_막지_않는다() throws Exception {
+        CoverLetterJob job = new CoverLetterJob("https://fake.jobs/1", null);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Stage> received = new CopyOnWriteArrayList<>();
+        job.subscribe(event -> {
+            if (event.stage() == Stage.CRAWLING) {
+                entered.countDown();
+                await(release);
+            }
+            received.add(event.stage());
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> slow = executor.submit(() -> job.publish(CoverLetterProgressEvent.of(Stage.CRAWLING, "크롤링")));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 첫 발행 스레드가 수신자 안에 묶여 있는 동안에도 다른 스레드의 발행은 바로 돌아온다
+            Future<?> other = executor.submit(() -> job.publish(CoverLetterProgressEvent.of(Stage.ANALYZING, "분석")));
+            other.get(1, TimeUnit.SECONDS);
+            assertThat(job.getEvents()).extracting(CoverLetterProgressEvent::stage)
+                .containsExactly(Stage.CRAWLING, Stage.ANALYZING);
+
+            release.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+            waitUntil(() -> received.size() == 2);
+            assertThat(received).containsExactly(Stage.CRAWLING, Stage.ANALYZING);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.career.assistant.application.jobcollector;
+
+import com.career.assistant.domain.crawling.CrawlCursor;
+import com.career.assistant.domain.crawling.CrawlCursorRepository;
+import com.career.assistant.domain.jobposting.JobPosting;
+import com.career.assistant.domain.jobposting.JobPostingRepository;
+import com.career.assistant.infrastructure.crawling.JobListingItem;
+import com.career.assistant.infrastructure.crawling.JobSiteCrawler;
+import com.career.assistant.infrastructure.crawling.PageStop;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobCollectorServiceTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private CrawlCursorRepository cursorRepository;
+
+    @Mock
+    private JobCollectorMessageFormatter messageFormatter;
+
+    @BeforeEach
+    void setUp() {
+        when(jobPostingRepository.findAll()).thenReturn(List.of());
+        lenient().when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void 사이트들을_동시에_크롤링해서_가장_느린_사이트_시간안에_끝난다() {
+        CountDownLatch allStarted = new CountDownLatch(2);
+        JobSiteCrawler first = crawler("사람인", pages -> {
+            allStarted.countDown();
+            awaitQuietly(allStarted);
+            return List.of(item("https://a/1", "카카오", "백엔드 개발자", "사람인"));
+        });
+        JobSiteCrawler second = crawler("원티드", pages -> {
+            allStarted.countDown();
+            awaitQuietly(allStarted);
+            return List.of(item("https://b/1", "토스", "서버 개발자", "원티드"));
+        });
+
+        List<JobPosting> collected = service(List.of(first, second), 5).collectNewPostings();
+
+        assertThat(collected).extracting(JobPosting::getUrl).containsExactly("https://a/1", "https://b/1");
+    }
+
+    @Test
+    void 시간초과_사이트는_제외하고_나머지_결과는_저장한다() {
+        JobSiteCrawler slow = crawler("링커리어", pages -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(item("https://slow/1", "네이버", "백엔드", "링커리어"));
+        });
+        JobSiteCrawler fast = crawler("원티드", pages ->
+            List.of(item("https://fast/1", "토스", "서버 개발자", "원티드")));
+
+        List<JobPosting> collected = service(List.of(slow, fast), 1).collectNewPostings();
+
+        assertThat(collected).extracting(JobPosting::getUrl).containsExactly("https://fast/1");
+    }
+
+    @Test
+    void 크로스_플랫폼_중복은_먼저_등록된_사이트가_우선한다() {
+        JobSiteCrawler first = crawler("사람인", pages -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(item("https://a/1", "(주)카카오", "백엔드 개발자", "사람인"));
+        });
+        JobSiteCrawler second = crawler("원티드", pages ->
+            List.of(item("https://b/1", "카카오", "백엔드 개발자", "원티드")));
+
+        List<JobPosting> collected = service(List.of(first, second), 5).collectNewPostings();
+
+        assertThat(collected).extracting(JobPosting::getUrl).containsExactly("https://a/1");
+    }
+
+    @Test
+    void 지난_수집_위치에_닿으면_다음_페이지를_요청하지_않고_커서를_옮긴다() {
+        CrawlCursor cursor = CrawlCursor.of("원티드");
+        cursor.moveTo(List.of("https://w/2"));
+        when(cursorRepository.findById("원티드")).thenReturn(Optional.of(cursor));
+        PagedCrawler wanted = new PagedCrawler("원티드", List.of(
+            List.of(item("https://w/3", "토스", "서버 개발자", "원티드"), item("https://w/2", "카카오", "백엔드", "원티드")),
+            List.of(item("https://w/1", "네이버", "백엔드", "원티드"))
+        ));
+
+        List<JobPosting> collected = service(List.of(wanted), 5).collectNewPostings();
+
+        assertThat(wanted.requestedPages).isEqualTo(1);
+        assertThat(collected).extracting(JobPosting::getUrl).containsExactly("https://w/3", "https://w/2");
+        assertThat(cursor.lastUrlSet()).containsExactlyInAnyOrder("https://w/3", "https://w/2");
+        assertThat(cursor.isCatchUp()).isFalse();
+    }
+
+    @Test
+    void 페이지_한도_안에_지난_위치를_못_찾으면_다음_수집은_따라잡기로_돈다() {
+        CrawlCursor cursor = CrawlCursor.of("원티드");
+        cursor.moveTo(List.of("https://w/old"));
+        when(cursorRepository.findById("원티드")).thenReturn(Optional.of(cursor));
+        List<List<JobListingItem>> pages = new ArrayList<>();
+        for (int p = 0; p < 5; p++) {
+            pages.add(List.of(item("https://w/new-" + p, "회사" + p, "백엔드", "원티드")));
+        }
+        PagedCrawler wanted = new PagedCrawler("원티드", pages);
+
+        service(List.of(wanted), 5).collectNewPostings();
+
+        assertThat(wanted.requestedPages).isEqualTo(3);
+        assertThat(cursor.isCatchUp()).isTrue();
+        assertThat(cursor.lastUrlSet()).containsExactly("https://w/old");
+
+        service(List.of(wanted), 5).collectNewPostings();
+
+        assertThat(wanted.maxPagesOfLastRun).isEqualTo(10);
+    }
+
+    @Test
+    void 키워드_일치_공고가_모두_저장된_페이지에서_멈춘다() {
+        CrawlCursor cursor = CrawlCursor.of("원티드");
+        cursor.moveTo(List.of("https://w/old"));
+        when(cursorRepository.findById("원티드")).thenReturn(Optional.of(cursor));
+        when(jobPostingRepository.findExistingUrls(any())).thenReturn(List.of("https://w/5"));
+        PagedCrawler wanted = new PagedCrawler("원티드", List.of(
+            List.of(item("https://w/5", "토스", "서버 개발자", "원티드"), item("https://w/6", "디자인랩", "UX 디자이너", "원티드")),
+            List.of(item("https://w/4", "네이버", "백엔드", "원티드"))
+        ));
+
+        service(List.of(wanted), 5).collectNewPostings();
+
+        assertThat(wanted.requestedPages).isEqualTo(1);
+    }
+
+    @Test
+    void 키워드_일치_공고가_없는_페이지로는_멈추지_않는다() {
+        CrawlCursor cursor = CrawlCursor.of("원티드");
+        cursor.moveTo(List.of("https://w/old"));
+        when(cursorRepository.findById("원티드")).thenReturn(Optional.of(cursor));
+        PagedCrawler wanted = new PagedCrawler("원티드", List.of(
+            List.of(item("https://w/6", "디자인랩", "UX 디자이너", "원티드")),
+            List.of(item("https://w/5", "토스", "서버 개발자", "원티드"), item("https://w/old", "카카오", "백엔드", "원티드"))
+        ));
+
+        List<JobPosting> collected = service(List.of(wanted), 5).collectNewPostings();
+
+        assertThat(wanted.requestedPages).isEqualTo(2);
+        assertThat(collected).extracting(JobPosting::getUrl).containsExactly("https://w/5", "https://w/old");
+    }
+
+    @Test
+    void 순번형_ID_커서는_공고_저장이_끝난_뒤에_저장한다() {
+        CrawlCursor cursor = CrawlCursor.of("링커리어");
+        cursor.advanceTo(100);
+        when(cursorRepository.findById("링커리어")).thenReturn(Optional.of(cursor));
+        JobSiteCrawler linkareer = idCursorCrawler("링커리어", 130, 0);
+
+        service(List.of(linkareer), 5).collectNewPostings();
+
+        assertThat(cursor.getLastId()).isEqualTo(130);
+        InOrder order = inOrder(jobPostingRepository, cursorRepository);
+        order.verify(jobPostingRepository).save(any(JobPosting.class));
+        order.verify(cursorRepository).save(cursor);
+    }
+
+    @Test
+    void 시간초과된_순번형_ID_사이트는_커서를_저장하지_않는다() {
+        CrawlCursor cursor = CrawlCursor.of("링커리어");
+        cursor.advanceTo(100);
+        when(cursorRepository.findById("링커리어")).thenReturn(Optional.of(cursor));
+        JobSiteCrawler linkareer = idCursorCrawler("링커리어", 130, 10_000);
+
+        service(List.of(linkareer), 1).collectNewPostings();
+
+        verify(cursorRepository, never()).save(any(CrawlCursor.class));
+    }
+
+    private JobCollectorService service(List<JobSiteCrawler> crawlers, long timeoutSeconds) {
+        return new JobCollectorService(crawlers, jobPostingRepository, cursorRepository, messageFormatter,
+            "백엔드,서버", 3, timeoutSeconds, 10);
+    }
+
+    private static JobSiteCrawler crawler(String siteName, IntFunction<List<JobListingItem>> fetch) {
+        return new JobSiteCrawler() {
+            @Override
+            public String getSiteName() {
+                return siteName;
+            }
+
+            @Override
+            public List<JobListingItem> fetchListings(int maxPages) {
+                return fetch.apply(maxPages);
+            }
+        };
+    }
+
+    /** 확인을 마친 ID까지 커서를 옮기고 sleepMillis만큼 머무는 순번형 ID 크롤러 */
+    private static JobSiteCrawler idCursorCrawler(String siteName, long checkedUpTo, long sleepMillis) {
+        return new JobSiteCrawler() {
+            @Override
+            public String getSiteName() {
+                return siteName;
+            }
+
+            @Override
+            public List<JobListingItem> fetchListings(int maxPages) {
+                return fetchListingsAfter(maxPages, CrawlCursor.of(siteName));
+            }
+
+            @Override
+            public boolean supportsIdCursor() {
+                return true;
+            }
+
+            @Override
+            public List<JobListingItem> fetchListingsAfter(int maxPages, CrawlCursor cursor) {
+                cursor.advanceTo(checkedUpTo);
+                if (sleepMillis > 0) {
+                    try {
+                        Thread.sleep(sleepMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return List.of(item("https://l/" + checkedUpTo, "네이버", "백엔드", siteName));
+            }
+        };
+    }
+
+    /** 최신순 목록을 흉내 내는 증분 수집 크롤러 */
+    private static final class PagedCrawler implements JobSiteCrawler {
+        private final String siteName;
+        private final List<List<JobListingItem>> pages;
+        private int requestedPages;
+        private int maxPagesOfLastRun;
+
+        private PagedCrawler(String siteName, List<List<JobListingItem>> pages) {
+            this.siteName = siteName;
+            this.pages = pages;
+        }
+
+        @Override
+        public String getSiteName() {
+            return siteName;
+        }
+
+        @Override
+        public List<JobListingItem> fetchListings(int maxPages) {
+            return fetchListings(maxPages, PageStop.NONE);
+        }
+
+        @Override
+        public boolean supportsIncremental() {
+            return true;
+        }
+
+        @Override
+        public List<JobListingItem> fetchListings(int maxPages, PageStop stop) {
+            maxPagesOfLastRun = maxPages;
+            requestedPages = 0;
+            List<JobListingItem> items = new ArrayList<>();
+            for (int page = 1; page <= Math.min(maxPages, pages.size()); page++) {
+                requestedPages++;
+                List<JobListingItem> pageItems = pages.get(page - 1);
+                items.addAll(pageItems);
+                if (stop.reached(page, pageItems)) break;
+            }
+            return items;
+        }
+    }
+
+    private static JobListingItem item(String url, String company, String title, String site) {
+        return new JobListingItem(url, company, title, null, site);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
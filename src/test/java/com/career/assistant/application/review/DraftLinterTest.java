@@ -0,0 +1,61 @@
+package com.career.assistant.application.review;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftLinterTest {
+
+    private final DraftLinter linter = new DraftLinter();
+
+    @Test
+    void 규칙을_지킨_초안은_탈락_없음() {
+        String draft = "토스 결제팀의 정산 지연 문제를 보고 지원했습니다. "
+            + "Kafka 컨슈머 재처리 구조를 바꿔 정산 누락을 월 30건에서 2건으로 줄였습니다. "
+            + "이 경험으로 장애 원인을 데이터로 좁히는 습관이 생겼다.";
+
+        DraftLintResult result = linter.lint(draft, "토스", 500);
+
+        assertThat(result.hasHardFailures()).isFalse();
+        assertThat(result.numberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 금지_표현을_한_번에_모두_찾음() {
+        String draft = "무엇보다 소중한 경험이었습니다. 처리량을 2배로 늘렸고 더 나아가 팀에 기여하겠습니다.";
+
+        DraftLintResult result = linter.lint(draft, null, 0);
+
+        assertThat(result.hasHardFailures()).isTrue();
+        assertThat(result.violations().get(0))
+            .contains("무엇보다", "소중한 경험", "더 나아가", "기여하겠습니다");
+    }
+
+    @Test
+    void 같은_어미_세_번_연속이면_탈락() {
+        String draft = "API 응답을 캐시했습니다. 쿼리 12개를 통합했습니다. 배포 주기를 단축했습니다.";
+
+        assertThat(linter.findRepeatedEnding(draft)).isEqualTo("했습니다");
+        assertThat(linter.findRepeatedEnding("A를 만들었습니다. B를 고쳤다. C를 바꿨습니다. D를 했습니다.")).isNull();
+    }
+
+    @Test
+    void 글자수_초과와_수치_없음은_탈락() {
+        DraftLintResult result = linter.lint("성실하게 맡은 일을 끝까지 해냈다.", null, 10);
+
+        assertThat(result.violations()).hasSize(2);
+        assertThat(result.violations()).anyMatch(v -> v.startsWith("글자수 초과"));
+        assertThat(result.violations()).anyMatch(v -> v.startsWith("정량 수치 없음"));
+    }
+
+    @Test
+    void 수동_표현과_회사명_누락은_경고만() {
+        String draft = "Redis 캐시 도입 프로젝트에 참여했습니다. 응답 시간을 40% 줄일 수 있었습니다.";
+
+        DraftLintResult result = linter.lint(draft, "카카오", 0);
+
+        assertThat(result.hasHardFailures()).isFalse();
+        assertThat(result.warnings()).anyMatch(w -> w.startsWith("수동적 표현"));
+        assertThat(result.warnings()).anyMatch(w -> w.contains("카카오"));
+    }
+}
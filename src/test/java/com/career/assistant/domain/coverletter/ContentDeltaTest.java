@@ -0,0 +1,66 @@
+package com.career.assistant.domain.coverletter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentDeltaTest {
+
+    private static final String BASE = """
+        결제 정산 배치가 매일 새벽 40분씩 지연되는 문제를 맡았습니다. \
+        원인은 단일 스레드로 300만 건을 순차 처리하는 구조였습니다. \
+        Spring Batch 파티셔닝으로 작업을 8개로 나누고 청크 크기를 조정했습니다. \
+        그 결과 처리 시간을 40분에서 6분으로 줄였습니다. \
+        토스페이먼츠에서도 대용량 정산을 안정적으로 처리하는 개발자가 되겠습니다.""";
+
+    @Test
+    void 일부_문장만_바뀐_개선본을_그대로_복원() {
+        String improved = BASE.replace("그 결과 처리 시간을 40분에서 6분으로 줄였습니다.",
+            "재처리 큐도 분리해 처리 시간을 40분에서 6분으로, 실패율을 1.2%에서 0.1%로 낮췄습니다.");
+
+        byte[] delta = ContentDelta.encode(BASE, improved);
+
+        assertThat(ContentDelta.apply(BASE, delta)).isEqualTo(improved);
+        assertThat(delta.length).isLessThan(improved.getBytes(StandardCharsets.UTF_8).length / 3);
+    }
+
+    @Test
+    void 전혀_다른_본문과_빈_본문도_복원() {
+        String rewritten = "완전히 새로 쓴 본문입니다. 기준본과 겹치는 문장이 없습니다.";
+
+        assertThat(ContentDelta.apply(BASE, ContentDelta.encode(BASE, rewritten))).isEqualTo(rewritten);
+        assertThat(ContentDelta.apply(BASE, ContentDelta.encode(BASE, ""))).isEmpty();
+        assertThat(ContentDelta.apply(BASE, ContentDelta.encode(BASE, BASE))).isEqualTo(BASE);
+    }
+
+    @Test
+    void 기준본이_다르면_복원_실패() {
+        byte[] delta = ContentDelta.encode(BASE, BASE + " 추가 문장입니다.");
+        String otherBase = BASE.replace("40분씩", "50분씩");
+
+        assertThatThrownBy(() -> ContentDelta.apply(otherBase, delta))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 저장된_기준본이_있으면_다음_버전은_차분으로_저장() {
+        CoverLetter v1 = CoverLetter.ofVersion(null, "model", BASE, 1, 1, "지원 동기");
+        String improved = BASE.replace("되겠습니다.", "되겠습니다. 입사 후 정산 지연 0건을 목표로 하겠습니다.");
+
+        CoverLetter unsavedBase = CoverLetter.nextVersionOf(v1, "model", improved, 2);
+        ReflectionTestUtils.setField(v1, "id", 1L);
+        CoverLetter v2 = CoverLetter.nextVersionOf(v1, "model", improved, 2);
+        CoverLetter v3 = CoverLetter.nextVersionOf(v2, "model", improved + " 감사합니다.", 3);
+
+        assertThat(unsavedBase.isStoredAsDelta()).isFalse();
+        assertThat(v2.isStoredAsDelta()).isTrue();
+        assertThat(v2.getContent()).isEqualTo(improved);
+        assertThat(v3.isStoredAsDelta()).isTrue();
+        assertThat(v3.getContent()).isEqualTo(improved + " 감사합니다.");
+        assertThat(v3.getQuestionIndex()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.career.assistant.infrastructure.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AiRouterTest {
+
+    @Mock
+    private AiPort sonnet;
+
+    @Mock
+    private AiPort haiku;
+
+    private AiRoutingProperties properties;
+    private MutableClock clock;
+    private AiModelStats stats;
+    private AiRouter router;
+
+    @BeforeEach
+    void setUp() {
+        when(sonnet.getModelName()).thenReturn("sonnet");
+        when(haiku.getModelName()).thenReturn("haiku");
+        when(sonnet.isAvailable()).thenReturn(true);
+        when(haiku.isAvailable()).thenReturn(true);
+        properties = new AiRoutingProperties();
+        properties.setMinSamples(3);
+        properties.setP95LatencyThreshold(Duration.ofSeconds(10));
+        properties.setWindowDuration(Duration.ofMinutes(5));
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        stats = new AiModelStats(properties, clock);
+        router = new AiRouter(sonnet, haiku, stats, properties);
+    }
+
+    @Test
+    void 규칙대로_작업별_모델_선택() {
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(sonnet);
+        assertThat(router.route(AiTask.REVIEW)).isSameAs(sonnet);
+        assertThat(router.route(AiTask.RECHECK)).isSameAs(haiku);
+        assertThat(router.route(AiTask.ANALYSIS)).isSameAs(haiku);
+    }
+
+    @Test
+    void 오류율_초과시_다른_모델로_폴백() {
+        for (int i = 0; i < 3; i++) {
+            stats.record("sonnet", Duration.ofSeconds(1), false);
+        }
+
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(haiku);
+    }
+
+    @Test
+    void p95_지연_초과시_다른_모델로_폴백() {
+        for (int i = 0; i < 3; i++) {
+            stats.record("sonnet", Duration.ofSeconds(30), true);
+        }
+
+        assertThat(router.route(AiTask.REWRITE)).isSameAs(haiku);
+    }
+
+    @Test
+    void 표본_부족하면_폴백하지_않음() {
+        stats.record("sonnet", Duration.ofSeconds(1), false);
+        stats.record("sonnet", Duration.ofSeconds(1), false);
+
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(sonnet);
+    }
+
+    @Test
+    void 두_모델_모두_저하면_기본_모델_유지() {
+        for (int i = 0; i < 3; i++) {
+            stats.record("sonnet", Duration.ofSeconds(1), false);
+            stats.record("haiku", Duration.ofSeconds(1), false);
+        }
+
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(sonnet);
+    }
+
+    @Test
+    void 서킷이_열린_모델은_통계와_무관하게_폴백() {
+        when(sonnet.isAvailable()).thenReturn(false);
+
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(haiku);
+    }
+
+    @Test
+    void 고정된_작업은_폴백하지_않음() {
+        properties.setPinnedTasks(EnumSet.of(AiTask.DRAFT));
+        for (int i = 0; i < 3; i++) {
+            stats.record("sonnet", Duration.ofSeconds(1), false);
+        }
+
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(sonnet);
+        assertThat(router.route(AiTask.REVIEW)).isSameAs(haiku);
+    }
+
+    @Test
+    void 저하_표본이_윈도우_시간을_지나면_기본_모델로_복귀() {
+        for (int i = 0; i < 3; i++) {
+            stats.record("sonnet", Duration.ofSeconds(1), false);
+        }
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(haiku);
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThat(stats.snapshot("sonnet").samples()).isZero();
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(sonnet);
+    }
+
+    @Test
+    void 서킷_대기시간이_지나면_기본_모델로_시험_호출() {
+        AiCircuitBreakerProperties circuit = new AiCircuitBreakerProperties();
+        circuit.setWindowSize(2);
+        circuit.setMinimumCalls(2);
+        circuit.setFailureRateThreshold(0.5);
+        circuit.setOpenDuration(Duration.ofSeconds(30));
+        circuit.setHalfOpenPermittedCalls(1);
+        CircuitBreakingAiPort guardedSonnet = new CircuitBreakingAiPort(sonnet,
+            new AiCircuitBreaker("sonnet", circuit, clock, event -> {}));
+        router = new AiRouter(guardedSonnet, haiku, stats, properties);
+
+        when(sonnet.generate("prompt"))
+            .thenThrow(new RuntimeException("503"))
+            .thenThrow(new RuntimeException("503"))
+            .thenReturn("ok");
+        assertThatThrownBy(() -> guardedSonnet.generate("prompt")).hasMessage("503");
+        assertThatThrownBy(() -> guardedSonnet.generate("prompt")).hasMessage("503");
+        assertThat(guardedSonnet.getCircuitState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(haiku);
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(router.route(AiTask.DRAFT)).isSameAs(guardedSonnet);
+        assertThat(guardedSonnet.generate("prompt")).isEqualTo("ok");
+        assertThat(guardedSonnet.getCircuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,112 @@
+package com.career.assistant.infrastructure.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CircuitBreakingAiPortTest {
+
+    @Mock
+    private AiPort delegate;
+
+    private MutableClock clock;
+    private List<AiCircuitStateChangedEvent> events;
+    private AiCircuitBreaker breaker;
+    private CircuitBreakingAiPort port;
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.getModelName()).thenReturn("sonnet");
+        AiCircuitBreakerProperties props = new AiCircuitBreakerProperties();
+        props.setWindowSize(4);
+        props.setMinimumCalls(4);
+        props.setFailureRateThreshold(0.5);
+        props.setOpenDuration(Duration.ofSeconds(30));
+        props.setHalfOpenPermittedCalls(1);
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        events = new ArrayList<>();
+        breaker = new AiCircuitBreaker("sonnet", props, clock, events::add);
+        port = new CircuitBreakingAiPort(delegate, breaker);
+    }
+
+    @Test
+    void 실패율_초과시_서킷이_열리고_즉시_실패() {
+        openCircuit();
+
+        reset(delegate);
+        assertThatThrownBy(() -> port.generate("prompt"))
+            .isInstanceOf(AiUnavailableException.class);
+        verify(delegate, never()).generate(anyString());
+        assertThat(port.isAvailable()).isFalse();
+        assertThat(events).extracting(AiCircuitStateChangedEvent::to)
+            .containsExactly(AiCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 대기시간_경과후_시험호출_성공하면_닫힘() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(31));
+        doReturn("ok").when(delegate).generate("prompt");
+
+        assertThat(port.generate("prompt")).isEqualTo("ok");
+        assertThat(port.getCircuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 시험호출_실패하면_다시_열림() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(31));
+        doThrow(new RuntimeException("timeout")).when(delegate).generate("prompt");
+
+        assertThatThrownBy(() -> port.generate("prompt")).hasMessage("timeout");
+        assertThat(port.getCircuitState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 클라이언트_오류는_실패율에_반영하지_않음() {
+        RuntimeException badRequest = new RuntimeException("Claude API 호출 실패",
+            WebClientResponseException.create(HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null));
+        when(delegate.generate("prompt")).thenThrow(badRequest);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> port.generate("prompt")).isSameAs(badRequest);
+        }
+
+        assertThat(port.getCircuitState()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    private void openCircuit() {
+        when(delegate.generate("prompt"))
+            .thenReturn("ok")
+            .thenReturn("ok")
+            .thenThrow(new RuntimeException("503"));
+        port.generate("prompt");
+        port.generate("prompt");
+        assertThatThrownBy(() -> port.generate("prompt")).hasMessage("503");
+        assertThatThrownBy(() -> port.generate("prompt")).hasMessage("503");
+        assertThat(port.getCircuitState()).isEqualTo(AiCircuitBreaker.State.OPEN);
+    }
+}
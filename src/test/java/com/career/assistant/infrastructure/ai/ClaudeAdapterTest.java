@@ -0,0 +1,73 @@
+package com.career.assistant.infrastructure.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClaudeAdapterTest {
+
+    private FakeAnthropicServer server;
+    private ClaudeAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakeAnthropicServer().outputChars(2000);
+        adapter = new ClaudeAdapter(WebClient.builder().build(), server.messagesUrl(), "fake-key", "fake-sonnet",
+            new AiUsageRecorder(new SimpleMeterRegistry()), new AiModelStats(new AiRoutingProperties()),
+            Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void 출력_한도_안이면_본문을_그대로_받는다() {
+        String reply = adapter.generateWithContext("[채용공고] 가상페이", "지원 동기를 작성하세요", 4096);
+
+        assertThat(reply).isNotBlank().endsWith("줄였습니다.");
+    }
+
+    @Test
+    void 낮은_한도에서_잘리면_기본_한도로_한_번_다시_요청한다() {
+        String reply = adapter.generateWithContext("[채용공고] 가상페이", "지원 동기를 작성하세요", 100);
+
+        assertThat(reply).endsWith("줄였습니다.");
+    }
+
+    @Test
+    void 기본_한도에서도_잘린_텍스트는_예외로_처리한다() {
+        server.outputChars(10_000);
+
+        assertThatThrownBy(() -> adapter.generateWithContext("[채용공고] 가상페이", "지원 동기를 작성하세요", 100))
+            .isInstanceOf(AiOutputTruncatedException.class);
+    }
+
+    @Test
+    void 다시_요청해_받은_응답만_대화_이력에_남긴다() {
+        AiConversation conversation = AiConversation.withContext("[채용공고] 가상페이");
+
+        String reply = adapter.continueConversation(conversation, "지원 동기를 작성하세요", 100);
+
+        assertThat(conversation.turns()).singleElement()
+            .satisfies(turn -> assertThat(turn.reply()).isEqualTo(reply).endsWith("줄였습니다."));
+    }
+
+    @Test
+    void 잘린_응답은_대화_이력에_남기지_않는다() {
+        server.outputChars(10_000);
+        AiConversation conversation = AiConversation.withContext("[채용공고] 가상페이");
+
+        assertThatThrownBy(() -> adapter.continueConversation(conversation, "지원 동기를 작성하세요", 100))
+            .isInstanceOf(AiOutputTruncatedException.class);
+        assertThat(conversation.turns()).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClaudeBatchAdapterTest {
+
+    private static final AiOutputSchema REVIEW_SCHEMA = AiOutputSchema.of("submit_review", "검토 결과", """
+        {"type": "object", "properties": {"scores": {"type": "object"}}, "required": ["scores"]}
+        """);
+
+    private FakeAnthropicServer server;
+    private ClaudeBatchAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        server = new FakeAnthropicServer().batchDelay(Duration.ofMillis(200));
+        adapter = new ClaudeBatchAdapter(WebClient.builder().build(), server.batchesUrl(), "fake-key",
+            new AiUsageRecorder(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void 제출한_요청의_결과를_custom_id로_받는다() throws InterruptedException {
+        String batchId = adapter.submit(List.of(
+            AiBatchRequest.text("draft-1-1", "fake-sonnet", null, "[채용공고] 가상페이", "지원 동기를 작성하세요", 1024),
+            AiBatchRequest.structured("review-1", "fake-haiku", "당신은 채용팀장입니다.", null, "검토하세요", REVIEW_SCHEMA)
+        ));
+
+        assertThat(adapter.isEnded(batchId)).isFalse();
+        awaitEnded(batchId);
+
+        Map<String, AiBatchResult> results = adapter.results(batchId).stream()
+            .collect(Collectors.toMap(AiBatchResult::customId, Function.identity()));
+        assertThat(results).containsOnlyKeys("draft-1-1", "review-1");
+
+        AiBatchResult draft = results.get("draft-1-1");
+        assertThat(draft.isSucceeded()).isTrue();
+        assertThat(draft.model()).isEqualTo("fake-sonnet");
+        assertThat(draft.text()).isNotBlank();
+
+        JsonNode review = results.get("review-1").structured(REVIEW_SCHEMA);
+        assertThat(review.path("scores").path("jobFit").isInt()).isTrue();
+    }
+
+    @Test
+    void 오류가_난_요청은_실패_결과로_돌아온다() throws InterruptedException {
+        server.overloadRate(1.0);
+
+        String batchId = adapter.submit(List.of(
+            AiBatchRequest.text("draft-2-0", "fake-sonnet", null, "자소서를 작성하세요")));
+        awaitEnded(batchId);
+
+        AiBatchResult result = adapter.results(batchId).get(0);
+        assertThat(result.isSucceeded()).isFalse();
+        assertThat(result.error()).startsWith("errored");
+    }
+
+    @Test
+    void 취소한_배치는_남은_요청이_canceled로_끝난다() throws InterruptedException {
+        server.batchDelay(Duration.ofSeconds(5));
+
+        String batchId = adapter.submit(List.of(
+            AiBatchRequest.text("analysis-3", "fake-haiku", null, "회사를 분석하세요"),
+            AiBatchRequest.text("analysis-4", "fake-haiku", null, "회사를 분석하세요")));
+        adapter.cancel(batchId);
+        awaitEnded(batchId);
+
+        assertThat(adapter.results(batchId))
+            .allSatisfy(result -> {
+                assertThat(result.isSucceeded()).isFalse();
+                assertThat(result.error()).startsWith("canceled");
+            })
+            .extracting(AiBatchResult::customId)
+            .containsExactlyInAnyOrder("analysis-3", "analysis-4");
+    }
+
+    private void awaitEnded(String batchId) throws InterruptedException {
+        for (int i = 0; i < 50 && !adapter.isEnded(batchId); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(adapter.isEnded(batchId)).isTrue();
+    }
+}
@@ -0,0 +1,452 @@
+package com.career.assistant.infrastructure.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 테스트 전용 가짜 Anthropic Messages API 서버.
+ * 실제 크레딧 없이 파이프라인 동시성/처리량을 검증하기 위해 사용한다.
+ *
+ * - 지연: LatencyDistribution(고정/균등/로그정규)으로 요청마다 샘플링
+ * - 오류 주입: 529(overloaded), 429(rate limit) 비율 지정
+ * - 응답: 시스템 프롬프트로 단계(검토/분석/전략/작성)를 판별해 파서가 읽을 수 있는 결정적 응답 반환
+ *   (요청에 tools가 있으면 강제된 도구의 tool_use 블록으로, 없으면 text 블록으로)
+ * - usage: 입력 글자수 기반 토큰 추정, 동일 캐시 블록 재요청 시 cache_read로 보고
+ * - Message Batches: 제출 → batchDelay 후 ended → results_url에서 JSONL 결과 (오류 주입 시 errored)
+ */
+@Slf4j
+public class FakeAnthropicServer implements AutoCloseable {
+
+    public enum Stage {
+        REVIEW,
+        ANALYSIS,
+        STRATEGY,
+        WRITE
+    }
+
+    @FunctionalInterface
+    public interface LatencyDistribution {
+        Duration sample();
+
+        static LatencyDistribution fixed(Duration latency) {
+            return () -> latency;
+        }
+
+        static LatencyDistribution uniform(Duration min, Duration max) {
+            return () -> Duration.ofMillis(
+                ThreadLocalRandom.current().nextLong(min.toMillis(), max.toMillis() + 1));
+        }
+
+        /** 중앙값과 p95로 모수를 정하는 로그정규 분포 — LLM 응답 지연의 긴 꼬리를 흉내 낸다 */
+        static LatencyDistribution logNormal(Duration median, Duration p95) {
+            double mu = Math.log(median.toMillis());
+            double sigma = (Math.log(p95.toMillis()) - mu) / 1.645;
+            return () -> Duration.ofMillis(
+                Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian())));
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String MESSAGES_PATH = "/v1/messages";
+    private static final String BATCHES_PATH = "/v1/messages/batches";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<String> seenCacheBlocks = ConcurrentHashMap.newKeySet();
+    private final Map<Stage, List<Long>> latenciesByStage = new EnumMap<>(Stage.class);
+    private final Map<String, FakeBatch> batches = new ConcurrentHashMap<>();
+
+    private volatile LatencyDistribution latency = LatencyDistribution.fixed(Duration.ZERO);
+    private volatile double overloadRate;
+    private volatile double rateLimitRate;
+    private volatile int outputChars = 600;
+    private volatile Duration batchDelay = Duration.ZERO;
+
+    /** 제출된 배치 — 결과가 채워지면 ended */
+    private record FakeBatch(String id, List<String> customIds, List<Map<String, Object>> results) {
+        int requestCount() {
+            return customIds.size();
+        }
+
+        boolean ended() {
+            return results != null;
+        }
+    }
+
+    public FakeAnthropicServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("가짜 Anthropic 서버 시작 실패", e);
+        }
+        for (Stage stage : Stage.values()) {
+            latenciesByStage.put(stage, new ArrayList<>());
+        }
+        server.createContext(MESSAGES_PATH, this::handle);
+        server.createContext(BATCHES_PATH, this::handleBatches);
+        server.setExecutor(executor);
+        server.start();
+        log.info("[가짜 API] 시작 — {}", messagesUrl());
+    }
+
+    public FakeAnthropicServer latency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public FakeAnthropicServer overloadRate(double rate) {
+        this.overloadRate = rate;
+        return this;
+    }
+
+    public FakeAnthropicServer rateLimitRate(double rate) {
+        this.rateLimitRate = rate;
+        return this;
+    }
+
+    public FakeAnthropicServer outputChars(int chars) {
+        this.outputChars = chars;
+        return this;
+    }
+
+    /** 배치가 ended로 바뀌기까지의 지연 */
+    public FakeAnthropicServer batchDelay(Duration delay) {
+        this.batchDelay = delay;
+        return this;
+    }
+
+    public String messagesUrl() {
+        return "http://127.0.0.1:%d%s".formatted(server.getAddress().getPort(), MESSAGES_PATH);
+    }
+
+    public String batchesUrl() {
+        return "http://127.0.0.1:%d%s".formatted(server.getAddress().getPort(), BATCHES_PATH);
+    }
+
+    /** 단계별 서버 체류 시간(ms) 스냅샷 */
+    public Map<Stage, List<Long>> stageLatencies() {
+        Map<Stage, List<Long>> copy = new LinkedHashMap<>();
+        synchronized (latenciesByStage) {
+            latenciesByStage.forEach((stage, values) -> copy.put(stage, List.copyOf(values)));
+        }
+        return copy;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try (exchange) {
+            JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+            String system = systemText(request);
+            Stage stage = classify(system);
+            exchange.setAttribute("stage", stage);
+
+            sleep(latency.sample());
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < overloadRate) {
+                respond(exchange, 529, error("overloaded_error", "Overloaded"));
+                return;
+            }
+            if (roll < overloadRate + rateLimitRate) {
+                exchange.getResponseHeaders().add("retry-after", "1");
+                respond(exchange, 429, error("rate_limit_error", "Rate limited"));
+                return;
+            }
+
+            respond(exchange, 200, complete(request, stage));
+        } finally {
+            record(exchange, start);
+        }
+    }
+
+    private Map<String, Object> complete(JsonNode request, Stage stage) {
+        String system = systemText(request);
+        String userText = userText(request);
+        Object output = switch (stage) {
+            case REVIEW -> review(userText);
+            case ANALYSIS -> analysis();
+            case STRATEGY -> strategy();
+            case WRITE -> coverLetter(userText);
+        };
+
+        // 실제 API처럼 max_tokens를 넘는 텍스트는 잘라서 stop_reason=max_tokens로 돌려준다
+        int maxTokens = request.path("max_tokens").asInt(Integer.MAX_VALUE);
+        boolean truncated = output instanceof String text && estimateTokens(text) > maxTokens;
+        if (truncated) {
+            output = ((String) output).substring(0, maxTokens * 2);
+        }
+
+        Map<String, Object> block = contentBlock(request, output);
+        String outputText = output instanceof String text ? text : toJson(output);
+        return message(request, block, usage(request, system, userText, outputText), truncated);
+    }
+
+    private void handleBatches(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(BATCHES_PATH.length());
+            if ("POST".equals(exchange.getRequestMethod()) && path.isEmpty()) {
+                respond(exchange, 200, batchBody(submit(MAPPER.readTree(exchange.getRequestBody()))));
+                return;
+            }
+
+            String[] parts = path.replaceFirst("^/", "").split("/");
+            FakeBatch batch = batches.get(parts[0]);
+            if (batch == null) {
+                respond(exchange, 404, error("not_found_error", "batch not found"));
+            } else if (parts.length > 1 && "results".equals(parts[1])) {
+                respondJsonl(exchange, batch);
+            } else if (parts.length > 1 && "cancel".equals(parts[1]) && "POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 200, batchBody(cancel(batch)));
+            } else {
+                respond(exchange, 200, batchBody(batch));
+            }
+        }
+    }
+
+    private FakeBatch submit(JsonNode body) {
+        String id = "msgbatch_fake_" + Long.toHexString(System.nanoTime());
+        JsonNode requests = body.path("requests");
+        List<String> customIds = new ArrayList<>();
+        requests.forEach(entry -> customIds.add(entry.path("custom_id").asText()));
+        batches.put(id, new FakeBatch(id, customIds, null));
+
+        executor.submit(() -> {
+            sleep(batchDelay);
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (JsonNode entry : requests) {
+                JsonNode params = entry.path("params");
+                Map<String, Object> result = ThreadLocalRandom.current().nextDouble() < overloadRate
+                    ? Map.of("type", "errored", "error", error("overloaded_error", "Overloaded"))
+                    : Map.of("type", "succeeded", "message", complete(params, classify(systemText(params))));
+                results.add(Map.of("custom_id", entry.path("custom_id").asText(), "result", result));
+            }
+            // 처리 중에 취소된 배치는 취소 결과를 유지한다
+            batches.computeIfPresent(id, (key, batch) -> batch.ended() ? batch : new FakeBatch(id, customIds, results));
+        });
+        return batches.get(id);
+    }
+
+    /** 아직 끝나지 않은 배치는 모든 요청을 canceled로 끝낸다 */
+    private FakeBatch cancel(FakeBatch batch) {
+        return batches.computeIfPresent(batch.id(), (key, current) -> current.ended() ? current
+            : new FakeBatch(current.id(), current.customIds(), current.customIds().stream()
+                .map(customId -> Map.<String, Object>of("custom_id", customId, "result", Map.of("type", "canceled")))
+                .toList()));
+    }
+
+    private Map<String, Object> batchBody(FakeBatch batch) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", batch.id());
+        body.put("type", "message_batch");
+        body.put("processing_status", batch.ended() ? "ended" : "in_progress");
+        body.put("request_counts", Map.of(
+            "processing", batch.ended() ? 0 : batch.requestCount(),
+            "succeeded", batch.ended() ? batch.results().size() : 0));
+        body.put("results_url", batch.ended() ? batchesUrl() + "/" + batch.id() + "/results" : null);
+        return body;
+    }
+
+    private void respondJsonl(HttpExchange exchange, FakeBatch batch) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Map<String, Object> result : batch.results()) {
+            sb.append(toJson(result)).append('\n');
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("content-type", "application/binary");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void record(HttpExchange exchange, long start) {
+        Object stage = exchange.getAttribute("stage");
+        if (stage == null) return;
+        synchronized (latenciesByStage) {
+            latenciesByStage.get((Stage) stage).add((System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private Stage classify(String system) {
+        if (system.contains("채용팀장")) return Stage.REVIEW;
+        if (system.contains("기업 리서치")) return Stage.ANALYSIS;
+        if (system.contains("전략 기획")) return Stage.STRATEGY;
+        return Stage.WRITE;
+    }
+
+    private String systemText(JsonNode request) {
+        JsonNode system = request.path("system");
+        if (system.isTextual()) return system.asText();
+        StringBuilder sb = new StringBuilder();
+        system.forEach(block -> sb.append(block.path("text").asText()));
+        return sb.toString();
+    }
+
+    private String userText(JsonNode request) {
+        StringBuilder sb = new StringBuilder();
+        for (JsonNode message : request.path("messages")) {
+            JsonNode content = message.path("content");
+            if (content.isTextual()) {
+                sb.append(content.asText());
+            } else {
+                content.forEach(block -> sb.append(block.path("text").asText()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 입력을 시드로 쓰는 결정적 검토 점수 — 같은 초안은 항상 같은 점수 */
+    private Map<String, Object> review(String userText) {
+        SplittableRandom random = new SplittableRandom(userText.hashCode());
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (String field : List.of("answerRelevance", "jobFit", "orgFit", "specificity", "authenticity",
+            "logicalStructure", "keywordUsage", "experienceConsistency")) {
+            scores.put(field, random.nextInt(62, 90));
+        }
+        scores.put("aiDetectionRisk", random.nextInt(15, 45));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("scores", scores);
+        body.put("violations", List.of("\"귀사의 성장에 기여\" — 범용 문장"));
+        body.put("improvements", List.of("\"성능을 개선했습니다\" → 수치 제시 → \"응답시간 2.3초→0.4초\""));
+        body.put("overallComment", "구체적 경험은 좋으나 회사 특화가 부족합니다. 면접 초대 여부: YES — 직무 경험이 명확함");
+        return body;
+    }
+
+    private Map<String, Object> analysis() {
+        return Map.of(
+            "coreBusiness", "가상 결제 플랫폼 PayCore 운영",
+            "products", List.of("PayCore", "SettleHub"),
+            "techStack", List.of("Java", "Spring", "Kafka"),
+            "painPoints", "정산 지연과 트래픽 피크 대응"
+        );
+    }
+
+    private Map<String, Object> strategy() {
+        return Map.of(
+            "overallTheme", "결제 안정성을 만드는 백엔드 개발자",
+            "questionStrategies", List.of(Map.of("questionNumber", 1, "angle", "정산 파이프라인 개선 경험"))
+        );
+    }
+
+    /** tool_choice로 강제된 도구가 있으면 구조화 출력은 tool_use.input으로 돌려준다 */
+    private Map<String, Object> contentBlock(JsonNode request, Object output) {
+        String toolName = request.path("tool_choice").path("name").asText(null);
+        if (toolName != null && !(output instanceof String)) {
+            return Map.of("type", "tool_use", "id", "toolu_fake_" + Long.toHexString(System.nanoTime()),
+                "name", toolName, "input", output);
+        }
+        return Map.of("type", "text", "text", output instanceof String text ? text : toJson(output));
+    }
+
+    private String coverLetter(String userText) {
+        String sentence = "정산 파이프라인을 재설계해 일 50만 건 처리 지연을 2.3초에서 0.4초로 줄였습니다. ";
+        StringBuilder sb = new StringBuilder();
+        int target = Math.max(sentence.length(), outputChars - (Math.abs(userText.hashCode()) % 50));
+        while (sb.length() + sentence.length() <= target) {
+            sb.append(sentence);
+        }
+        return sb.toString().trim();
+    }
+
+    private Map<String, Object> usage(JsonNode request, String system, String userText, String output) {
+        List<JsonNode> blocks = new ArrayList<>();
+        request.path("system").forEach(blocks::add);
+        for (JsonNode message : request.path("messages")) {
+            message.path("content").forEach(blocks::add);
+        }
+
+        int cacheCreation = 0;
+        int cacheRead = 0;
+        for (JsonNode block : blocks) {
+            if (!block.has("cache_control")) continue;
+            String text = block.path("text").asText();
+            if (seenCacheBlocks.add(text)) {
+                cacheCreation += estimateTokens(text);
+            } else {
+                cacheRead += estimateTokens(text);
+            }
+        }
+        int uncached = Math.max(0, estimateTokens(system) + estimateTokens(userText) - cacheCreation - cacheRead);
+
+        Map<String, Object> usage = new LinkedHashMap<>();
+        usage.put("input_tokens", uncached);
+        usage.put("output_tokens", estimateTokens(output));
+        usage.put("cache_creation_input_tokens", cacheCreation);
+        usage.put("cache_read_input_tokens", cacheRead);
+        return usage;
+    }
+
+    private int estimateTokens(String text) {
+        return text == null ? 0 : Math.max(1, text.length() / 2);
+    }
+
+    private Map<String, Object> message(JsonNode request, Map<String, Object> block, Map<String, Object> usage,
+                                        boolean truncated) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", "msg_fake_" + Long.toHexString(System.nanoTime()));
+        body.put("type", "message");
+        body.put("role", "assistant");
+        body.put("model", request.path("model").asText());
+        body.put("content", List.of(block));
+        body.put("stop_reason", truncated ? "max_tokens" : "tool_use".equals(block.get("type")) ? "tool_use" : "end_turn");
+        body.put("usage", usage);
+        return body;
+    }
+
+    private Map<String, Object> error(String type, String message) {
+        return Map.of("type", "error", "error", Map.of("type", type, "message", message));
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("content-type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) return;
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.career.assistant.infrastructure.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightAiPortTest {
+
+    @Test
+    void 동시_동일요청은_한번만_호출하고_결과를_공유() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        SingleFlightAiPort port = new SingleFlightAiPort(new StubPort(() -> {
+            calls.incrementAndGet();
+            await(release);
+            return "analysis";
+        }));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> port.generate("sys", "회사 분석"));
+            waitUntil(() -> port.inFlightCount() == 1);
+            Future<String> second = executor.submit(() -> port.generate("sys", "회사 분석"));
+            Future<String> third = executor.submit(() -> port.generate("sys", "회사 분석"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("analysis");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("analysis");
+            assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("analysis");
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(port.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 프롬프트가_다르면_각각_호출() {
+        AtomicInteger calls = new AtomicInteger();
+        SingleFlightAiPort port = new SingleFlightAiPort(new StubPort(() -> "r" + calls.incrementAndGet()));
+
+        port.generate("sys", "A");
+        port.generate("sys", "B");
+        port.generate("sys", "A");
+
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 실패도_대기중인_호출에_전파되고_키가_정리됨() {
+        SingleFlightAiPort port = new SingleFlightAiPort(new StubPort(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertThatThrownBy(() -> port.generate("prompt")).hasMessage("boom");
+        assertThat(port.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private record StubPort(Supplier<String> response) implements AiPort {
+        @Override
+        public String generate(String prompt) {
+            return response.get();
+        }
+
+        @Override
+        public String getModelName() {
+            return "stub";
+        }
+    }
+}